@@ -0,0 +1,71 @@
+package com.feedhanjum.back_end.core.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 실행기 설정 그대로 I/O 대기가 있는 핸들러 작업을 처리할 때 스레드 풀 모드와 가상 스레드 모드의 처리 시간 비교.
+ * 작업 하나는 DB/SMTP/HTTP 호출을 흉내 내 {@link #IO_LATENCY_MILLIS}ms 동안 대기한다.
+ * 결과(ms/op)는 {@link #TASKS}건의 이벤트를 모두 처리하는 데 걸린 시간이다.
+ * <p>
+ * virtual 모드는 Java 21 이상에서만 실행된다: ./gradlew jmh -PjavaVersion=21
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncExecutorBenchmark {
+    private static final int TASKS = 500;
+    private static final long IO_LATENCY_MILLIS = 20;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    private AsyncTaskExecutor executor;
+
+    @Setup
+    public void setup() throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("spring.threads.virtual.enabled", String.valueOf(mode.equals("virtual")))));
+        EventConfig eventConfig = new EventConfig(new AsyncExecutorProperty(), new SimpleMeterRegistry(), environment);
+        executor = eventConfig.notificationExecutor();
+        if (executor instanceof InitializingBean initializingBean) {
+            initializingBean.afterPropertiesSet();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (executor instanceof DisposableBean disposableBean) {
+            disposableBean.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Benchmark
+    public void handleEvents() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(IO_LATENCY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+    }
+}
@@ -0,0 +1,74 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import nl.martijndwars.webpush.Encoding;
+import nl.martijndwars.webpush.Notification;
+import nl.martijndwars.webpush.PushService;
+import nl.martijndwars.webpush.Subscription;
+import nl.martijndwars.webpush.Utils;
+import org.bouncycastle.jce.ECNamedCurveTable;
+import org.bouncycastle.jce.interfaces.ECPublicKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웹 푸시 메시지 한 건을 전송 가능한 요청으로 만드는 데 드는 CPU 비용 비교.
+ * 결과(us/op) x 1000 이 푸시 1000건당 소요 시간(ms)이다.
+ * <p>
+ * library: 전송마다 VAPID 키 쌍 검증 + JWT 서명 + 암호화
+ * cached: 서명된 Authorization 헤더 재사용 + 스레드별 키 생성기 재사용 + 암호화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebPushEncryptionBenchmark {
+    private static final String PAYLOAD = """
+            {"id":1,"receiverId":2,"createdAt":"2025-01-10T12:00:00","type":"FEEDBACK_RECEIVE","senderName":"홍길동","teamName":"피드한줌","teamId":3}""";
+
+    private Subscription subscription;
+    private PushService pushService;
+    private VapidWebPushSender webPushSender;
+
+    @Setup
+    public void setup() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        KeyPair vapidKeyPair = generateKeyPair();
+        KeyPair userKeyPair = generateKeyPair();
+        byte[] auth = new byte[16];
+        new SecureRandom().nextBytes(auth);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        subscription = new Subscription("https://fcm.googleapis.com/fcm/send/benchmark",
+                new Subscription.Keys(encoder.encodeToString(Utils.encode((ECPublicKey) userKeyPair.getPublic())), encoder.encodeToString(auth)));
+
+        pushService = new PushService()
+                .setPublicKey(vapidKeyPair.getPublic())
+                .setPrivateKey(vapidKeyPair.getPrivate())
+                .setSubject("mailto:benchmark@feedhanjum.com");
+        webPushSender = new VapidWebPushSender(null, vapidKeyPair.getPublic(), vapidKeyPair.getPrivate(),
+                "mailto:benchmark@feedhanjum.com", Clock.systemUTC());
+    }
+
+    @Benchmark
+    public Object library() throws Exception {
+        return pushService.preparePost(new Notification(subscription, PAYLOAD), Encoding.AESGCM);
+    }
+
+    @Benchmark
+    public Object cached() throws Exception {
+        return webPushSender.prepare(subscription, PAYLOAD);
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("ECDH", BouncyCastleProvider.PROVIDER_NAME);
+        keyPairGenerator.initialize(ECNamedCurveTable.getParameterSpec("prime256v1"));
+        return keyPairGenerator.generateKeyPair();
+    }
+}
@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.auth.service;
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,7 @@ public class EmailService {
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
 
-    @Async
+    @Async(EventConfig.MAIL_EXECUTOR)
     public void sendCodeToMail(String to, String title, String type, String code, Integer expireMinutes) {
         try {
             log.info("email to: {}, type:{}, code:{}", to, type, code);
@@ -0,0 +1,79 @@
+package com.feedhanjum.back_end.core.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 핸들러 계열별 비동기 실행기 설정.
+ * 큐가 가득 차면 제출한 스레드에서 직접 실행(CALLER_RUNS)해 제출하는 쪽의 속도를 늦춘다.
+ * 거절(ABORT)하면 relay가 다시 전달해도 같은 실행기에서 거절되며, 그때마다 발행 기록의 시도 횟수만 늘어
+ * 최대 시도 횟수를 넘긴 이벤트는 더 이상 전달되지 않으므로 이벤트 리스너 실행기에는 쓰지 않는다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 스레드 풀과 큐 대신 동시 실행 수만 제한한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async.executor")
+public class AsyncExecutorProperty {
+    // @Async에 실행기 이름을 지정하지 않은 작업
+    private Pool common = new Pool(2, 4, 100, RejectionPolicy.CALLER_RUNS, 64);
+
+    // 인앱 알림 생성
+    private Pool notification = new Pool(4, 8, 1000, RejectionPolicy.CALLER_RUNS, 64);
+
+    // 웹 푸시 전송
+    private Pool push = new Pool(4, 8, 1000, RejectionPolicy.CALLER_RUNS, 256);
+
+    // 인증 메일 전송
+    private Pool mail = new Pool(2, 4, 200, RejectionPolicy.CALLER_RUNS, 32);
+
+    // 일정 멤버 동기화, 일정 종료 후 피드백 요청 생성
+    private Pool schedule = new Pool(2, 4, 500, RejectionPolicy.CALLER_RUNS, 64);
+
+    // 피드백 요청 정리, 피드백 개선 횟수 보정
+    private Pool feedback = new Pool(2, 4, 500, RejectionPolicy.CALLER_RUNS, 64);
+
+    // 같은 집합(팀 등)의 이벤트를 순서대로 처리하는 핸들러
+    private Ordered ordered = new Ordered();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Pool {
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+        private RejectionPolicy rejectionPolicy;
+        // 가상 스레드 모드에서 동시에 실행할 최대 작업 수. 초과한 작업은 제출한 스레드가 대기한다.
+        private int virtualConcurrencyLimit;
+
+        public Pool(int corePoolSize, int maxPoolSize, int queueCapacity, RejectionPolicy rejectionPolicy, int virtualConcurrencyLimit) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+            this.rejectionPolicy = rejectionPolicy;
+            this.virtualConcurrencyLimit = virtualConcurrencyLimit;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Ordered {
+        // 샤드 수. 같은 키의 작업은 항상 같은 샤드에서 하나씩 실행된다.
+        private int shards = 8;
+        // 샤드별 대기 작업 수 한도. 가득 차면 작업을 거절하고 relay가 다시 전달한다.
+        private int queueCapacity = 500;
+    }
+
+    public enum RejectionPolicy {
+        // 작업을 거절하고 예외를 던진다. 거절된 이벤트 리스너 실행은 발행 기록의 시도 횟수만 소진한다.
+        ABORT,
+        // 작업을 제출한 스레드에서 직접 실행한다
+        CALLER_RUNS,
+        // 가장 오래 대기한 작업을 버리고 새 작업을 넣는다. 버린 작업은 알 수 없으므로 유실된다.
+        DISCARD_OLDEST
+    }
+}
@@ -1,9 +1,136 @@
 package com.feedhanjum.back_end.core.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 이벤트 핸들러 계열별로 분리된 비동기 실행기.
+ * 한 계열에 작업이 몰려도(예: 일정 생성 알림 fan-out) 다른 계열(예: 인증 메일)의 처리가 밀리지 않도록
+ * 계열마다 스레드 수와 큐 크기를 제한한다. 핸들러는 {@code @Async(EventConfig.XXX_EXECUTOR)}로 실행기를 지정한다.
+ * <p>
+ * spring.threads.virtual.enabled=true (Java 21 이상) 이면 계열마다 가상 스레드로 작업을 실행하고 동시 실행 수만 제한한다.
+ * 이때 Tomcat 요청 처리와 {@code @Scheduled} 작업도 Spring Boot 설정에 의해 가상 스레드에서 실행된다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
-public class EventConfig {
+@RequiredArgsConstructor
+public class EventConfig implements AsyncConfigurer {
+    public static final String COMMON_EXECUTOR = "taskExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String PUSH_EXECUTOR = "pushExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String SCHEDULE_EXECUTOR = "scheduleExecutor";
+    public static final String FEEDBACK_EXECUTOR = "feedbackExecutor";
+
+    private final AsyncExecutorProperty asyncExecutorProperty;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Bean(name = COMMON_EXECUTOR)
+    public AsyncTaskExecutor taskExecutor() {
+        return createExecutor("common", asyncExecutorProperty.getCommon());
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public AsyncTaskExecutor notificationExecutor() {
+        return createExecutor("notification", asyncExecutorProperty.getNotification());
+    }
+
+    @Bean(name = PUSH_EXECUTOR)
+    public AsyncTaskExecutor pushExecutor() {
+        return createExecutor("push", asyncExecutorProperty.getPush());
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public AsyncTaskExecutor mailExecutor() {
+        return createExecutor("mail", asyncExecutorProperty.getMail());
+    }
+
+    @Bean(name = SCHEDULE_EXECUTOR)
+    public AsyncTaskExecutor scheduleExecutor() {
+        return createExecutor("schedule", asyncExecutorProperty.getSchedule());
+    }
+
+    @Bean(name = FEEDBACK_EXECUTOR)
+    public AsyncTaskExecutor feedbackExecutor() {
+        return createExecutor("feedback", asyncExecutorProperty.getFeedback());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("Async task failed. method: {}", method, e);
+    }
+
+    private AsyncTaskExecutor createExecutor(String name, AsyncExecutorProperty.Pool pool) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return createVirtualThreadExecutor(name, pool);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectedExecutionHandler(rejectionHandler(name, pool.getRejectionPolicy()));
+        executor.setTaskDecorator(new MonitoredTaskDecorator(name, meterRegistry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        Gauge.builder("executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("name", name)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    // 가상 스레드는 생성 비용이 작아 풀을 두지 않는다. 동시 실행 한도를 넘으면 제출한 스레드가 자리가 날 때까지 대기한다.
+    private AsyncTaskExecutor createVirtualThreadExecutor(String name, AsyncExecutorProperty.Pool pool) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(pool.getVirtualConcurrencyLimit());
+        executor.setTaskDecorator(new MonitoredTaskDecorator(name, meterRegistry));
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    private RejectedExecutionHandler rejectionHandler(String name, AsyncExecutorProperty.RejectionPolicy policy) {
+        RejectedExecutionHandler delegate = switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+        Counter rejected = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+        return (runnable, threadPoolExecutor) -> {
+            rejected.increment();
+            log.warn("Async task rejected. executor: {}, policy: {}, queued: {}", name, policy, threadPoolExecutor.getQueue().size());
+            delegate.rejectedExecution(runnable, threadPoolExecutor);
+        };
+    }
 }
@@ -0,0 +1,61 @@
+package com.feedhanjum.back_end.core.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업을 제출한 스레드의 MDC(요청/추적 정보)를 실행 스레드로 전달하고,
+ * 큐 대기 시간, 실행 시간, 실행 중인 작업 수를 실행기별로 기록한다.
+ */
+public class MonitoredTaskDecorator implements TaskDecorator {
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public MonitoredTaskDecorator(String executorName, MeterRegistry meterRegistry) {
+        this.waitTimer = Timer.builder("executor.task.wait")
+                .tag("name", executorName)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("executor.task.execution")
+                .tag("name", executorName)
+                .register(meterRegistry);
+        Gauge.builder("executor.active", active, AtomicInteger::get)
+                .tag("name", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+            active.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                active.decrementAndGet();
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+}
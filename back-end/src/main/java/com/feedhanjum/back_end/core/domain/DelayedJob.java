@@ -0,0 +1,51 @@
+package com.feedhanjum.back_end.core.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정해진 시각에 한 번 실행할 작업. 대상(일정 등)마다 작업 종류별로 하나만 존재하며,
+ * 대상의 시각이 바뀌면 실행 시각을 갱신하고 대상이 삭제되면 함께 삭제한다.
+ * 실행할 노드는 행을 삭제하는 데 성공한 노드 하나로 정해진다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_delayed_job_type_target", columnNames = {"jobType", "targetId"}),
+        indexes = @Index(name = "idx_delayed_job_due_at", columnList = "dueAt")
+)
+public class DelayedJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "delayed_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobType jobType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private LocalDateTime dueAt;
+
+    public enum JobType {
+        SCHEDULE_END
+    }
+
+    public DelayedJob(JobType jobType, Long targetId, LocalDateTime dueAt) {
+        this.jobType = jobType;
+        this.targetId = targetId;
+        this.dueAt = dueAt;
+    }
+
+    public void reschedule(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.feedhanjum.back_end.core.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 이벤트 발행 기록(outbox). 이벤트를 처리할 리스너마다 하나씩 발행 트랜잭션 안에서 저장되며,
+ * 리스너 처리가 끝나면 완료 처리된다. 완료되지 않은 기록은 relay가 다시 전달한다. (at-least-once)
+ * <p>
+ * 중복 전달은 기록 단위로 막는다. DB를 변경하는 리스너는 변경과 같은 트랜잭션에서
+ * {@link com.feedhanjum.back_end.core.event.EventPublicationTracker#markProcessed()}로 이 기록을 완료 처리하고,
+ * 이미 완료된 기록이면 처리를 건너뛴다. 캐시 무효화, 삭제처럼 여러 번 실행해도 결과가 같은 리스너는 확인하지 않는다.
+ * idempotencyKey는 로그에서 기록을 추적하기 위한 값이다.
+ * <p>
+ * 최대 시도 횟수까지 실패한 기록은 deadAt을 남기고 더 이상 전달하지 않으며, 보관 기간이 지나면 삭제된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_event_publication_completed_at_created_at", columnList = "completedAt, createdAt"))
+public class EventPublication {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_publication_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String listenerId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    // 처리 중인 리스너가 점유하고 있는 기한. 기한이 지나면 relay가 다시 전달할 수 있음
+    private LocalDateTime lockedUntil;
+
+    private int attempts;
+
+    // 최대 시도 횟수까지 처리하지 못해 재전달을 멈춘 시각
+    private LocalDateTime deadAt;
+
+    public EventPublication(String listenerId, String eventType, String payload, LocalDateTime createdAt) {
+        this.idempotencyKey = UUID.randomUUID().toString();
+        this.listenerId = listenerId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.attempts = 0;
+    }
+
+    public void lock(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+        this.attempts++;
+    }
+
+    public void markDead(LocalDateTime deadAt) {
+        this.deadAt = deadAt;
+        this.lockedUntil = null;
+    }
+}
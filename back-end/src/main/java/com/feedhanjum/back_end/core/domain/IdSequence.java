@@ -0,0 +1,14 @@
+package com.feedhanjum.back_end.core.domain;
+
+/**
+ * 대량으로 저장하는 엔티티의 ID 발급 설정.
+ * IDENTITY 전략은 INSERT 후에야 ID를 알 수 있어 JDBC 배치가 꺼지므로, ID 테이블에서 ALLOCATION_SIZE개씩 미리 받아 쓴다.
+ * MySQL은 시퀀스가 없어 테이블(@TableGenerator)을 사용하고, 테이블 값은 다음에 발급할 ID의 시작 값이다(pooled-lo).
+ */
+public final class IdSequence {
+    public static final String TABLE = "id_sequence";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+}
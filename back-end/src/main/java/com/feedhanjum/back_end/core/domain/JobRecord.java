@@ -20,8 +20,17 @@ public class JobRecord {
 
     private LocalDateTime previousFinishTime;
 
+    // 작업을 실행할 권한(리스)을 가진 노드와 리스 만료 시각. 리더가 실행할 때마다 연장한다.
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime lastSucceededAt;
+
     public enum JobName {
-        SCHEDULE, UNREAD_NOTIFICATIONS
+        // 종료된 일정을 주기적으로 찾던 이전 방식의 기록. 일정 종료 작업으로 옮길 때만 읽고 지운다.
+        SCHEDULE,
+        UNREAD_NOTIFICATIONS, EVENT_PUBLICATION_CLEANUP, SCHEDULE_SERIES_MATERIALIZE
     }
 
     public JobRecord(JobName name) {
@@ -36,4 +45,26 @@ public class JobRecord {
     public void updatePreviousFinishTime(LocalDateTime newFinishTime) {
         this.previousFinishTime = newFinishTime;
     }
+
+    public boolean isLeasableBy(String owner, LocalDateTime now) {
+        return leaseOwner == null || leaseOwner.equals(owner) || leaseUntil == null || leaseUntil.isBefore(now);
+    }
+
+    public boolean isLeasedBy(String owner) {
+        return owner.equals(leaseOwner);
+    }
+
+    /**
+     * @return 다른 노드의 리스를 넘겨받았으면 true
+     */
+    public boolean lease(String owner, LocalDateTime leaseUntil) {
+        boolean handover = leaseOwner != null && !leaseOwner.equals(owner);
+        this.leaseOwner = owner;
+        this.leaseUntil = leaseUntil;
+        return handover;
+    }
+
+    public void recordSuccess(LocalDateTime succeededAt) {
+        this.lastSucceededAt = succeededAt;
+    }
 }
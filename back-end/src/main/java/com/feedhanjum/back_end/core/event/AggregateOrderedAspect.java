@@ -0,0 +1,51 @@
+package com.feedhanjum.back_end.core.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link OrderedByAggregate} 메서드를 집합 키별 순서 보장 실행기에서 실행한다.
+ * 발행 기록 처리({@link EventPublicationAspect})가 실행기 스레드 안에서 이루어지도록 가장 바깥에서 동작한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AggregateOrderedAspect {
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final DefaultParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final AggregateOrderedExecutor executor;
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(orderedByAggregate)")
+    public Object submit(ProceedingJoinPoint joinPoint, OrderedByAggregate orderedByAggregate) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object key = expressions.computeIfAbsent(orderedByAggregate.key(), PARSER::parseExpression)
+                .getValue(new MethodBasedEvaluationContext(null, method, joinPoint.getArgs(), PARAMETER_NAME_DISCOVERER));
+        executor.execute(key, () -> {
+            try {
+                joinPoint.proceed();
+            } catch (Throwable e) {
+                log.error("Ordered event listener failed. method: {}, key: {}", method, key, e);
+            }
+        });
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.feedhanjum.back_end.core.event;
+
+import com.feedhanjum.back_end.core.config.AsyncExecutorProperty;
+import com.feedhanjum.back_end.core.config.MonitoredTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * 키별로 작업 순서를 보장하는 실행기.
+ * 키의 해시로 샤드를 고르고, 샤드마다 스레드 하나가 큐에 쌓인 작업을 순서대로 실행한다.
+ * 작업은 주로 커밋을 마친 요청 스레드가 제출하므로, 샤드 큐가 가득 차면 기다리지 않고 바로 거절한다.
+ * 다른 스레드에서 대신 실행하면 순서가 깨지므로 호출자 실행도 하지 않는다. 거절된 작업의 발행 기록은 relay가 다시 전달한다.
+ */
+@Slf4j
+@Component
+public class AggregateOrderedExecutor implements DisposableBean {
+    private static final String NAME = "ordered";
+
+    private final List<ThreadPoolExecutor> shards = new ArrayList<>();
+    private final MonitoredTaskDecorator taskDecorator;
+    private final Counter rejectedCounter;
+
+    public AggregateOrderedExecutor(AsyncExecutorProperty asyncExecutorProperty, MeterRegistry meterRegistry) {
+        AsyncExecutorProperty.Ordered property = asyncExecutorProperty.getOrdered();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(NAME + "-");
+        for (int i = 0; i < property.getShards(); i++) {
+            ThreadPoolExecutor shard = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(property.getQueueCapacity()), threadFactory);
+            shards.add(shard);
+            Gauge.builder("executor.queued", shard, executor -> executor.getQueue().size())
+                    .tag("name", NAME)
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        // 대기 시간(executor.task.wait)이 같은 키의 앞선 이벤트 때문에 밀린 처리 지연이다
+        this.taskDecorator = new MonitoredTaskDecorator(NAME, meterRegistry);
+        this.rejectedCounter = Counter.builder("executor.rejected")
+                .tag("name", NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key 키가 null 인 작업은 모두 같은 샤드에서 실행된다
+     * @throws RejectedExecutionException 샤드 큐가 가득 찬 경우
+     */
+    public void execute(Object key, Runnable task) {
+        ThreadPoolExecutor shard = shards.get(Math.floorMod(Objects.hashCode(key), shards.size()));
+        if (shard.isShutdown() || !shard.getQueue().offer(taskDecorator.decorate(task))) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("순서 보장 실행기의 큐가 가득 찼습니다. key: " + key);
+        }
+        // 큐에 직접 넣었으므로 작업 스레드가 아직 없으면 시작시킨다
+        shard.prestartCoreThread();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        shards.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor shard : shards) {
+            if (!shard.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Ordered executor shard did not terminate. remaining: {}", shard.getQueue().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.feedhanjum.back_end.core.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 애플리케이션의 이벤트 리스너 메서드 목록.
+ * 이벤트 발행 시 리스너별 발행 기록을 남기고, relay가 특정 리스너에만 이벤트를 다시 전달할 때 사용한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class EventListenerRegistry implements SmartInitializingSingleton {
+    private static final String BASE_PACKAGE = "com.feedhanjum.back_end";
+
+    private final ApplicationContext applicationContext;
+
+    private final Map<String, Listener> listeners = new HashMap<>();
+    private final Map<Class<?>, List<Listener>> listenersByEventType = new ConcurrentHashMap<>();
+
+    public record Listener(String id, String beanName, Method method, Class<?> eventType) {
+    }
+
+    public static String listenerId(Class<?> targetClass, Method method) {
+        return targetClass.getName() + "#" + method.getName();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> targetClass = AopUtils.isCglibProxyClass(beanType) ? beanType.getSuperclass() : beanType;
+            if (!targetClass.getName().startsWith(BASE_PACKAGE)) {
+                continue;
+            }
+            Map<Method, EventListener> methods = MethodIntrospector.selectMethods(targetClass,
+                    (MethodIntrospector.MetadataLookup<EventListener>) method -> AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class));
+            methods.keySet().stream()
+                    .filter(method -> method.getParameterCount() == 1)
+                    .forEach(method -> {
+                        Listener listener = new Listener(listenerId(targetClass, method), beanName, method, method.getParameterTypes()[0]);
+                        listeners.put(listener.id(), listener);
+                    });
+        }
+    }
+
+    public List<Listener> getListeners(Class<?> eventType) {
+        return listenersByEventType.computeIfAbsent(eventType, type -> listeners.values().stream()
+                .filter(listener -> listener.eventType().isAssignableFrom(type))
+                .toList());
+    }
+
+    public Optional<Listener> getListener(String listenerId) {
+        return Optional.ofNullable(listeners.get(listenerId));
+    }
+
+    public Object getBean(Listener listener) {
+        return applicationContext.getBean(listener.beanName());
+    }
+}
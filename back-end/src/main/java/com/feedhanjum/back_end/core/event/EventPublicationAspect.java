@@ -0,0 +1,59 @@
+package com.feedhanjum.back_end.core.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 리스너 실행 전후로 발행 기록을 점유하고 완료 처리한다.
+ * {@code @Async} 리스너의 경우 비동기 스레드 안에서 실행되므로, 실제 처리가 끝난 뒤에만 완료로 기록된다.
+ * 리스너 실행 중에는 처리 중인 발행 기록을 {@link EventPublicationTracker#markProcessed()}로 완료 처리할 수 있다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class EventPublicationAspect {
+    private final EventPublicationTracker tracker;
+
+    @Around("within(com.feedhanjum.back_end..*) && " +
+            "(@annotation(org.springframework.context.event.EventListener) || " +
+            "@annotation(org.springframework.transaction.event.TransactionalEventListener))")
+    public Object handle(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        if (args.length != 1) {
+            return joinPoint.proceed();
+        }
+        Object event = args[0];
+        String listenerId = EventListenerRegistry.listenerId(
+                AopUtils.getTargetClass(joinPoint.getTarget()), ((MethodSignature) joinPoint.getSignature()).getMethod());
+
+        EventPublicationTracker.Claim claim = tracker.claim(event, listenerId);
+        if (!claim.acquired()) {
+            log.info("Event already handled or in progress. listener: {}, publication: {}", listenerId, claim.publicationId());
+            return null;
+        }
+        if (claim.publicationId() == null) {
+            return joinPoint.proceed();
+        }
+
+        Object result;
+        // 리스너 안에서 발행한 이벤트의 리스너가 같은 스레드에서 실행될 수 있으므로 이전 값을 되돌린다
+        Long previous = tracker.enter(claim.publicationId());
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            tracker.fail(event, listenerId, claim.publicationId(), e);
+            throw e;
+        } finally {
+            tracker.restoreCurrent(previous);
+        }
+        tracker.complete(event, listenerId, claim.publicationId());
+        return result;
+    }
+}
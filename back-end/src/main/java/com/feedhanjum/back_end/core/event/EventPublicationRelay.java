@@ -0,0 +1,129 @@
+package com.feedhanjum.back_end.core.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedhanjum.back_end.core.domain.EventPublication;
+import com.feedhanjum.back_end.core.repository.EventPublicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 시간이 지나도 완료되지 않은 발행 기록을 해당 리스너에 다시 전달한다. (at-least-once)
+ * 리스너는 발행 기록 단위로 점유 후 처리하므로, 같은 기록이 동시에 두 번 처리되지는 않는다.
+ * 최대 시도 횟수까지 처리하지 못한 기록은 재전달을 멈추고, 원인을 확인할 수 있도록 완료된 기록보다 오래 보관한다.
+ */
+@Slf4j
+@Component
+public class EventPublicationRelay {
+    // 메모리로 전달된 이벤트가 처리될 때까지 기다리는 시간
+    private static final Duration STALE_AFTER = Duration.ofMinutes(1);
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final Duration DEAD_RETENTION = Duration.ofDays(30);
+    private static final int BATCH_SIZE = 100;
+
+    private final EventPublicationRepository publicationRepository;
+    private final EventListenerRegistry listenerRegistry;
+    private final EventPublicationTracker tracker;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper mapper;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    public EventPublicationRelay(EventPublicationRepository publicationRepository,
+                                 EventListenerRegistry listenerRegistry,
+                                 EventPublicationTracker tracker,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper mapper,
+                                 MeterRegistry meterRegistry,
+                                 Clock clock) {
+        this.publicationRepository = publicationRepository;
+        this.listenerRegistry = listenerRegistry;
+        this.tracker = tracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mapper = mapper;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        meterRegistry.gauge("event.publication.pending", pending);
+        meterRegistry.gauge("event.publication.dead.pending", dead);
+    }
+
+    public void resubmitStalePublications() {
+        List<EventPublication> publications = transactionTemplate.execute(status -> claimStalePublications());
+        if (publications != null) {
+            publications.forEach(this::resubmit);
+        }
+        pending.set(publicationRepository.countByCompletedAtIsNullAndDeadAtIsNull());
+        dead.set(publicationRepository.countByDeadAtIsNotNull());
+        tracker.expireTrackings();
+    }
+
+    public void deleteCompletedPublications() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int deleted = publicationRepository.deleteCompletedBefore(now.minus(RETENTION));
+        log.info("Completed event publications deleted: {}", deleted);
+        int deadDeleted = publicationRepository.deleteDeadBefore(now.minus(DEAD_RETENTION));
+        log.info("Dead event publications deleted: {}", deadDeleted);
+    }
+
+    private List<EventPublication> claimStalePublications() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<EventPublication> publications = publicationRepository.findStaleForUpdate(
+                now.minus(STALE_AFTER), now, PageRequest.of(0, BATCH_SIZE));
+        List<EventPublication> claimed = new ArrayList<>();
+        for (EventPublication publication : publications) {
+            // 리스너가 실패를 기록하지 못하고 점유 기한이 지난 경우(노드 종료 등)에도 시도 횟수를 넘기지 않도록 여기서 멈춤
+            if (publication.getAttempts() >= EventPublicationTracker.MAX_ATTEMPTS) {
+                tracker.recordDead(publication.getId(), publication.getListenerId(), publication.getAttempts());
+                publication.markDead(now);
+                continue;
+            }
+            publication.lock(now.plus(EventPublicationTracker.LOCK_DURATION));
+            claimed.add(publication);
+        }
+        return claimed;
+    }
+
+    private void resubmit(EventPublication publication) {
+        Optional<EventListenerRegistry.Listener> listener = listenerRegistry.getListener(publication.getListenerId());
+        if (listener.isEmpty()) {
+            // 리스너가 제거된 경우 더 이상 전달할 수 없으므로 완료 처리
+            log.warn("Event listener not found. publication: {}, listener: {}", publication.getIdempotencyKey(), publication.getListenerId());
+            publicationRepository.complete(publication.getId(), LocalDateTime.now(clock));
+            return;
+        }
+        Object event;
+        try {
+            event = mapper.readValue(publication.getPayload(), Class.forName(publication.getEventType()));
+        } catch (IOException | ClassNotFoundException e) {
+            log.warn("Failed to read event publication {}", publication.getIdempotencyKey(), e);
+            tracker.release(publication.getId(), publication.getListenerId(), publication.getAttempts());
+            return;
+        }
+        tracker.track(event, Map.of(publication.getListenerId(), publication.getId()), publication.getCreatedAt(), true);
+        meterRegistry.counter("event.publication.resubmitted", "listener", publication.getListenerId()).increment();
+        log.info("Resubmit event publication {} to {} (attempt {})", publication.getIdempotencyKey(), publication.getListenerId(), publication.getAttempts());
+        try {
+            ReflectionUtils.invokeMethod(listener.get().method(), listenerRegistry.getBean(listener.get()), event);
+        } catch (RuntimeException e) {
+            // 리스너 실패는 EventPublicationAspect에서 기록되고 재시도됨
+            log.debug("Resubmitted event listener failed. publication: {}", publication.getIdempotencyKey(), e);
+        }
+    }
+}
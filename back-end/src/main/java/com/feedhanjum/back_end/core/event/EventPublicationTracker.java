@@ -0,0 +1,211 @@
+package com.feedhanjum.back_end.core.event;
+
+import com.feedhanjum.back_end.core.domain.EventPublication;
+import com.feedhanjum.back_end.core.repository.EventPublicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 메모리로 전달 중인 이벤트 인스턴스와 리스너별 발행 기록을 연결한다.
+ * 리스너는 처리 전에 기록을 점유하고, 처리 후 완료 처리하므로 같은 기록이 중복으로 처리되지 않는다.
+ * <p>
+ * AFTER_COMMIT 리스너는 발행 트랜잭션이 커밋된 뒤(afterCompletion)에 실행되어, 그 트랜잭션에 참여해서는 기록을 갱신할 수 없다.
+ * 그래서 점유/완료/해제는 발행 트랜잭션이 진행 중일 때(커밋 전 리스너)만 함께 커밋되도록 참여하고, 그 외에는 새 트랜잭션에서 실행한다.
+ */
+@Slf4j
+@Component
+public class EventPublicationTracker {
+    // 리스너가 처리 중인 기록을 relay가 다시 가져가지 않도록 점유하는 시간
+    static final Duration LOCK_DURATION = Duration.ofMinutes(10);
+    // 이 횟수까지 처리하지 못한 기록은 더 이상 전달하지 않음
+    static final int MAX_ATTEMPTS = 10;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+    // 발행 트랜잭션이 롤백되어 리스너가 실행되지 않은 이벤트의 추적 정보를 정리하는 기준
+    private static final Duration TRACKING_EXPIRE = Duration.ofMinutes(30);
+
+    private final EventPublicationRepository publicationRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final Map<EventKey, Tracking> trackings = new ConcurrentHashMap<>();
+    // 현재 스레드의 리스너가 처리 중인 발행 기록 ID
+    private final ThreadLocal<Long> currentPublicationId = new ThreadLocal<>();
+
+    public EventPublicationTracker(EventPublicationRepository publicationRepository, PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry, Clock clock) {
+        this.publicationRepository = publicationRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        meterRegistry.gauge("event.publication.tracking", trackings, Map::size);
+    }
+
+    /**
+     * @param publicationIds 리스너 ID별 발행 기록 ID
+     * @param locked         relay가 이미 기록을 점유한 상태로 전달하는 경우 true
+     */
+    public void track(Object event, Map<String, Long> publicationIds, LocalDateTime createdAt, boolean locked) {
+        trackings.put(new EventKey(event), new Tracking(new ConcurrentHashMap<>(publicationIds), createdAt, locked, LocalDateTime.now(clock)));
+    }
+
+    /**
+     * 리스너 처리 전에 호출해 발행 기록을 점유한다.
+     * 이미 완료되었거나 다른 곳(relay 등)에서 처리 중인 기록이면 점유에 실패한다.
+     */
+    public Claim claim(Object event, String listenerId) {
+        Tracking tracking = trackings.get(new EventKey(event));
+        Long publicationId = tracking == null ? null : tracking.publicationIds().get(listenerId);
+        if (publicationId == null) {
+            return Claim.UNTRACKED;
+        }
+        if (tracking.locked()) {
+            return new Claim(publicationId, true);
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (inTransaction(() -> publicationRepository.lock(publicationId, now, now.plus(LOCK_DURATION))) == 0) {
+            finish(event, tracking, listenerId);
+            return new Claim(publicationId, false);
+        }
+        return new Claim(publicationId, true);
+    }
+
+    /**
+     * 리스너가 처리 중인 발행 기록을 호출한 트랜잭션 안에서 완료 처리한다.
+     * 리스너의 DB 변경과 완료 기록이 함께 커밋되므로, 변경을 반영한 뒤 완료 기록 전에 실패해 다시 전달되더라도
+     * 같은 변경을 두 번 반영하지 않는다. DB 변경을 하는 리스너는 변경 전에 호출하고 false면 처리를 건너뛴다.
+     *
+     * @return 처리해야 하면 true, 이미 완료된 기록이면 false. 발행 기록 없이 전달된 이벤트는 항상 true
+     * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우
+     */
+    public boolean markProcessed() {
+        Long publicationId = currentPublicationId.get();
+        if (publicationId == null) {
+            return true;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("발행 기록은 리스너의 트랜잭션 안에서 완료 처리해야 합니다.");
+        }
+        return publicationRepository.complete(publicationId, LocalDateTime.now(clock)) == 1;
+    }
+
+    /**
+     * @return 이전에 처리 중이던 발행 기록 ID. 리스너 실행 후 {@link #restoreCurrent(Long)}로 되돌린다.
+     */
+    Long enter(Long publicationId) {
+        Long previous = currentPublicationId.get();
+        currentPublicationId.set(publicationId);
+        return previous;
+    }
+
+    void restoreCurrent(Long previous) {
+        if (previous == null) {
+            currentPublicationId.remove();
+        } else {
+            currentPublicationId.set(previous);
+        }
+    }
+
+    public void complete(Object event, String listenerId, Long publicationId) {
+        inTransaction(() -> publicationRepository.complete(publicationId, LocalDateTime.now(clock)));
+        Tracking tracking = trackings.get(new EventKey(event));
+        if (tracking != null) {
+            meterRegistry.timer("event.publication.lag", "listener", listenerId)
+                    .record(Duration.between(tracking.createdAt(), LocalDateTime.now(clock)));
+            finish(event, tracking, listenerId);
+        }
+    }
+
+    public void fail(Object event, String listenerId, Long publicationId, Throwable e) {
+        log.warn("Event listener failed. listener: {}, publication: {}", listenerId, publicationId, e);
+        meterRegistry.counter("event.publication.failed", "listener", listenerId).increment();
+        inTransaction(() -> {
+            int attempts = publicationRepository.findById(publicationId).map(EventPublication::getAttempts).orElse(1);
+            return release(publicationId, listenerId, attempts);
+        });
+        Tracking tracking = trackings.get(new EventKey(event));
+        if (tracking != null) {
+            finish(event, tracking, listenerId);
+        }
+    }
+
+    /**
+     * 처리하지 못한 기록을 백오프 뒤에 다시 전달하도록 해제한다. 최대 시도 횟수에 도달했으면 재전달을 멈춘다.
+     */
+    int release(Long publicationId, String listenerId, int attempts) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (attempts >= MAX_ATTEMPTS) {
+            recordDead(publicationId, listenerId, attempts);
+            return publicationRepository.markDead(publicationId, now);
+        }
+        return publicationRepository.release(publicationId, now.plus(backoff(attempts)));
+    }
+
+    void recordDead(Long publicationId, String listenerId, int attempts) {
+        log.error("Event publication exhausted its attempts. listener: {}, publication: {}, attempts: {}", listenerId, publicationId, attempts);
+        meterRegistry.counter("event.publication.dead", "listener", listenerId).increment();
+    }
+
+    public void expireTrackings() {
+        LocalDateTime expireBefore = LocalDateTime.now(clock).minus(TRACKING_EXPIRE);
+        trackings.values().removeIf(tracking -> tracking.trackedAt().isBefore(expireBefore));
+    }
+
+    private void finish(Object event, Tracking tracking, String listenerId) {
+        tracking.publicationIds().remove(listenerId);
+        if (tracking.publicationIds().isEmpty()) {
+            trackings.remove(new EventKey(event));
+        }
+    }
+
+    // 동기화가 활성화되어 있으면 아직 커밋 전인 발행 트랜잭션 안이다. 발행 기록이 커밋 전이라 새 트랜잭션에서는 갱신할 수 없다.
+    private <T> T inTransaction(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return action.get();
+        }
+        return requiresNewTemplate.execute(status -> action.get());
+    }
+
+    static Duration backoff(int attempts) {
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 16));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    /**
+     * @param publicationId 추적 중이 아닌 이벤트면 null
+     * @param acquired      리스너가 처리를 진행해도 되는지 여부
+     */
+    public record Claim(Long publicationId, boolean acquired) {
+        static final Claim UNTRACKED = new Claim(null, true);
+    }
+
+    private record Tracking(Map<String, Long> publicationIds, LocalDateTime createdAt, boolean locked, LocalDateTime trackedAt) {
+    }
+
+    // 이벤트는 record라 내용이 같으면 equals가 같으므로 인스턴스 동일성으로 구분
+    private record EventKey(Object event) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EventKey other && other.event == event;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(event);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.feedhanjum.back_end.core.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이벤트 리스너를 비동기로 실행하되, 같은 집합 키(팀 ID 등)의 이벤트는 발행된 순서대로 하나씩 처리한다.
+ * 키가 다른 이벤트는 병렬로 처리된다. {@code @Async}와 함께 사용하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OrderedByAggregate {
+
+    /**
+     * 집합 키를 구하는 SpEL 식. 메서드 파라미터를 이름으로 참조한다. 예: {@code "#event.teamId()"}
+     */
+    String key();
+}
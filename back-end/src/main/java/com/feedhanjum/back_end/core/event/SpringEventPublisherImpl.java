@@ -1,18 +1,73 @@
 package com.feedhanjum.back_end.core.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedhanjum.back_end.core.domain.EventPublication;
+import com.feedhanjum.back_end.core.repository.EventPublicationRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트를 리스너별 발행 기록(outbox)으로 저장한 뒤 메모리로 전달한다.
+ * 발행 기록은 호출한 트랜잭션에 함께 저장되므로, 커밋 후 리스너 실행 전에 서버가 종료되더라도
+ * relay가 완료되지 않은 기록을 다시 전달한다.
+ */
+@Slf4j
 @Component
 public class SpringEventPublisherImpl implements EventPublisher {
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final EventPublicationRepository publicationRepository;
+    private final EventListenerRegistry listenerRegistry;
+    private final EventPublicationTracker tracker;
+    private final ObjectMapper mapper;
+    private final Clock clock;
 
-    public SpringEventPublisherImpl(ApplicationEventPublisher applicationEventPublisher) {
+    public SpringEventPublisherImpl(ApplicationEventPublisher applicationEventPublisher,
+                                    EventPublicationRepository publicationRepository,
+                                    EventListenerRegistry listenerRegistry,
+                                    EventPublicationTracker tracker,
+                                    ObjectMapper mapper,
+                                    Clock clock) {
         this.applicationEventPublisher = applicationEventPublisher;
+        this.publicationRepository = publicationRepository;
+        this.listenerRegistry = listenerRegistry;
+        this.tracker = tracker;
+        this.mapper = mapper;
+        this.clock = clock;
     }
 
     @Override
     public void publishEvent(Object event) {
+        List<EventListenerRegistry.Listener> listeners = listenerRegistry.getListeners(event.getClass());
+        if (!listeners.isEmpty()) {
+            record(event, listeners);
+        }
         applicationEventPublisher.publishEvent(event);
     }
+
+    private void record(Object event, List<EventListenerRegistry.Listener> listeners) {
+        String payload;
+        try {
+            payload = mapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            // 발행 기록 없이 메모리로만 전달
+            log.warn("Failed to serialize event {}", event, e);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, Long> publicationIds = new HashMap<>();
+        for (EventListenerRegistry.Listener listener : listeners) {
+            EventPublication publication = publicationRepository.save(
+                    new EventPublication(listener.id(), event.getClass().getName(), payload, now));
+            publicationIds.put(listener.id(), publication.getId());
+        }
+        tracker.track(event, publicationIds, now, false);
+    }
 }
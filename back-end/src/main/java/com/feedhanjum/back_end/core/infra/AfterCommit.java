@@ -0,0 +1,29 @@
+package com.feedhanjum.back_end.core.infra;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 진행 중인 트랜잭션이 커밋된 뒤에 작업을 실행한다.
+ * 캐시 무효화는 커밋 전에 실행하면 다른 요청이 커밋 전 값을 다시 캐싱할 수 있으므로 이 방법으로 실행한다.
+ */
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 밖에서 호출하면 바로 실행한다. 트랜잭션이 롤백되면 실행하지 않는다.
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
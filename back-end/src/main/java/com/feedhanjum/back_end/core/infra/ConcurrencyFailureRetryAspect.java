@@ -0,0 +1,54 @@
+package com.feedhanjum.back_end.core.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryOnConcurrencyFailure} 메서드를 동시성 충돌 시 다시 실행한다.
+ * 실패한 트랜잭션은 롤백된 뒤여야 다시 실행할 수 있으므로 트랜잭션 어드바이스보다 바깥에서 동작한다.
+ * 같은 순간에 충돌한 요청이 다시 부딪히지 않도록 시도 횟수에 비례한 무작위 시간만큼 기다린다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConcurrencyFailureRetryAspect {
+    private static final long BACKOFF_MILLIS = 20;
+
+    @Around("@annotation(retryOnConcurrencyFailure)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConcurrencyFailure retryOnConcurrencyFailure) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 바깥 트랜잭션이 이미 실패 상태이므로 안에서 다시 실행해도 소용이 없다
+            return joinPoint.proceed();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException e) {
+                if (!isRetryable(e, retryOnConcurrencyFailure) || attempt >= retryOnConcurrencyFailure.maxAttempts()) {
+                    throw e;
+                }
+                log.info("Retrying after concurrency failure. method: {}, attempt: {}, cause: {}",
+                        joinPoint.getSignature().toShortString(), attempt, e.getClass().getSimpleName());
+                Thread.sleep(ThreadLocalRandom.current().nextLong(1, BACKOFF_MILLIS * attempt + 1));
+            }
+        }
+    }
+
+    private boolean isRetryable(RuntimeException e, RetryOnConcurrencyFailure retryOnConcurrencyFailure) {
+        if (e instanceof ConcurrencyFailureException) {
+            return true;
+        }
+        return Arrays.stream(retryOnConcurrencyFailure.retryFor()).anyMatch(type -> type.isInstance(e));
+    }
+}
@@ -0,0 +1,26 @@
+package com.feedhanjum.back_end.core.infra;
+
+import com.feedhanjum.back_end.core.service.DelayedJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "delayed-job.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class DelayedJobScheduler {
+    private final DelayedJobService delayedJobService;
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void loadUpcomingJobs() {
+        delayedJobService.loadUpcomingJobs();
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void executeDueJobs() {
+        delayedJobService.executeDueJobs();
+    }
+}
@@ -0,0 +1,32 @@
+package com.feedhanjum.back_end.core.infra;
+
+import com.feedhanjum.back_end.core.domain.JobRecord;
+import com.feedhanjum.back_end.core.event.EventPublicationRelay;
+import com.feedhanjum.back_end.core.service.JobCoordinator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Component
+public class EventPublicationRelayScheduler {
+    private static final Duration CLEANUP_LEASE_DURATION = Duration.ofHours(1);
+
+    private final EventPublicationRelay eventPublicationRelay;
+    private final JobCoordinator jobCoordinator;
+
+    // 노드마다 실행해도 다른 노드가 가져간 기록은 건너뛰므로 리더를 정하지 않는다
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void resubmitStalePublications() {
+        eventPublicationRelay.resubmitStalePublications();
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void deleteCompletedPublications() {
+        jobCoordinator.runAsLeader(JobRecord.JobName.EVENT_PUBLICATION_CLEANUP, CLEANUP_LEASE_DURATION,
+                eventPublicationRelay::deleteCompletedPublications);
+    }
+}
@@ -0,0 +1,74 @@
+package com.feedhanjum.back_end.core.infra;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ID 테이블(id_sequence)의 다음 값을 각 엔티티 테이블의 최대 ID 다음으로 맞춘다.
+ * IDENTITY 전략으로 저장된 기존 행과 ID가 겹치지 않도록, 요청을 받거나 스케줄러가 돌기 전인 빈 초기화 단계에서 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IdSequenceInitializer implements InitializingBean {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (persister.getGenerator() instanceof TableGenerator generator
+                            && persister instanceof AbstractEntityPersister entityPersister) {
+                        // 단일 테이블 상속의 하위 엔티티는 같은 세그먼트와 테이블을 쓴다
+                        segments.putIfAbsent(generator.getSegmentValue(),
+                                new Segment(generator, entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]));
+                    }
+                });
+        segments.values().forEach(this::align);
+    }
+
+    private void align(Segment segment) {
+        TableGenerator generator = segment.generator();
+        long nextId = jdbcTemplate.queryForObject(
+                "select coalesce(max(" + segment.idColumn() + "), 0) from " + segment.table(), Long.class) + 1;
+        List<Long> nextValues = jdbcTemplate.queryForList(
+                "select " + generator.getValueColumnName() + " from " + generator.getTableName()
+                        + " where " + generator.getSegmentColumnName() + " = ?",
+                Long.class, generator.getSegmentValue());
+
+        if (nextValues.isEmpty()) {
+            try {
+                jdbcTemplate.update("insert into " + generator.getTableName()
+                                + " (" + generator.getSegmentColumnName() + ", " + generator.getValueColumnName() + ") values (?, ?)",
+                        generator.getSegmentValue(), nextId);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 등록함
+            }
+        }
+        int updated = jdbcTemplate.update("update " + generator.getTableName()
+                        + " set " + generator.getValueColumnName() + " = ?"
+                        + " where " + generator.getSegmentColumnName() + " = ? and " + generator.getValueColumnName() + " < ?",
+                nextId, generator.getSegmentValue(), nextId);
+        if (updated > 0) {
+            log.info("Aligned id sequence. segment: {}, next: {}", generator.getSegmentValue(), nextId);
+        }
+    }
+
+    private record Segment(TableGenerator generator, String table, String idColumn) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.feedhanjum.back_end.core.infra;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(버전 불일치)이나 교착 상태로 트랜잭션이 실패하면 트랜잭션 전체를 정해진 횟수만큼 다시 실행한다.
+ * 트랜잭션을 시작하는 {@code @Transactional} 메서드에 함께 사용한다. 이미 트랜잭션 안에서 호출되면 재시도하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConcurrencyFailure {
+
+    /**
+     * 첫 시도를 포함한 최대 실행 횟수
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * 동시성 충돌 외에 다시 실행할 예외.
+     * 처음 저장하는 행이 동시에 저장되어 유니크 키가 충돌한 경우처럼, 다시 실행하면 다른 경로를 타는 경우에 지정한다.
+     * DataIntegrityViolationException처럼 다른 원인도 포함하는 예외 대신, 원인을 확인한 뒤 던지는 전용 예외를 지정한다.
+     */
+    Class<? extends RuntimeException>[] retryFor() default {};
+}
@@ -0,0 +1,116 @@
+package com.feedhanjum.back_end.core.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠.
+ * 가장 아래 단계는 tick 단위 슬롯 wheelSize개로 이루어지고, 범위를 넘는 항목은 tick x wheelSize 단위의 상위 단계에 들어간다.
+ * 시간이 흘러 상위 단계 슬롯의 시작 시각이 되면 그 슬롯의 항목을 아래 단계로 다시 배치한다.
+ * 추가와 만료 처리 모두 항목 수와 무관하게 O(1)이며, 항목은 실행 시각 이후 tick 이내에 만료된다.
+ */
+public class TimingWheel<T> {
+    private final Level<T> root;
+    private int size;
+
+    /**
+     * @param startMillis 시작 시각 (epoch millis)
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.root = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * @return 이미 실행 시각이 지나 휠에 넣지 않은 경우 false
+     */
+    public synchronized boolean add(T item, long dueMillis) {
+        if (!root.add(new Entry<>(item, dueMillis))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * 휠의 시각을 now까지 진행하고, 실행 시각이 지난 항목을 실행 시각 순서와 관계없이 반환한다.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        while (root.currentTime + root.tickMillis <= nowMillis) {
+            for (Entry<T> entry : root.drain(root.currentTime)) {
+                expired.add(entry.item());
+            }
+            root.currentTime += root.tickMillis;
+            cascade(root.overflow, root.currentTime, expired);
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // 상위 단계부터 현재 시각에 시작하는 슬롯을 비워 아래 단계로 다시 배치한다.
+    // 다시 배치할 때 모든 단계의 범위가 현재 시각 기준이어야 하므로 시각을 먼저 옮긴다.
+    private void cascade(Level<T> level, long time, List<T> expired) {
+        if (level == null || time % level.tickMillis != 0) {
+            return;
+        }
+        level.currentTime = time;
+        cascade(level.overflow, time, expired);
+        for (Entry<T> entry : level.drain(time)) {
+            if (!root.add(entry)) {
+                expired.add(entry.item());
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long dueMillis) {
+    }
+
+    private static class Level<T> {
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final List<List<Entry<T>>> buckets;
+        private long currentTime;
+        private Level<T> overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            this.currentTime = startMillis - (startMillis % tickMillis);
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.dueMillis() < currentTime) {
+                return false;
+            }
+            if (entry.dueMillis() < currentTime + interval) {
+                buckets.get(slot(entry.dueMillis())).add(entry);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private List<Entry<T>> drain(long time) {
+            int slot = slot(time);
+            List<Entry<T>> bucket = buckets.get(slot);
+            buckets.set(slot, new ArrayList<>());
+            return bucket;
+        }
+
+        private int slot(long time) {
+            return (int) ((time / tickMillis) % wheelSize);
+        }
+    }
+}
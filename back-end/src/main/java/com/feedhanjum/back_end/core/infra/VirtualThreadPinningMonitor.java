@@ -0,0 +1,75 @@
+package com.feedhanjum.back_end.core.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드에서 가상 스레드가 캐리어 스레드에 고정(pinning)되는 상황을 JFR 이벤트로 감지해 지표로 남긴다.
+ * synchronized 블록 안에서의 I/O 대기처럼 고정이 길어지면 캐리어 스레드가 모두 묶여 처리량이 떨어진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // 이보다 짧은 고정은 기록하지 않는다
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("캐리어 스레드에 고정된 가상 스레드 수")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+        if (log.isWarnEnabled()) {
+            log.warn("Virtual thread pinned. duration: {}ms, at: {}", event.getDuration().toMillis(), topFrame(event));
+        }
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "#" + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,35 @@
+package com.feedhanjum.back_end.core.repository;
+
+import com.feedhanjum.back_end.core.domain.DelayedJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DelayedJobRepository extends JpaRepository<DelayedJob, Long> {
+
+    Optional<DelayedJob> findByJobTypeAndTargetId(DelayedJob.JobType jobType, Long targetId);
+
+    @Query("select j from DelayedJob j where j.dueAt < :dueBefore order by j.dueAt")
+    List<DelayedJob> findDueBefore(@Param("dueBefore") LocalDateTime dueBefore, Pageable pageable);
+
+    /**
+     * 실행 시각이 된 작업을 삭제해 실행 권한을 얻는다. 실행 시각이 미뤄졌거나 다른 노드가 먼저 삭제했다면 0을 반환한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("delete from DelayedJob j where j.id = :id and j.dueAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update DelayedJob j set j.dueAt = :dueAt where j.id = :id")
+    int postpone(@Param("id") Long id, @Param("dueAt") LocalDateTime dueAt);
+
+    @Modifying
+    @Query("delete from DelayedJob j where j.jobType = :jobType and j.targetId = :targetId")
+    int deleteByJobTypeAndTargetId(@Param("jobType") DelayedJob.JobType jobType, @Param("targetId") Long targetId);
+}
@@ -0,0 +1,79 @@
+package com.feedhanjum.back_end.core.repository;
+
+import com.feedhanjum.back_end.core.domain.EventPublication;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventPublicationRepository extends JpaRepository<EventPublication, Long> {
+
+    // 다른 노드가 잠근 행은 건너뛰어(SKIP LOCKED) 같은 기록을 중복으로 가져가지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select p from EventPublication p
+            where p.completedAt is null
+              and p.createdAt < :staleBefore
+              and (p.lockedUntil is null or p.lockedUntil < :now)
+              and p.deadAt is null
+            order by p.createdAt
+            """)
+    List<EventPublication> findStaleForUpdate(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+    /**
+     * 리스너가 처리를 시작하기 전에 기록을 점유한다.
+     *
+     * @return 점유에 성공하면 1, 이미 완료되었거나 다른 곳에서 처리 중이면 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update EventPublication p set p.lockedUntil = :lockedUntil, p.attempts = p.attempts + 1
+            where p.id = :id
+              and p.completedAt is null
+              and (p.lockedUntil is null or p.lockedUntil < :now)
+            """)
+    int lock(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * @return 완료 처리했으면 1, 이미 완료된 기록이면 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EventPublication p set p.completedAt = :completedAt, p.lockedUntil = null where p.id = :id and p.completedAt is null")
+    int complete(@Param("id") Long id, @Param("completedAt") LocalDateTime completedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EventPublication p set p.lockedUntil = :retryAt where p.id = :id and p.completedAt is null")
+    int release(@Param("id") Long id, @Param("retryAt") LocalDateTime retryAt);
+
+    /**
+     * 최대 시도 횟수까지 실패한 기록의 재전달을 멈춘다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EventPublication p set p.deadAt = :deadAt, p.lockedUntil = null where p.id = :id and p.completedAt is null")
+    int markDead(@Param("id") Long id, @Param("deadAt") LocalDateTime deadAt);
+
+    long countByCompletedAtIsNullAndDeadAtIsNull();
+
+    long countByDeadAtIsNotNull();
+
+    @Transactional
+    @Modifying
+    @Query("delete from EventPublication p where p.completedAt < :completedBefore")
+    int deleteCompletedBefore(@Param("completedBefore") LocalDateTime completedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EventPublication p where p.deadAt < :deadBefore")
+    int deleteDeadBefore(@Param("deadBefore") LocalDateTime deadBefore);
+}
@@ -1,7 +1,18 @@
 package com.feedhanjum.back_end.core.repository;
 
 import com.feedhanjum.back_end.core.domain.JobRecord;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface JobRecordRepository extends JpaRepository<JobRecord, JobRecord.JobName> {
-}
\ No newline at end of file
+
+    // 작업 기록을 읽고 갱신하는 동안 다른 노드가 같은 기록을 읽지 못하도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from JobRecord j where j.name = :name")
+    Optional<JobRecord> findByIdForUpdate(@Param("name") JobRecord.JobName name);
+}
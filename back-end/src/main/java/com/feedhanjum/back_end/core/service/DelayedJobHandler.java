@@ -0,0 +1,13 @@
+package com.feedhanjum.back_end.core.service;
+
+import com.feedhanjum.back_end.core.domain.DelayedJob;
+
+/**
+ * 실행 시각이 된 지연 작업을 처리한다. 작업 점유와 같은 트랜잭션에서 호출되며, 예외가 발생하면 작업은 나중에 다시 실행된다.
+ */
+public interface DelayedJobHandler {
+
+    DelayedJob.JobType getJobType();
+
+    void handle(Long targetId);
+}
@@ -0,0 +1,152 @@
+package com.feedhanjum.back_end.core.service;
+
+import com.feedhanjum.back_end.core.domain.DelayedJob;
+import com.feedhanjum.back_end.core.infra.TimingWheel;
+import com.feedhanjum.back_end.core.repository.DelayedJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정해진 시각에 한 번 실행할 작업을 관리한다.
+ * 작업은 DB에 저장해 재시작이나 장애에도 유실되지 않게 하고, 곧 실행할 작업만 메모리의 타이밍 휠에 올려 초 단위로 실행한다.
+ * 여러 노드가 같은 작업을 휠에 올려도 작업 행을 삭제하는 데 성공한 노드 하나만 실행한다.
+ */
+@Slf4j
+@Service
+public class DelayedJobService {
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final int WHEEL_SIZE = 60;
+    // 이 시간 안에 실행할 작업을 휠에 올린다. 적재 주기보다 충분히 길어야 한다.
+    private static final Duration LOAD_HORIZON = Duration.ofMinutes(2);
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final DelayedJobRepository delayedJobRepository;
+    private final Map<DelayedJob.JobType, DelayedJobHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final TimingWheel<WheelEntry> timingWheel;
+    // 휠에 올린 작업 ID와 실행 시각. 실행 시각이 바뀐 작업만 다시 올린다.
+    private final Map<Long, LocalDateTime> loadedJobs = new ConcurrentHashMap<>();
+    private final Timer lagTimer;
+    private final Counter failedCounter;
+
+    public DelayedJobService(DelayedJobRepository delayedJobRepository,
+                             List<DelayedJobHandler> handlers,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             Clock clock) {
+        this.delayedJobRepository = delayedJobRepository;
+        this.handlers = handlers.stream().collect(Collectors.toMap(DelayedJobHandler::getJobType, Function.identity()));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.timingWheel = new TimingWheel<>(TICK.toMillis(), WHEEL_SIZE, clock.millis());
+        this.lagTimer = meterRegistry.timer("delayed.job.lag");
+        this.failedCounter = meterRegistry.counter("delayed.job.failed");
+        meterRegistry.gauge("delayed.job.wheel.size", timingWheel, TimingWheel::size);
+    }
+
+    /**
+     * 작업을 등록한다. 같은 대상의 작업이 이미 있으면 실행 시각만 바꾼다.
+     */
+    @Transactional
+    public void schedule(DelayedJob.JobType jobType, Long targetId, LocalDateTime dueAt) {
+        delayedJobRepository.findByJobTypeAndTargetId(jobType, targetId)
+                .ifPresentOrElse(
+                        job -> job.reschedule(dueAt),
+                        () -> delayedJobRepository.save(new DelayedJob(jobType, targetId, dueAt))
+                );
+    }
+
+    /**
+     * 같은 대상의 작업이 없을 때만 작업을 등록한다.
+     */
+    @Transactional
+    public void scheduleIfAbsent(DelayedJob.JobType jobType, Long targetId, LocalDateTime dueAt) {
+        if (delayedJobRepository.findByJobTypeAndTargetId(jobType, targetId).isEmpty()) {
+            delayedJobRepository.save(new DelayedJob(jobType, targetId, dueAt));
+        }
+    }
+
+    /**
+     * 작업을 취소한다. 이미 휠에 올라간 작업은 실행 시점에 점유에 실패해 실행되지 않는다.
+     */
+    @Transactional
+    public void cancel(DelayedJob.JobType jobType, Long targetId) {
+        delayedJobRepository.deleteByJobTypeAndTargetId(jobType, targetId);
+    }
+
+    /**
+     * 곧 실행할 작업을 DB에서 읽어 휠에 올린다. 실행 시각이 이미 지난 작업은 바로 실행한다.
+     */
+    public void loadUpcomingJobs() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<DelayedJob> jobs = delayedJobRepository.findDueBefore(now.plus(LOAD_HORIZON), PageRequest.of(0, LOAD_BATCH_SIZE));
+        for (DelayedJob job : jobs) {
+            if (job.getDueAt().equals(loadedJobs.put(job.getId(), job.getDueAt()))) {
+                continue;
+            }
+            WheelEntry entry = new WheelEntry(job.getId(), job.getJobType(), job.getTargetId(), job.getDueAt());
+            if (!timingWheel.add(entry, toEpochMillis(job.getDueAt()))) {
+                execute(entry);
+            }
+        }
+    }
+
+    /**
+     * 휠의 시각을 현재 시각으로 진행하고 실행 시각이 된 작업을 실행한다.
+     */
+    public void executeDueJobs() {
+        timingWheel.advance(clock.millis()).forEach(this::execute);
+    }
+
+    private void execute(WheelEntry entry) {
+        loadedJobs.remove(entry.jobId(), entry.dueAt());
+        DelayedJobHandler handler = handlers.get(entry.jobType());
+        if (handler == null) {
+            log.error("No handler for delayed job. type: {}", entry.jobType());
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            Boolean executed = transactionTemplate.execute(status -> {
+                // 실행 시각이 미뤄졌거나, 취소되었거나, 다른 노드가 먼저 실행한 작업은 건너뛴다
+                if (delayedJobRepository.claim(entry.jobId(), now) == 0) {
+                    return false;
+                }
+                handler.handle(entry.targetId());
+                return true;
+            });
+            if (Boolean.TRUE.equals(executed)) {
+                lagTimer.record(Duration.between(entry.dueAt(), now));
+            }
+        } catch (RuntimeException e) {
+            log.error("Delayed job failed. type: {}, target: {}", entry.jobType(), entry.targetId(), e);
+            failedCounter.increment();
+            transactionTemplate.executeWithoutResult(status -> delayedJobRepository.postpone(entry.jobId(), now.plus(RETRY_DELAY)));
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private record WheelEntry(Long jobId, DelayedJob.JobType jobType, Long targetId, LocalDateTime dueAt) {
+    }
+}
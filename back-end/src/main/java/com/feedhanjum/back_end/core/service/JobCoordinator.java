@@ -0,0 +1,117 @@
+package com.feedhanjum.back_end.core.service;
+
+import com.feedhanjum.back_end.core.domain.JobRecord;
+import com.feedhanjum.back_end.core.repository.JobRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 여러 노드에서 주기적으로 실행되는 작업을 한 노드(리더)만 실행하도록 조정한다.
+ * 작업 기록(JobRecord) 행을 잠근 상태에서 리스를 확인/연장하며, 리더가 멈춰 리스가 만료되면 다른 노드가 넘겨받는다.
+ * 리스 기간은 작업 주기보다 길어야 리더가 매 주기 리스를 연장할 수 있다.
+ */
+@Slf4j
+@Service
+public class JobCoordinator {
+    private final JobRecordRepository jobRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final String nodeId;
+
+    @Autowired
+    public JobCoordinator(JobRecordRepository jobRecordRepository, PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry, Clock clock) {
+        this(jobRecordRepository, transactionManager, meterRegistry, clock, hostName() + "-" + UUID.randomUUID());
+    }
+
+    JobCoordinator(JobRecordRepository jobRecordRepository, PlatformTransactionManager transactionManager,
+                   MeterRegistry meterRegistry, Clock clock, String nodeId) {
+        this.jobRecordRepository = jobRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 리스를 얻거나 연장한 경우에만 작업을 실행한다.
+     *
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runAsLeader(JobRecord.JobName jobName, Duration leaseDuration, Runnable job) {
+        Lease lease;
+        try {
+            lease = transactionTemplate.execute(status -> acquireLease(jobName, leaseDuration));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 작업 기록을 먼저 생성함. 다음 주기에 다시 시도한다.
+            return false;
+        }
+        if (lease == null || !lease.acquired()) {
+            return false;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        if (lease.previousSucceededAt() != null) {
+            meterRegistry.timer("job.lag", "job", jobName.name())
+                    .record(Duration.between(lease.previousSucceededAt(), startedAt));
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            job.run();
+            transactionTemplate.executeWithoutResult(status -> recordSuccess(jobName));
+            return true;
+        } catch (RuntimeException e) {
+            result = "failure";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("job.duration", "job", jobName.name(), "result", result));
+        }
+    }
+
+    private Lease acquireLease(JobRecord.JobName jobName, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        JobRecord jobRecord = jobRecordRepository.findByIdForUpdate(jobName)
+                .orElseGet(() -> jobRecordRepository.saveAndFlush(new JobRecord(jobName)));
+        if (!jobRecord.isLeasableBy(nodeId, now)) {
+            return Lease.NOT_ACQUIRED;
+        }
+        if (jobRecord.lease(nodeId, now.plus(leaseDuration))) {
+            log.info("Job lease handed over. job: {}, node: {}", jobName, nodeId);
+            meterRegistry.counter("job.lease.handover", "job", jobName.name()).increment();
+        }
+        return new Lease(true, jobRecord.getLastSucceededAt());
+    }
+
+    private void recordSuccess(JobRecord.JobName jobName) {
+        jobRecordRepository.findByIdForUpdate(jobName)
+                .filter(jobRecord -> jobRecord.isLeasedBy(nodeId))
+                .ifPresent(jobRecord -> jobRecord.recordSuccess(LocalDateTime.now(clock)));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    private record Lease(boolean acquired, LocalDateTime previousSucceededAt) {
+        static final Lease NOT_ACQUIRED = new Lease(false, null);
+    }
+}
@@ -1,7 +1,8 @@
 package com.feedhanjum.back_end.feedback.controller.dto.response;
 
-import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequest;
+import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequestSet;
 import com.feedhanjum.back_end.member.controller.dto.MemberResponse;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
 
 import java.time.LocalDateTime;
 
@@ -10,9 +11,9 @@ public record RegularFeedbackRequestForApiResponse(
         Long scheduleId,
         LocalDateTime createdAt
 ) {
-    public static RegularFeedbackRequestForApiResponse from(RegularFeedbackRequest request) {
-        return new RegularFeedbackRequestForApiResponse(new MemberResponse(request.getRequester()),
-                request.getScheduleMember().getSchedule().getId(), request.getCreatedAt());
+    public static RegularFeedbackRequestForApiResponse from(ScheduleMember requester, RegularFeedbackRequestSet requestSet) {
+        return new RegularFeedbackRequestForApiResponse(new MemberResponse(requester.getMember()),
+                requester.getSchedule().getId(), requestSet.getCreatedAt());
     }
 }
 
@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.feedback.domain;
 
+import com.feedhanjum.back_end.core.domain.IdSequence;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.team.domain.Team;
 import jakarta.persistence.*;
@@ -26,7 +27,8 @@ public class Feedback {
 
     @Id
     @Column(name = "feedback_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "feedback_id")
+    @TableGenerator(name = "feedback_id", table = IdSequence.TABLE, pkColumnValue = "feedback", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Enumerated(EnumType.STRING)
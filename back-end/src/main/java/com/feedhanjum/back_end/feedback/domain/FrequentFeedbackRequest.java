@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.feedback.domain;
 
+import com.feedhanjum.back_end.core.domain.IdSequence;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.team.domain.Team;
 import jakarta.persistence.*;
@@ -9,15 +10,23 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 팀에서 sender가 receiver에게 보낸 수시 피드백 요청. 같은 팀의 sender, receiver 사이에는 요청이 하나만 있다.
+ */
 @Entity
+@Table(name = "frequent_feedback_request",
+        uniqueConstraints = @UniqueConstraint(name = FrequentFeedbackRequest.UNIQUE_KEY, columnNames = {"team_id", "sender_id", "receiver_id"}),
+        indexes = @Index(name = "idx_frequent_feedback_request_team_id_receiver_id", columnList = "team_id, receiver_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class FrequentFeedbackRequest {
     public static final int MIN_REQUESTED_CONTENT_BYTE = 0;
     public static final int MAX_REQUESTED_CONTENT_BYTE = 400;
+    public static final String UNIQUE_KEY = "uk_frequent_feedback_request_team_sender_receiver";
     @Id
     @Column(name = "frequent_feedback_request_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "frequent_feedback_request_id")
+    @TableGenerator(name = "frequent_feedback_request_id", table = IdSequence.TABLE, pkColumnValue = "frequent_feedback_request", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private LocalDateTime createdAt;
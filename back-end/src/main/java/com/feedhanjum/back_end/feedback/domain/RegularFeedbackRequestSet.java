@@ -0,0 +1,97 @@
+package com.feedhanjum.back_end.feedback.domain;
+
+import com.feedhanjum.back_end.core.domain.IdSequence;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 한 일정에서 한 멤버(scheduleMember)가 처리해야 할 정기 피드백 요청 목록.
+ * 요청자는 일정 멤버를 schedule_member_id 순으로 정렬했을 때의 위치(position)로 나타내고, 남은 요청을 비트로 저장한다.
+ * 요청은 일정이 끝난 뒤에 만들어지고, 끝난 일정의 멤버는 바뀌지 않으므로 위치도 바뀌지 않는다.
+ */
+@Entity
+@Table(name = "regular_feedback_request_set")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class RegularFeedbackRequestSet {
+    @Id
+    @Column(name = "regular_feedback_request_set_id")
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "regular_feedback_request_set_id")
+    @TableGenerator(name = "regular_feedback_request_set_id", table = IdSequence.TABLE, pkColumnValue = "regular_feedback_request_set", allocationSize = IdSequence.ALLOCATION_SIZE)
+    private Long id;
+
+    private LocalDateTime createdAt;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_member_id", unique = true)
+    private ScheduleMember scheduleMember;
+
+    @Column(name = "requester_bits", length = 1024)
+    private byte[] requesterBits;
+
+    public RegularFeedbackRequestSet(LocalDateTime createdAt, ScheduleMember scheduleMember, BitSet requesters) {
+        this.createdAt = createdAt;
+        this.scheduleMember = scheduleMember;
+        this.requesterBits = requesters.toByteArray();
+    }
+
+    /**
+     * 자신을 제외한 모든 일정 멤버가 요청한 상태로 만든다.
+     *
+     * @param position    scheduleMember의 위치
+     * @param memberCount 일정 멤버 수
+     */
+    public static RegularFeedbackRequestSet ofAllExcept(LocalDateTime createdAt, ScheduleMember scheduleMember, int position, int memberCount) {
+        BitSet requesters = new BitSet(memberCount);
+        requesters.set(0, memberCount);
+        requesters.clear(position);
+        return new RegularFeedbackRequestSet(createdAt, scheduleMember, requesters);
+    }
+
+    public boolean isRequestedBy(int position) {
+        return requesters().get(position);
+    }
+
+    /**
+     * @return 해당 위치의 요청이 남아 있어 제거했으면 true
+     */
+    public boolean remove(int position) {
+        BitSet requesters = requesters();
+        if (!requesters.get(position)) {
+            return false;
+        }
+        requesters.clear(position);
+        this.requesterBits = requesters.toByteArray();
+        return true;
+    }
+
+    public int count() {
+        return requesters().cardinality();
+    }
+
+    public boolean isEmpty() {
+        return requesters().isEmpty();
+    }
+
+    /**
+     * @param orderedMembers schedule_member_id 순으로 정렬한 일정 멤버 목록
+     * @return 남은 요청의 요청자 목록
+     */
+    public List<ScheduleMember> getRequesters(List<ScheduleMember> orderedMembers) {
+        return requesters().stream()
+                .filter(position -> position < orderedMembers.size())
+                .mapToObj(orderedMembers::get)
+                .toList();
+    }
+
+    private BitSet requesters() {
+        return BitSet.valueOf(requesterBits);
+    }
+}
@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.feedback.domain;
 
+import com.feedhanjum.back_end.core.domain.IdSequence;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.team.domain.Team;
 import jakarta.persistence.*;
@@ -17,7 +18,8 @@ public class Retrospect {
     public static final int MAX_CONTENT_BYTE = 400;
     @Id
     @Column(name = "retrospect_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "retrospect_id")
+    @TableGenerator(name = "retrospect_id", table = IdSequence.TABLE, pkColumnValue = "retrospect", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private String title;
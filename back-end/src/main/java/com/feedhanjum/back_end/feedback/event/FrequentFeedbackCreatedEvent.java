@@ -1,4 +1,4 @@
 package com.feedhanjum.back_end.feedback.event;
 
-public record FrequentFeedbackCreatedEvent(Long feedbackId) {
+public record FrequentFeedbackCreatedEvent(Long feedbackId, Long teamId) {
 }
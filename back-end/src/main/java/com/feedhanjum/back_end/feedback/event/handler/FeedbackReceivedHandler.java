@@ -1,11 +1,13 @@
 package com.feedhanjum.back_end.feedback.event.handler;
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import com.feedhanjum.back_end.feedback.event.FeedbackReceivedEvent;
 import com.feedhanjum.back_end.feedback.service.FeedbackCounterService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
@@ -13,8 +15,8 @@ public class FeedbackReceivedHandler {
 
     private final FeedbackCounterService feedbackCounterService;
 
-    @Async
-    @EventListener
+    @Async(EventConfig.FEEDBACK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void on(FeedbackReceivedEvent event) {
         feedbackCounterService.incrementCounter(event.receiverId());
     }
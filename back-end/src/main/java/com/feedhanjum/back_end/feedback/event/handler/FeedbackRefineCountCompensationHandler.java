@@ -1,20 +1,22 @@
 package com.feedhanjum.back_end.feedback.event.handler;
 
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import com.feedhanjum.back_end.feedback.event.FeedbackRefineCountCompensationEvent;
 import com.feedhanjum.back_end.feedback.service.FeedbackRefineService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class FeedbackRefineCountCompensationHandler {
     private final FeedbackRefineService feedbackRefineService;
 
-    @Async
-    @EventListener
+    @Async(EventConfig.FEEDBACK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void on(FeedbackRefineCountCompensationEvent event) {
         feedbackRefineService.compensateRefineCount(event.callerId());
     }
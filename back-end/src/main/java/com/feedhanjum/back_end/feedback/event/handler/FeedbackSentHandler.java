@@ -1,11 +1,13 @@
 package com.feedhanjum.back_end.feedback.event.handler;
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import com.feedhanjum.back_end.feedback.event.FeedbackSentEvent;
 import com.feedhanjum.back_end.feedback.service.FeedbackRefineService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 
 @Component
@@ -14,8 +16,8 @@ public class FeedbackSentHandler {
 
     private final FeedbackRefineService feedbackRefineService;
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Async(EventConfig.FEEDBACK_EXECUTOR)
     public void on(FeedbackSentEvent event) {
         feedbackRefineService.resetRefineCount(event.senderId());
     }
@@ -1,9 +1,9 @@
 package com.feedhanjum.back_end.feedback.event.handler;
 
+import com.feedhanjum.back_end.core.event.OrderedByAggregate;
 import com.feedhanjum.back_end.feedback.event.FrequentFeedbackCreatedEvent;
 import com.feedhanjum.back_end.feedback.service.FeedbackService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -13,7 +13,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class FrequentFeedbackCreatedEventHandler {
     private final FeedbackService feedbackService;
 
-    @Async
+    @OrderedByAggregate(key = "#event.teamId()")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void deleteFrequentFeedbackRequest(FrequentFeedbackCreatedEvent event) {
         Long feedbackId = event.feedbackId();
@@ -1,11 +1,12 @@
 package com.feedhanjum.back_end.feedback.event.handler;
 
+import com.feedhanjum.back_end.core.event.OrderedByAggregate;
 import com.feedhanjum.back_end.feedback.service.FeedbackService;
 import com.feedhanjum.back_end.team.event.TeamMemberLeftEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
@@ -13,8 +14,8 @@ public class RemoveFeedbackRequestHandler {
 
     private final FeedbackService feedbackService;
 
-    @Async
-    @EventListener
+    @OrderedByAggregate(key = "#event.teamId()")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void on(TeamMemberLeftEvent event) {
         feedbackService.removeFeedbackRequest(event.memberId(), event.teamId());
     }
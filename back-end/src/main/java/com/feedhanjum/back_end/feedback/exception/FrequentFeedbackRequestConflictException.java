@@ -0,0 +1,8 @@
+package com.feedhanjum.back_end.feedback.exception;
+
+// 처음 보내는 수시 피드백 요청이 동시에 저장되어 (팀, sender, receiver) 유니크 키가 충돌한 경우 발생
+public class FrequentFeedbackRequestConflictException extends RuntimeException {
+    public FrequentFeedbackRequestConflictException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -14,6 +14,7 @@ public class FeedbackReportCreateScheduler {
     private final FeedbackCounterService feedbackCounterService;
     private final FeedbackService feedbackService;
 
+    // 카운터는 노드 메모리에 쌓이므로 리더만 실행하지 않고 노드마다 자신의 카운터를 처리한다
     @Scheduled(cron = "0 */5 * * * *")
     public void createFeedbackReport() {
         Map<Long, Long> feedbackCreatedCounter = feedbackCounterService.consumeAndClearCounters();
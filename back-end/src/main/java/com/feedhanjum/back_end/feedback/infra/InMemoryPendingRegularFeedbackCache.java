@@ -0,0 +1,40 @@
+package com.feedhanjum.back_end.feedback.infra;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 환경에서 Redis 대신 사용하는 정기 피드백 요청 여부 캐시
+ */
+@Component
+@Profile("test")
+public class InMemoryPendingRegularFeedbackCache implements PendingRegularFeedbackCache {
+    private final Map<Long, Map<Long, Boolean>> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Boolean> get(Long memberId, Long scheduleId) {
+        return Optional.ofNullable(cache.getOrDefault(memberId, Map.of()).get(scheduleId));
+    }
+
+    @Override
+    public void put(Long memberId, Long scheduleId, boolean pending) {
+        cache.computeIfAbsent(memberId, id -> new ConcurrentHashMap<>()).put(scheduleId, pending);
+    }
+
+    @Override
+    public void evict(Long memberId, Long scheduleId) {
+        Map<Long, Boolean> memberCache = cache.get(memberId);
+        if (memberCache != null) {
+            memberCache.remove(scheduleId);
+        }
+    }
+
+    @Override
+    public void evictMember(Long memberId) {
+        cache.remove(memberId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.feedhanjum.back_end.feedback.infra;
+
+import java.util.Optional;
+
+/**
+ * 멤버별, 일정별로 처리하지 않은 정기 피드백 요청이 있는지 여부 캐시
+ */
+public interface PendingRegularFeedbackCache {
+
+    Optional<Boolean> get(Long memberId, Long scheduleId);
+
+    void put(Long memberId, Long scheduleId, boolean pending);
+
+    void evict(Long memberId, Long scheduleId);
+
+    void evictMember(Long memberId);
+}
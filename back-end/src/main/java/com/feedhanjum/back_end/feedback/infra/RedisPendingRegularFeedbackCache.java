@@ -0,0 +1,46 @@
+package com.feedhanjum.back_end.feedback.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멤버마다 해시 하나에 일정 ID별 요청 여부("1"/"0")를 저장한다.
+ */
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisPendingRegularFeedbackCache implements PendingRegularFeedbackCache {
+    private static final String KEY_PREFIX = "pending_regular_feedback:";
+    // 요청 생성/처리 시 명시적으로 무효화하므로 TTL은 누락된 무효화에 대한 안전장치
+    private static final long EXPIRE_HOURS = 1;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<Boolean> get(Long memberId, Long scheduleId) {
+        Object value = redisTemplate.opsForHash().get(KEY_PREFIX + memberId, scheduleId.toString());
+        return Optional.ofNullable(value).map("1"::equals);
+    }
+
+    @Override
+    public void put(Long memberId, Long scheduleId, boolean pending) {
+        String key = KEY_PREFIX + memberId;
+        redisTemplate.opsForHash().put(key, scheduleId.toString(), pending ? "1" : "0");
+        redisTemplate.expire(key, EXPIRE_HOURS, TimeUnit.HOURS);
+    }
+
+    @Override
+    public void evict(Long memberId, Long scheduleId) {
+        redisTemplate.opsForHash().delete(KEY_PREFIX + memberId, scheduleId.toString());
+    }
+
+    @Override
+    public void evictMember(Long memberId) {
+        redisTemplate.delete(KEY_PREFIX + memberId);
+    }
+}
@@ -0,0 +1,134 @@
+package com.feedhanjum.back_end.feedback.infra;
+
+import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequestSet;
+import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestSetRepository;
+import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청자별 한 행(regular_feedback_request)으로 저장하던 정기 피드백 요청을 수신자별 비트 집합(regular_feedback_request_set)으로 옮긴다.
+ * 시작 시 이전 테이블에 남은 행이 있을 때만 실행하며, 옮긴 행은 지운다. 빈 테이블은 확인 후 직접 삭제한다.
+ */
+@Slf4j
+@Component
+public class RegularFeedbackRequestMigration implements ApplicationRunner {
+    private static final String LEGACY_TABLE = "regular_feedback_request";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RegularFeedbackRequestSetRepository regularFeedbackRequestSetRepository;
+    private final ScheduleMemberRepository scheduleMemberRepository;
+
+    public RegularFeedbackRequestMigration(JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           RegularFeedbackRequestSetRepository regularFeedbackRequestSetRepository,
+                                           ScheduleMemberRepository scheduleMemberRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.regularFeedbackRequestSetRepository = regularFeedbackRequestSetRepository;
+        this.scheduleMemberRepository = scheduleMemberRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!legacyTableExists()) {
+            return;
+        }
+        try {
+            Integer migrated = transactionTemplate.execute(status -> migrate());
+            if (migrated != null && migrated > 0) {
+                log.info("Migrated regular feedback requests. receivers: {}", migrated);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 옮김
+            log.info("Regular feedback requests already migrated by another node");
+        }
+    }
+
+    private int migrate() {
+        List<LegacyRequest> legacyRequests = jdbcTemplate.query("""
+                        select rfr.schedule_member_id, rfr.created_at, sm.schedule_id, requester.schedule_member_id as requester_schedule_member_id
+                        from regular_feedback_request rfr
+                        join schedule_member sm on sm.schedule_member_id = rfr.schedule_member_id
+                        join schedule_member requester on requester.schedule_id = sm.schedule_id and requester.member_id = rfr.requester_id
+                        """,
+                (rs, rowNum) -> new LegacyRequest(
+                        rs.getLong("schedule_member_id"),
+                        rs.getTimestamp("created_at"),
+                        rs.getLong("schedule_id"),
+                        rs.getLong("requester_schedule_member_id")));
+        if (legacyRequests.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Map<Long, Integer>> positionsBySchedule = new HashMap<>();
+        Map<Long, BitSet> requestersByReceiver = new HashMap<>();
+        Map<Long, LocalDateTime> createdAtByReceiver = new HashMap<>();
+        for (LegacyRequest request : legacyRequests) {
+            Map<Long, Integer> positions = positionsBySchedule.computeIfAbsent(request.scheduleId(), this::findPositions);
+            requestersByReceiver.computeIfAbsent(request.scheduleMemberId(), id -> new BitSet())
+                    .set(positions.get(request.requesterScheduleMemberId()));
+            if (request.createdAt() != null) {
+                createdAtByReceiver.merge(request.scheduleMemberId(), request.createdAt().toLocalDateTime(),
+                        (a, b) -> a.isBefore(b) ? a : b);
+            }
+        }
+
+        for (Map.Entry<Long, BitSet> entry : requestersByReceiver.entrySet()) {
+            regularFeedbackRequestSetRepository.save(new RegularFeedbackRequestSet(
+                    createdAtByReceiver.get(entry.getKey()),
+                    scheduleMemberRepository.getReferenceById(entry.getKey()),
+                    entry.getValue()));
+        }
+        regularFeedbackRequestSetRepository.flush();
+        jdbcTemplate.update("delete from regular_feedback_request");
+        return requestersByReceiver.size();
+    }
+
+    // schedule_member_id 순서의 위치
+    private Map<Long, Integer> findPositions(Long scheduleId) {
+        List<Long> scheduleMemberIds = jdbcTemplate.queryForList(
+                "select schedule_member_id from schedule_member where schedule_id = ? order by schedule_member_id",
+                Long.class, scheduleId);
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int position = 0; position < scheduleMemberIds.size(); position++) {
+            positions.put(scheduleMemberIds.get(position), position);
+        }
+        return positions;
+    }
+
+    private boolean legacyTableExists() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String tableName : List.of(LEGACY_TABLE, LEGACY_TABLE.toUpperCase())) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, tableName, new String[]{"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private record LegacyRequest(Long scheduleMemberId, Timestamp createdAt, Long scheduleId, Long requesterScheduleMemberId) {
+    }
+}
@@ -5,7 +5,29 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+
 public interface FrequentFeedbackRequestRepository extends JpaRepository<FrequentFeedbackRequest, Long> {
+    /**
+     * (팀, sender, receiver) 요청이 이미 있으면 내용과 요청 시각을 바꾼다.
+     *
+     * @return 바뀐 요청 수. 요청이 없으면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update FrequentFeedbackRequest ffr " +
+            "set ffr.requestedContent = :requestedContent, ffr.createdAt = :createdAt " +
+            "where ffr.team.id = :teamId " +
+            "and ffr.sender.id = :senderId " +
+            "and ffr.receiver.id = :receiverId")
+    int updateRequestedContent(Long teamId, Long senderId, Long receiverId, String requestedContent, LocalDateTime createdAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from FrequentFeedbackRequest ffr " +
+            "where ffr.team.id = :teamId " +
+            "and ffr.sender.id = :senderId " +
+            "and ffr.receiver.id = :receiverId")
+    void deleteByTeamIdAndSenderIdAndReceiverId(Long teamId, Long senderId, Long receiverId);
+
     @Modifying(clearAutomatically = true)
     @Query("delete from FrequentFeedbackRequest ffr " +
             "where ffr.sender.id = :senderId " +
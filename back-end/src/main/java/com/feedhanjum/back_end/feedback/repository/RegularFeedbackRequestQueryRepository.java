@@ -1,36 +1,31 @@
 package com.feedhanjum.back_end.feedback.repository;
 
-import com.feedhanjum.back_end.feedback.domain.QRegularFeedbackRequest;
-import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequest;
+import com.feedhanjum.back_end.feedback.domain.QRegularFeedbackRequestSet;
+import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequestSet;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Repository
 public class RegularFeedbackRequestQueryRepository {
-    private final QRegularFeedbackRequest regularFeedbackRequest = QRegularFeedbackRequest.regularFeedbackRequest;
+    private final QRegularFeedbackRequestSet regularFeedbackRequestSet = QRegularFeedbackRequestSet.regularFeedbackRequestSet;
     private final JPAQueryFactory queryFactory;
 
 
-    public List<RegularFeedbackRequest> getRegularFeedbackRequests(Long receiverId, Long scheduleId) {
-        return queryFactory.selectFrom(regularFeedbackRequest)
-                .join(regularFeedbackRequest.requester).fetchJoin()
-                .join(regularFeedbackRequest.scheduleMember).fetchJoin()
-                .join(regularFeedbackRequest.scheduleMember.schedule).fetchJoin()
-                .where(regularFeedbackRequest.scheduleMember.member.id.eq(receiverId)
-                        .and(regularFeedbackRequest.scheduleMember.schedule.id.eq(scheduleId)))
-                .fetch();
+    public Optional<RegularFeedbackRequestSet> getRegularFeedbackRequestSet(Long receiverId, Long scheduleId) {
+        return Optional.ofNullable(queryFactory.selectFrom(regularFeedbackRequestSet)
+                .join(regularFeedbackRequestSet.scheduleMember).fetchJoin()
+                .where(regularFeedbackRequestSet.scheduleMember.member.id.eq(receiverId)
+                        .and(regularFeedbackRequestSet.scheduleMember.schedule.id.eq(scheduleId)))
+                .fetchOne());
     }
 
     public Long getRegularFeedbackRequestCount(Long receiverId, Long scheduleId) {
-        return queryFactory.select(regularFeedbackRequest.count())
-                .from(regularFeedbackRequest)
-                .join(regularFeedbackRequest.scheduleMember)
-                .where(regularFeedbackRequest.scheduleMember.member.id.eq(receiverId)
-                        .and(regularFeedbackRequest.scheduleMember.schedule.id.eq(scheduleId)))
-                .fetchOne();
+        return getRegularFeedbackRequestSet(receiverId, scheduleId)
+                .map(requestSet -> (long) requestSet.count())
+                .orElse(0L);
     }
 }
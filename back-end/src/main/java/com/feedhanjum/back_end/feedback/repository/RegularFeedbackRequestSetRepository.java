@@ -0,0 +1,43 @@
+package com.feedhanjum.back_end.feedback.repository;
+
+import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequestSet;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RegularFeedbackRequestSetRepository extends JpaRepository<RegularFeedbackRequestSet, Long> {
+
+    // 요청 비트를 읽고 다시 쓰는 동안 다른 요청이 같은 행을 덮어쓰지 못하도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select rs from RegularFeedbackRequestSet rs where rs.scheduleMember = :scheduleMember")
+    Optional<RegularFeedbackRequestSet> findByScheduleMemberForUpdate(ScheduleMember scheduleMember);
+
+    void deleteByScheduleMember(ScheduleMember scheduleMember);
+
+    /**
+     * 팀 일정 중 requester가 멤버인 일정의 정기 피드백 요청 목록.
+     * 여러 행을 잠그므로 교착 상태가 생기지 않도록 항상 ID 순으로 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select rs from RegularFeedbackRequestSet rs " +
+            "join fetch rs.scheduleMember sm " +
+            "where sm.schedule.team.id = :teamId " +
+            "and sm.schedule.id in (select r.schedule.id from ScheduleMember r where r.member.id = :requesterId) " +
+            "order by rs.id")
+    List<RegularFeedbackRequestSet> findAllByRequesterIdAndTeamIdForUpdate(Long requesterId, Long teamId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RegularFeedbackRequestSet rs " +
+            "where rs.scheduleMember.id in (" +
+            "       select sm.id from ScheduleMember sm " +
+            "       where sm.member.id = :receiverId " +
+            "         and sm.schedule.team.id = :teamId" +
+            "  )")
+    void deleteAllByReceiverIdAndTeamId(Long receiverId, Long teamId);
+}
@@ -6,13 +6,14 @@ import com.feedhanjum.back_end.feedback.controller.dto.response.RegularFeedbackR
 import com.feedhanjum.back_end.feedback.domain.Feedback;
 import com.feedhanjum.back_end.feedback.domain.FeedbackReport;
 import com.feedhanjum.back_end.feedback.domain.FrequentFeedbackRequest;
-import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequest;
 import com.feedhanjum.back_end.feedback.repository.FeedbackQueryRepository;
 import com.feedhanjum.back_end.feedback.repository.FrequentFeedbackRequestQueryRepository;
 import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestQueryRepository;
 import com.feedhanjum.back_end.feedback.service.dto.ReceivedFeedbackDto;
 import com.feedhanjum.back_end.feedback.service.dto.SentFeedbackDto;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityNotFoundException;
@@ -34,6 +35,7 @@ public class FeedbackQueryService {
     private final TeamRepository teamRepository;
     private final FrequentFeedbackRequestQueryRepository frequentFeedbackRequestQueryRepository;
     private final RegularFeedbackRequestQueryRepository regularFeedbackRequestQueryRepository;
+    private final ScheduleMemberRepository scheduleMemberRepository;
 
     /**
      * @throws EntityNotFoundException  receiver나 team이 없을 때
@@ -87,8 +89,14 @@ public class FeedbackQueryService {
 
     @Transactional(readOnly = true)
     public List<RegularFeedbackRequestForApiResponse> getRegularFeedbackRequests(Long receiverId, Long scheduleId) {
-        List<RegularFeedbackRequest> requests = regularFeedbackRequestQueryRepository.getRegularFeedbackRequests(receiverId, scheduleId);
-        return requests.stream().map(RegularFeedbackRequestForApiResponse::from).toList();
+        return regularFeedbackRequestQueryRepository.getRegularFeedbackRequestSet(receiverId, scheduleId)
+                .map(requestSet -> {
+                    List<ScheduleMember> scheduleMembers = scheduleMemberRepository.findAllByScheduleIdOrderById(scheduleId);
+                    return requestSet.getRequesters(scheduleMembers).stream()
+                            .map(requester -> RegularFeedbackRequestForApiResponse.from(requester, requestSet))
+                            .toList();
+                })
+                .orElse(List.of());
     }
 
 
@@ -1,13 +1,16 @@
 package com.feedhanjum.back_end.feedback.service;
 
+import com.feedhanjum.back_end.core.event.EventPublicationTracker;
 import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.core.infra.RetryOnConcurrencyFailure;
 import com.feedhanjum.back_end.feedback.domain.*;
 import com.feedhanjum.back_end.feedback.event.*;
+import com.feedhanjum.back_end.feedback.exception.FrequentFeedbackRequestConflictException;
 import com.feedhanjum.back_end.feedback.exception.NoRegularFeedbackRequestException;
 import com.feedhanjum.back_end.feedback.repository.FeedbackQueryRepository;
 import com.feedhanjum.back_end.feedback.repository.FeedbackRepository;
 import com.feedhanjum.back_end.feedback.repository.FrequentFeedbackRequestRepository;
-import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestRepository;
+import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestSetRepository;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.schedule.domain.Schedule;
@@ -19,15 +22,16 @@ import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.event.FrequentFeedbackRequestedEvent;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.TeamMembershipService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @RequiredArgsConstructor
 @Service
@@ -37,10 +41,13 @@ public class FeedbackService {
     private final ScheduleRepository scheduleRepository;
     private final ScheduleMemberRepository scheduleMemberRepository;
     private final FeedbackRepository feedbackRepository;
-    private final RegularFeedbackRequestRepository regularFeedbackRequestRepository;
+    private final RegularFeedbackRequestSetRepository regularFeedbackRequestSetRepository;
     private final EventPublisher eventPublisher;
+    private final EventPublicationTracker eventPublicationTracker;
     private final FeedbackQueryRepository feedbackQueryRepository;
     private final FrequentFeedbackRequestRepository frequentFeedbackRequestRepository;
+    private final PendingRegularFeedbackService pendingRegularFeedbackService;
+    private final TeamMembershipService teamMembershipService;
 
     /**
      * @throws EntityNotFoundException  sender id, receiver id, team id에 해당하는 엔티티가 없을 경우
@@ -62,7 +69,7 @@ public class FeedbackService {
                 .subjectiveFeedback(subjectiveFeedback)
                 .build();
         feedbackRepository.save(feedback);
-        eventPublisher.publishEvent(new FrequentFeedbackCreatedEvent(feedback.getId()));
+        eventPublisher.publishEvent(new FrequentFeedbackCreatedEvent(feedback.getId(), teamId));
         eventPublisher.publishEvent(new FeedbackReceivedEvent(receiverId));
         eventPublisher.publishEvent(new FeedbackSentEvent(senderId));
         return feedback;
@@ -70,15 +77,36 @@ public class FeedbackService {
     }
 
     /**
-     * @throws EntityNotFoundException sender id, receiver id, team id에 해당하는 엔티티가 없을 경우, receiver나 sender가 team에 속해있지 않을 경우
+     * 같은 팀에서 receiver에게 이미 보낸 요청이 있으면 그 요청의 내용을 바꾸고, 없으면 새로 저장한다.
+     * 처음 보내는 요청이 동시에 저장되면 (팀, sender, receiver) 유니크 키 때문에 하나만 커밋되고,
+     * 나머지는 새 트랜잭션에서 다시 실행해 먼저 저장된 요청의 내용을 바꾼다.
+     * 실패한 flush 이후에는 트랜잭션을 이어갈 수 없으므로 같은 트랜잭션에서 내용 변경으로 넘어가지 않는다.
+     * 다른 제약 조건 위반은 다시 실행하지 않고 그대로 던진다.
+     *
+     * @throws EntityNotFoundException         sender id, receiver id, team id에 해당하는 엔티티가 없을 경우
+     * @throws TeamMembershipNotFoundException receiver나 sender가 team에 속해있지 않을 경우
      */
+    @RetryOnConcurrencyFailure(retryFor = FrequentFeedbackRequestConflictException.class)
     @Transactional
     public void requestFrequentFeedback(Long senderId, Long teamId, Long receiverId, String requestedContent) {
         Member sender = memberRepository.findById(senderId).orElseThrow(() -> new EntityNotFoundException("sender id에 해당하는 member가 없습니다."));
         Member receiver = memberRepository.findById(receiverId).orElseThrow(() -> new EntityNotFoundException("receiver id에 해당하는 member가 없습니다."));
         Team team = teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("team name에 해당하는 team이 없습니다."));
-
-        team.requestFeedback(sender, receiver, requestedContent);
+        teamMembershipService.validateTeamMember(senderId, teamId, "팀원이 아닙니다");
+        teamMembershipService.validateTeamMember(receiverId, teamId, "팀원이 아닙니다");
+
+        FrequentFeedbackRequest request = new FrequentFeedbackRequest(requestedContent, sender, team, receiver);
+        int updated = frequentFeedbackRequestRepository.updateRequestedContent(teamId, senderId, receiverId, requestedContent, request.getCreatedAt());
+        if (updated == 0) {
+            try {
+                frequentFeedbackRequestRepository.saveAndFlush(request);
+            } catch (DataIntegrityViolationException e) {
+                if (isFrequentFeedbackRequestKeyViolation(e)) {
+                    throw new FrequentFeedbackRequestConflictException(e);
+                }
+                throw e;
+            }
+        }
 
         eventPublisher.publishEvent(new FrequentFeedbackRequestedEvent(senderId, teamId, receiverId));
     }
@@ -102,8 +130,12 @@ public class FeedbackService {
 
 
         // 정기 피드백을 보내려면 정기 피드백 요청이 있어야 함
-        RegularFeedbackRequest regularFeedbackRequest = regularFeedbackRequestRepository.findByRequesterAndScheduleMember(receiver, senderScheduleMember)
+        RegularFeedbackRequestSet requestSet = regularFeedbackRequestSetRepository.findByScheduleMemberForUpdate(senderScheduleMember)
                 .orElseThrow(NoRegularFeedbackRequestException::new);
+        int receiverPosition = (int) scheduleMemberRepository.countByScheduleIdAndIdLessThan(scheduleId, receiverScheduleMember.getId());
+        if (!requestSet.isRequestedBy(receiverPosition)) {
+            throw new NoRegularFeedbackRequestException();
+        }
 
         Team team = schedule.getTeam();
 
@@ -117,7 +149,8 @@ public class FeedbackService {
                 .subjectiveFeedback(subjectiveFeedback)
                 .build();
         feedbackRepository.save(feedback);
-        regularFeedbackRequestRepository.delete(regularFeedbackRequest);
+        removeRegularFeedbackRequest(requestSet, receiverPosition);
+        pendingRegularFeedbackService.evictAfterCommit(senderId, scheduleId);
         eventPublisher.publishEvent(new RegularFeedbackCreatedEvent(feedback.getId()));
         eventPublisher.publishEvent(new FeedbackReceivedEvent(receiverId));
         eventPublisher.publishEvent(new FeedbackSentEvent(senderId));
@@ -155,21 +188,25 @@ public class FeedbackService {
      */
     @Transactional
     public void createRegularFeedbackRequests(Long scheduleId) {
+        // 요청 생성 후 완료 기록 전에 실패해 이벤트가 다시 전달되어도 요청을 중복으로 만들지 않는다
+        if (!eventPublicationTracker.markProcessed()) {
+            return;
+        }
         Schedule schedule = scheduleRepository.findByIdWithMembers(scheduleId).orElseThrow(() -> new EntityNotFoundException("schedule id에 해당하는 schedule이 없습니다."));
 
-        List<RegularFeedbackRequest> requests = new ArrayList<>();
+        // 멤버별로 자신을 제외한 모든 멤버의 요청을 비트 하나씩으로 담는다
+        List<ScheduleMember> scheduleMembers = schedule.getScheduleMembers().stream()
+                .sorted(Comparator.comparing(ScheduleMember::getId))
+                .toList();
+        List<RegularFeedbackRequestSet> requestSets = new ArrayList<>();
         LocalDateTime requestTime = schedule.getEndTime();
-        for (ScheduleMember receiverMember : schedule.getScheduleMembers()) {
-            for (ScheduleMember senderMember : schedule.getScheduleMembers()) {
-                if (senderMember == receiverMember) {
-                    continue;
-                }
-                requests.add(new RegularFeedbackRequest(requestTime, receiverMember, senderMember.getMember()));
-            }
-            // batch insert를 사용하도록 설정 필요
+        for (int position = 0; position < scheduleMembers.size(); position++) {
+            ScheduleMember receiverMember = scheduleMembers.get(position);
+            requestSets.add(RegularFeedbackRequestSet.ofAllExcept(requestTime, receiverMember, position, scheduleMembers.size()));
             eventPublisher.publishEvent(new RegularFeedbackRequestCreatedEvent(receiverMember.getMember().getId(), scheduleId));
+            pendingRegularFeedbackService.evictAfterCommit(receiverMember.getMember().getId(), scheduleId);
         }
-        regularFeedbackRequestRepository.saveAll(requests);
+        regularFeedbackRequestSetRepository.saveAll(requestSets);
     }
 
     /**
@@ -180,21 +217,22 @@ public class FeedbackService {
         ScheduleMember scheduleMember = scheduleMemberRepository.findByMemberIdAndScheduleId(memberId, scheduleId)
                 .orElseThrow(() -> new EntityNotFoundException("member가 schedule에 속해있지 않습니다."));
 
-        regularFeedbackRequestRepository.deleteAllByScheduleMember(scheduleMember);
+        regularFeedbackRequestSetRepository.deleteByScheduleMember(scheduleMember);
+        pendingRegularFeedbackService.evictAfterCommit(memberId, scheduleId);
     }
 
     /**
      * 해당 팀에서 receiver에게 온 모든 수시 피드백 요청을 거절한다.
      * 수시 피드백 요청 배너닫기 클릭 시 사용
      *
-     * @throws EntityNotFoundException 팀에 속한 receiver가 없을 경우
+     * @throws EntityNotFoundException         팀이나 receiver가 존재하지 않을 경우
+     * @throws TeamMembershipNotFoundException receiver가 팀에 속해있지 않을 경우
      */
     @Transactional
     public void rejectAllFrequentFeedbackRequests(Long receiverId, Long teamId) {
-        Team team = teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("팀이 존재하지 않습니다"));
-        Member receiver = memberRepository.findById(receiverId).orElseThrow(() -> new EntityNotFoundException("멤버가 존재하지 않습니다"));
+        teamMembershipService.validateTeamMember(receiverId, teamId, "팀원이 아닙니다");
 
-        team.rejectFeedbackRequests(receiver);
+        frequentFeedbackRequestRepository.deleteAllByReceiverIdAndTeamId(receiverId, teamId);
     }
 
     /**
@@ -209,15 +247,14 @@ public class FeedbackService {
         Feedback feedback = feedbackRepository
                 .findById(feedbackId).orElseThrow(() -> new EntityNotFoundException("feedback id에 해당하는 feedback이 없습니다."));
 
-        Member feedbackReceiver = memberRepository.findById(feedback.getReceiver().getId())
-                .orElseThrow();
-        Member feedbackSender = memberRepository.findById(feedback.getSender().getId())
-                .orElseThrow();
-        Team team = teamRepository.findById(feedback.getTeam().getId())
-                .orElseThrow();
-
-        team.removeFeedbackRequest(feedbackReceiver, feedbackSender);
+        Long feedbackReceiverId = feedback.getReceiver().getId();
+        Long feedbackSenderId = feedback.getSender().getId();
+        Long teamId = feedback.getTeam().getId();
+        teamMembershipService.validateTeamMember(feedbackReceiverId, teamId, "팀원이 아닙니다");
+        teamMembershipService.validateTeamMember(feedbackSenderId, teamId, "팀원이 아닙니다");
 
+        // 피드백을 받은 사람이 피드백을 보낸 사람에게 했던 요청
+        frequentFeedbackRequestRepository.deleteByTeamIdAndSenderIdAndReceiverId(teamId, feedbackReceiverId, feedbackSenderId);
     }
 
     @Transactional(readOnly = true)
@@ -245,9 +282,44 @@ public class FeedbackService {
 
     @Transactional
     public void removeFeedbackRequest(Long memberId, Long teamId) {
-        regularFeedbackRequestRepository.deleteAllByRequesterIdAndTeamId(memberId, teamId);
+        removeRegularFeedbackRequestsByRequester(memberId, teamId);
         frequentFeedbackRequestRepository.deleteAllBySenderIdAndTeamId(memberId, teamId);
-        regularFeedbackRequestRepository.deleteAllByReceiverIdAndTeamId(memberId, teamId);
+        regularFeedbackRequestSetRepository.deleteAllByReceiverIdAndTeamId(memberId, teamId);
+        pendingRegularFeedbackService.evictMemberAfterCommit(memberId);
         frequentFeedbackRequestRepository.deleteAllByReceiverIdAndTeamId(memberId, teamId);
     }
+
+    // 팀 일정마다 requester의 위치에 해당하는 요청을 지운다
+    private void removeRegularFeedbackRequestsByRequester(Long requesterId, Long teamId) {
+        Map<Long, Integer> requesterPositions = new HashMap<>();
+        for (RegularFeedbackRequestSet requestSet : regularFeedbackRequestSetRepository.findAllByRequesterIdAndTeamIdForUpdate(requesterId, teamId)) {
+            Long scheduleId = requestSet.getScheduleMember().getSchedule().getId();
+            Integer position = requesterPositions.computeIfAbsent(scheduleId, id ->
+                    scheduleMemberRepository.findByMemberIdAndScheduleId(requesterId, id)
+                            .map(requester -> (int) scheduleMemberRepository.countByScheduleIdAndIdLessThan(id, requester.getId()))
+                            .orElse(null));
+            if (position != null) {
+                removeRegularFeedbackRequest(requestSet, position);
+                pendingRegularFeedbackService.evictAfterCommit(requestSet.getScheduleMember().getMember().getId(), scheduleId);
+            }
+        }
+    }
+
+    // 남은 요청이 없으면 행을 지운다
+    private void removeRegularFeedbackRequest(RegularFeedbackRequestSet requestSet, int requesterPosition) {
+        requestSet.remove(requesterPosition);
+        if (requestSet.isEmpty()) {
+            regularFeedbackRequestSetRepository.delete(requestSet);
+        }
+    }
+
+    // DB마다 제약 조건 이름에 스키마나 테이블 이름을 붙여 알려주므로 포함 여부로 확인
+    private boolean isFrequentFeedbackRequestKeyViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase().contains(FrequentFeedbackRequest.UNIQUE_KEY);
+            }
+        }
+        return false;
+    }
 }
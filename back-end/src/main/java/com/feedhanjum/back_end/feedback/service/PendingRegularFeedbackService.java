@@ -0,0 +1,38 @@
+package com.feedhanjum.back_end.feedback.service;
+
+import com.feedhanjum.back_end.core.infra.AfterCommit;
+import com.feedhanjum.back_end.feedback.infra.PendingRegularFeedbackCache;
+import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 홈 화면에서 매번 조회하는 "처리하지 않은 정기 피드백 요청이 있는지" 여부를 멤버별로 캐싱한다.
+ * 요청이 생성되거나 처리(전송, 건너뛰기, 팀 탈퇴로 삭제)되면 커밋 이후 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PendingRegularFeedbackService {
+    private final PendingRegularFeedbackCache pendingRegularFeedbackCache;
+    private final RegularFeedbackRequestQueryRepository regularFeedbackRequestQueryRepository;
+
+    public boolean hasPendingRequest(Long memberId, Long scheduleId) {
+        Optional<Boolean> cached = pendingRegularFeedbackCache.get(memberId, scheduleId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        boolean pending = regularFeedbackRequestQueryRepository.getRegularFeedbackRequestCount(memberId, scheduleId) > 0;
+        pendingRegularFeedbackCache.put(memberId, scheduleId, pending);
+        return pending;
+    }
+
+    public void evictAfterCommit(Long memberId, Long scheduleId) {
+        AfterCommit.run(() -> pendingRegularFeedbackCache.evict(memberId, scheduleId));
+    }
+
+    public void evictMemberAfterCommit(Long memberId) {
+        AfterCommit.run(() -> pendingRegularFeedbackCache.evictMember(memberId));
+    }
+}
@@ -0,0 +1,4 @@
+package com.feedhanjum.back_end.member.event;
+
+public record MemberNameChangedEvent(Long memberId) {
+}
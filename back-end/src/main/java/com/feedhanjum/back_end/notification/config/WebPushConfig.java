@@ -1,7 +1,11 @@
 package com.feedhanjum.back_end.notification.config;
 
+import com.feedhanjum.back_end.notification.infra.VapidWebPushSender;
+import com.feedhanjum.back_end.notification.infra.WebPushSender;
 import lombok.extern.slf4j.Slf4j;
-import nl.martijndwars.webpush.PushAsyncService;
+import nl.martijndwars.webpush.Utils;
+import org.asynchttpclient.AsyncHttpClient;
+import org.asynchttpclient.Dsl;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,18 +13,30 @@ import org.springframework.context.annotation.Profile;
 
 import java.security.GeneralSecurityException;
 import java.security.Security;
+import java.time.Clock;
 
 @Slf4j
 @Profile({"dev", "prod"})
 @Configuration
 public class WebPushConfig {
 
+    @Bean(destroyMethod = "close")
+    public AsyncHttpClient webPushHttpClient() {
+        return Dsl.asyncHttpClient();
+    }
+
     @Bean
-    public PushAsyncService pushAsyncService(WebPushProperty webPushProperty) throws GeneralSecurityException {
-        log.info("Initializing PushAsyncService. public key: {}, private key: {}, subject: {}",
-                webPushProperty.getVapid().getPublicKey(), webPushProperty.getVapid().getPrivateKey(), webPushProperty.getSubject());
-        Security.addProvider(new BouncyCastleProvider());
-        return new PushAsyncService(webPushProperty.getVapid().getPublicKey(), webPushProperty.getVapid().getPrivateKey(), webPushProperty.getSubject());
+    public WebPushSender webPushSender(WebPushProperty webPushProperty, AsyncHttpClient webPushHttpClient, Clock clock) throws GeneralSecurityException {
+        log.info("Initializing WebPushSender. public key: {}, subject: {}",
+                webPushProperty.getVapid().getPublicKey(), webPushProperty.getSubject());
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        return new VapidWebPushSender(webPushHttpClient,
+                Utils.loadPublicKey(webPushProperty.getVapid().getPublicKey()),
+                Utils.loadPrivateKey(webPushProperty.getVapid().getPrivateKey()),
+                webPushProperty.getSubject(),
+                clock);
     }
 
 }
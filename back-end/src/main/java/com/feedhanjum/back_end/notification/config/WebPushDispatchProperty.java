@@ -0,0 +1,27 @@
+package com.feedhanjum.back_end.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "webpush.dispatch")
+public class WebPushDispatchProperty {
+    // 푸시 서비스(origin)별 동시 전송 한도
+    private int maxInFlightPerOrigin = 32;
+
+    // 최초 전송을 포함한 최대 전송 시도 횟수
+    private int maxAttempts = 5;
+
+    private Duration initialBackoff = Duration.ofSeconds(10);
+
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    // 한 번에 재전송할 최대 메시지 수
+    private int retryBatchSize = 100;
+}
@@ -0,0 +1,24 @@
+package com.feedhanjum.back_end.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "webpush.payload")
+public class WebPushPayloadProperty {
+    private Mode mode = Mode.FULL;
+
+    // compact 모드에서 미리보기 문구 최대 길이
+    private int previewLength = 40;
+
+    public enum Mode {
+        // 알림 전체를 전송
+        FULL,
+        // 타입, 알림 ID, 미리보기 문구만 전송. 클라이언트는 필요 시 알림 일괄 조회 API로 상세 정보를 가져옴
+        COMPACT
+    }
+}
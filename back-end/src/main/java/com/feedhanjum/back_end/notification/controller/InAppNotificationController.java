@@ -5,6 +5,7 @@ import com.feedhanjum.back_end.notification.controller.dto.request.MultipleNotif
 import com.feedhanjum.back_end.notification.controller.dto.response.InAppNotificationDto;
 import com.feedhanjum.back_end.notification.service.InAppNotificationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
@@ -32,6 +33,16 @@ public class InAppNotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @Operation(summary = "알림 일괄 조회", description = "푸시로 전달받은 알림 ID들의 상세 정보를 한 번에 조회합니다. 다른 사용자의 알림은 제외됩니다. 한 번에 " + InAppNotificationService.MAX_BATCH_FETCH_SIZE + "개까지 조회할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "알림 일괄 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알림 ID가 " + InAppNotificationService.MAX_BATCH_FETCH_SIZE + "개를 넘는 경우", content = @Content),
+    })
+    @GetMapping(value = "/batch", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<InAppNotificationDto>> getNotifications(@Login Long receiverId, @RequestParam("ids") List<Long> notificationIds) {
+        List<InAppNotificationDto> notifications = inAppNotificationService.getInAppNotifications(receiverId, notificationIds);
+        return ResponseEntity.ok(notifications);
+    }
 
     @Operation(summary = "여러 알림 일괄 읽음 처리")
     @ApiResponses({
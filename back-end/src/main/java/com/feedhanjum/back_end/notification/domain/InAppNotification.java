@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.notification.domain;
 
+import com.feedhanjum.back_end.core.domain.IdSequence;
 import com.feedhanjum.back_end.member.domain.Member;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 public abstract class InAppNotification {
     @Id
     @Column(name = "notification_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_id")
+    @TableGenerator(name = "notification_id", table = IdSequence.TABLE, pkColumnValue = "notification", allocationSize = IdSequence.ALLOCATION_SIZE)
     protected Long id;
 
     @Column(nullable = false)
@@ -39,6 +41,8 @@ public abstract class InAppNotification {
         this.isRead = false;
         this.readAt = null;
         this.createdAt = LocalDateTime.now();
+        // 저장 전에도 직렬화 결과에 알림 타입이 포함되도록 discriminator 값을 채워둠
+        this.type = getClass().getAnnotation(DiscriminatorValue.class).value();
     }
 
     public void read(Member notificationReceiver, LocalDateTime readAt) {
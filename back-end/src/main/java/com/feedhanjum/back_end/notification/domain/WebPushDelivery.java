@@ -0,0 +1,39 @@
+package com.feedhanjum.back_end.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재전송 대기 중인 웹 푸시 메시지
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_web_push_delivery_next_attempt_at", columnList = "nextAttemptAt"))
+public class WebPushDelivery {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "web_push_delivery_id")
+    private Long id;
+
+    private Long subscriptionId;
+
+    // 웹 푸시 payload는 최대 4KB
+    @Column(length = 4096)
+    private String payload;
+
+    private int attempt;
+
+    private LocalDateTime nextAttemptAt;
+
+    public WebPushDelivery(Long subscriptionId, String payload, int attempt, LocalDateTime nextAttemptAt) {
+        this.subscriptionId = subscriptionId;
+        this.payload = payload;
+        this.attempt = attempt;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
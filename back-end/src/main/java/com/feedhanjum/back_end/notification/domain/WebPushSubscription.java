@@ -12,6 +12,7 @@ import nl.martijndwars.webpush.Subscription;
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @Entity
 public class WebPushSubscription {
+    @Getter
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +34,10 @@ public class WebPushSubscription {
         this.subscription = EmbeddedSubscription.fromSubscription(subscription);
     }
 
+    public Long getSubscriberId() {
+        return subscriber == null ? null : subscriber.getId();
+    }
+
     public Subscription getSubscription() {
         return subscription.toSubscription();
     }
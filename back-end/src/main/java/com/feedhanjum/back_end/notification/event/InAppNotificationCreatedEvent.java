@@ -1,4 +1,7 @@
 package com.feedhanjum.back_end.notification.event;
 
-public record InAppNotificationCreatedEvent(Long notificationId) {
+/**
+ * @param payload 푸시로 전송할 직렬화된 알림. 직렬화에 실패한 경우 null
+ */
+public record InAppNotificationCreatedEvent(Long notificationId, Long receiverId, String payload) {
 }
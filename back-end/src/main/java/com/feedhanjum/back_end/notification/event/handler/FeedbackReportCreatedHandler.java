@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.notification.event.handler;
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import com.feedhanjum.back_end.feedback.event.FeedbackReportCreatedEvent;
 import com.feedhanjum.back_end.notification.service.InAppNotificationService;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class FeedbackReportCreatedHandler {
     private final InAppNotificationService inAppNotificationService;
 
-    @Async
+    @Async(EventConfig.NOTIFICATION_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(FeedbackReportCreatedEvent event) {
         inAppNotificationService.createNotification(event);
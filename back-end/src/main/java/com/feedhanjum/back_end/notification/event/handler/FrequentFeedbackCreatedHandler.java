@@ -1,6 +1,7 @@
 package com.feedhanjum.back_end.notification.event.handler;
 
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import com.feedhanjum.back_end.feedback.event.FrequentFeedbackCreatedEvent;
 import com.feedhanjum.back_end.notification.service.InAppNotificationService;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class FrequentFeedbackCreatedHandler {
     private final InAppNotificationService inAppNotificationService;
 
-    @Async
+    @Async(EventConfig.NOTIFICATION_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(FrequentFeedbackCreatedEvent event) {
         inAppNotificationService.createNotification(event);
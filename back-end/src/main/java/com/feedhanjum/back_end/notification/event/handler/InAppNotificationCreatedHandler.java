@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.notification.event.handler;
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import com.feedhanjum.back_end.notification.event.InAppNotificationCreatedEvent;
 import com.feedhanjum.back_end.notification.service.InAppNotificationService;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +13,9 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class InAppNotificationCreatedHandler {
     private final InAppNotificationService inAppNotificationService;
 
-    @Async
+    @Async(EventConfig.PUSH_EXECUTOR)
     @TransactionalEventListener
     public void on(InAppNotificationCreatedEvent event) {
-        inAppNotificationService.sendPushNotification(event.notificationId());
+        inAppNotificationService.sendPushNotification(event);
     }
 }
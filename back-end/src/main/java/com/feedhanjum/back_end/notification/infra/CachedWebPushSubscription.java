@@ -0,0 +1,19 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import com.feedhanjum.back_end.notification.domain.WebPushSubscription;
+import nl.martijndwars.webpush.Subscription;
+
+/**
+ * 푸시 전송에 필요한 구독 정보만 담은 캐시용 스냅샷
+ */
+public record CachedWebPushSubscription(Long id, String endpoint, String p256dh, String auth) {
+
+    public static CachedWebPushSubscription from(WebPushSubscription webPushSubscription) {
+        Subscription subscription = webPushSubscription.getSubscription();
+        return new CachedWebPushSubscription(webPushSubscription.getId(), subscription.endpoint, subscription.keys.p256dh, subscription.keys.auth);
+    }
+
+    public Subscription toSubscription() {
+        return new Subscription(endpoint, new Subscription.Keys(p256dh, auth));
+    }
+}
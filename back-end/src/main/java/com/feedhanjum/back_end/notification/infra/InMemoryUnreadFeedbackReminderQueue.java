@@ -0,0 +1,59 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 테스트 환경에서 Redis 대신 사용하는 단일 노드용 리마인더 큐
+ */
+@Component
+@Profile("test")
+public class InMemoryUnreadFeedbackReminderQueue implements UnreadFeedbackReminderQueue {
+    private final Map<Long, LocalDateTime> dueTimes = new HashMap<>();
+    private final NavigableSet<Reminder> reminders = new TreeSet<>(
+            Comparator.comparing(Reminder::dueAt).thenComparing(Reminder::receiverId));
+
+    @Override
+    public synchronized void schedule(Long receiverId, LocalDateTime dueAt) {
+        if (dueTimes.putIfAbsent(receiverId, dueAt) == null) {
+            reminders.add(new Reminder(receiverId, dueAt));
+        }
+    }
+
+    @Override
+    public synchronized List<Long> claimDue(LocalDateTime now, int limit) {
+        List<Long> receiverIds = new ArrayList<>();
+        Iterator<Reminder> iterator = reminders.iterator();
+        while (iterator.hasNext() && receiverIds.size() < limit) {
+            Reminder reminder = iterator.next();
+            if (reminder.dueAt().isAfter(now)) {
+                break;
+            }
+            iterator.remove();
+            dueTimes.remove(reminder.receiverId());
+            receiverIds.add(reminder.receiverId());
+        }
+        return receiverIds;
+    }
+
+    @Override
+    public synchronized void restore(Collection<Long> receiverIds, LocalDateTime dueAt) {
+        for (Long receiverId : receiverIds) {
+            LocalDateTime scheduled = dueTimes.get(receiverId);
+            if (scheduled != null && !scheduled.isAfter(dueAt)) {
+                continue;
+            }
+            if (scheduled != null) {
+                reminders.remove(new Reminder(receiverId, scheduled));
+            }
+            dueTimes.put(receiverId, dueAt);
+            reminders.add(new Reminder(receiverId, dueAt));
+        }
+    }
+
+    private record Reminder(Long receiverId, LocalDateTime dueAt) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 환경에서 Redis 대신 사용하는 구독 캐시
+ */
+@Component
+@Profile("test")
+public class InMemoryWebPushSubscriptionCache implements WebPushSubscriptionCache {
+    private final Map<Long, List<CachedWebPushSubscription>> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<List<CachedWebPushSubscription>> get(Long subscriberId) {
+        return Optional.ofNullable(cache.get(subscriberId));
+    }
+
+    @Override
+    public void put(Long subscriberId, List<CachedWebPushSubscription> subscriptions) {
+        cache.put(subscriberId, List.copyOf(subscriptions));
+    }
+
+    @Override
+    public void evict(Long subscriberId) {
+        cache.remove(subscriberId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis sorted set(score = 예약 시각) 기반 리마인더 큐
+ */
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisUnreadFeedbackReminderQueue implements UnreadFeedbackReminderQueue {
+    private static final String QUEUE_KEY = "unread_feedback_reminder";
+
+    // 조회와 삭제를 하나의 스크립트로 실행해 여러 노드가 같은 리마인더를 가져가지 않도록 함
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            """
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #ids > 0 then
+                redis.call('ZREM', KEYS[1], unpack(ids))
+            end
+            return ids
+            """, List.class);
+
+    // 예약이 없거나 더 늦은 시점으로 예약된 수신자만 되돌릴 시점으로 예약
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            """
+            for i = 2, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if not score or tonumber(score) > tonumber(ARGV[1]) then
+                    redis.call('ZADD', KEYS[1], ARGV[1], ARGV[i])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+
+    @Override
+    public void schedule(Long receiverId, LocalDateTime dueAt) {
+        redisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY, receiverId.toString(), toScore(dueAt));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDue(LocalDateTime now, int limit) {
+        List<String> receiverIds = redisTemplate.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY),
+                String.valueOf(toScore(now)), String.valueOf(limit));
+        if (receiverIds == null) {
+            return List.of();
+        }
+        return receiverIds.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public void restore(Collection<Long> receiverIds, LocalDateTime dueAt) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(toScore(dueAt)));
+        receiverIds.forEach(receiverId -> args.add(receiverId.toString()));
+        redisTemplate.execute(RESTORE_SCRIPT, List.of(QUEUE_KEY), args.toArray());
+    }
+
+    private long toScore(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,57 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisWebPushSubscriptionCache implements WebPushSubscriptionCache {
+    private static final String KEY_PREFIX = "web_push_subscriptions:";
+    // 구독/만료 시 명시적으로 무효화하므로 TTL은 누락된 무효화에 대한 안전장치
+    private static final long EXPIRE_HOURS = 24;
+    private static final TypeReference<List<CachedWebPushSubscription>> TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper mapper;
+
+    @Override
+    public Optional<List<CachedWebPushSubscription>> get(Long subscriberId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + subscriberId);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(mapper.readValue(value, TYPE));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read cached web push subscriptions of {}", subscriberId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(Long subscriberId, List<CachedWebPushSubscription> subscriptions) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + subscriberId, mapper.writeValueAsString(subscriptions), EXPIRE_HOURS, TimeUnit.HOURS);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache web push subscriptions of {}", subscriberId, e);
+        }
+    }
+
+    @Override
+    public void evict(Long subscriberId) {
+        redisTemplate.delete(KEY_PREFIX + subscriberId);
+    }
+}
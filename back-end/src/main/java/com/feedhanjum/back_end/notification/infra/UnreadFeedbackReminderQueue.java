@@ -0,0 +1,32 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 피드백 미확인 알림을 수신자별로 지연 발송하기 위한 큐
+ */
+public interface UnreadFeedbackReminderQueue {
+
+    /**
+     * 수신자에 대한 리마인더를 dueAt 시점에 예약한다.
+     * 이미 예약된 리마인더가 있다면 기존 예약을 유지한다.
+     */
+    void schedule(Long receiverId, LocalDateTime dueAt);
+
+    /**
+     * 예약 시점이 now 이전인 리마인더를 최대 limit개 가져온다.
+     * 가져간 리마인더는 큐에서 제거되므로 여러 노드에서 동시에 호출해도 한 노드만 가져간다.
+     * 처리에 실패하면 호출한 쪽에서 restore로 되돌려야 한다.
+     *
+     * @return 리마인더 대상 수신자 ID 목록
+     */
+    List<Long> claimDue(LocalDateTime now, int limit);
+
+    /**
+     * claimDue로 가져갔지만 처리를 마치지 못한 리마인더를 dueAt 시점으로 되돌린다.
+     * 이미 더 늦은 시점으로 예약되어 있다면 dueAt으로 앞당긴다.
+     */
+    void restore(Collection<Long> receiverIds, LocalDateTime dueAt);
+}
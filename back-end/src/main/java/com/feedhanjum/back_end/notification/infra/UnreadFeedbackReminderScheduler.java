@@ -0,0 +1,21 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import com.feedhanjum.back_end.notification.service.InAppNotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "notification.unread-reminder.mode", havingValue = "queue", matchIfMissing = true)
+public class UnreadFeedbackReminderScheduler {
+    private final InAppNotificationService inAppNotificationService;
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void sendUnreadFeedbackReminders() {
+        inAppNotificationService.sendUnreadFeedbackReminders();
+    }
+}
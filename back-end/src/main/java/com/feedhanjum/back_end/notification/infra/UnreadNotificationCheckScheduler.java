@@ -1,17 +1,27 @@
 package com.feedhanjum.back_end.notification.infra;
 
+import com.feedhanjum.back_end.core.domain.JobRecord;
+import com.feedhanjum.back_end.core.service.JobCoordinator;
 import com.feedhanjum.back_end.notification.service.InAppNotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @RequiredArgsConstructor
 @Component
+@ConditionalOnProperty(name = "notification.unread-reminder.mode", havingValue = "scan")
 public class UnreadNotificationCheckScheduler {
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(3);
+
     private final InAppNotificationService inAppNotificationService;
+    private final JobCoordinator jobCoordinator;
 
     @Scheduled(cron = "0 * * * * *")
     public void checkUnreadNotifications() {
-        inAppNotificationService.checkUnreadNotifications();
+        jobCoordinator.runAsLeader(JobRecord.JobName.UNREAD_NOTIFICATIONS, LEASE_DURATION,
+                inAppNotificationService::checkUnreadNotifications);
     }
 }
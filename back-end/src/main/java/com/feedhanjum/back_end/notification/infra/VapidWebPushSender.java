@@ -0,0 +1,151 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import nl.martijndwars.webpush.Encoding;
+import nl.martijndwars.webpush.HttpEce;
+import nl.martijndwars.webpush.Notification;
+import nl.martijndwars.webpush.Subscription;
+import nl.martijndwars.webpush.Utils;
+import org.asynchttpclient.AsyncHttpClient;
+import org.asynchttpclient.BoundRequestBuilder;
+import org.asynchttpclient.Response;
+import org.bouncycastle.jce.ECNamedCurveTable;
+import org.bouncycastle.jce.interfaces.ECPublicKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+import org.jose4j.lang.JoseException;
+
+import java.io.IOException;
+import java.security.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VAPID 인증 웹 푸시 전송기.
+ * 라이브러리의 PushAsyncService는 전송마다 VAPID 키 쌍 검증과 JWT 서명을 반복하므로,
+ * 서명된 Authorization 헤더를 푸시 서비스(audience)별로 만료 직전까지 재사용하고
+ * ECDH 키 생성기와 난수 생성기는 스레드별로 한 번만 생성해 재사용한다.
+ * 메시지마다 새 ECDH 키 쌍과 salt를 사용하는 것은 그대로 유지한다.
+ */
+public class VapidWebPushSender implements WebPushSender {
+    private static final Duration JWT_EXPIRE = Duration.ofHours(12);
+    // 푸시 서비스와의 시계 오차와 전송 지연을 고려해 만료 1시간 전에 새로 서명
+    private static final Duration JWT_REFRESH_MARGIN = Duration.ofHours(1);
+    private static final String CURVE = "prime256v1";
+    private static final String SERVER_KEY_ID = "server-key-id";
+    private static final String SERVER_KEY_CURVE = "P-256";
+    private static final int SALT_LENGTH = 16;
+
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder();
+    private static final Base64.Encoder URL_ENCODER_NO_PADDING = Base64.getUrlEncoder().withoutPadding();
+
+    private final AsyncHttpClient httpClient;
+    private final PrivateKey privateKey;
+    private final String encodedPublicKey;
+    private final String subject;
+    private final Clock clock;
+
+    private final Map<String, CachedAuthorization> authorizations = new ConcurrentHashMap<>();
+    private final ThreadLocal<KeyPairGenerator> keyPairGenerators = ThreadLocal.withInitial(VapidWebPushSender::createKeyPairGenerator);
+    private final ThreadLocal<SecureRandom> secureRandoms = ThreadLocal.withInitial(SecureRandom::new);
+
+    public VapidWebPushSender(AsyncHttpClient httpClient, PublicKey publicKey, PrivateKey privateKey, String subject, Clock clock) {
+        this.httpClient = httpClient;
+        this.privateKey = privateKey;
+        this.encodedPublicKey = URL_ENCODER_NO_PADDING.encodeToString(Utils.encode((ECPublicKey) publicKey));
+        this.subject = subject;
+        this.clock = clock;
+    }
+
+    @Override
+    public CompletableFuture<Response> send(Subscription subscription, String payload) {
+        try {
+            PreparedPush push = prepare(subscription, payload);
+            BoundRequestBuilder request = httpClient.preparePost(push.url()).setBody(push.body());
+            push.headers().forEach(request::setHeader);
+            return request.execute().toCompletableFuture();
+        } catch (IOException | JoseException | GeneralSecurityException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 전송할 요청의 헤더와 암호화된 본문을 만든다. (aesgcm 인코딩)
+     */
+    public PreparedPush prepare(Subscription subscription, String payload) throws IOException, JoseException, GeneralSecurityException {
+        Notification notification = new Notification(subscription, payload);
+
+        KeyPair localKeyPair = keyPairGenerators.get().generateKeyPair();
+        byte[] salt = new byte[SALT_LENGTH];
+        secureRandoms.get().nextBytes(salt);
+
+        HttpEce httpEce = new HttpEce(Map.of(SERVER_KEY_ID, localKeyPair), Map.of(SERVER_KEY_ID, SERVER_KEY_CURVE));
+        byte[] body = httpEce.encrypt(notification.getPayload(), salt, null, SERVER_KEY_ID,
+                (ECPublicKey) notification.getUserPublicKey(), notification.getUserAuth(), Encoding.AESGCM);
+        byte[] dh = Utils.encode((ECPublicKey) localKeyPair.getPublic());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("TTL", String.valueOf(notification.getTTL()));
+        headers.put("Content-Type", "application/octet-stream");
+        headers.put("Content-Encoding", "aesgcm");
+        headers.put("Encryption", "salt=" + URL_ENCODER_NO_PADDING.encodeToString(salt));
+        headers.put("Crypto-Key", "dh=" + URL_ENCODER.encodeToString(dh) + ";p256ecdsa=" + encodedPublicKey);
+        headers.put("Authorization", authorization(notification.getOrigin()));
+        return new PreparedPush(notification.getEndpoint(), headers, body);
+    }
+
+    private String authorization(String audience) throws JoseException {
+        Instant now = clock.instant();
+        CachedAuthorization cached = authorizations.get(audience);
+        if (cached != null && now.isBefore(cached.refreshAt())) {
+            return cached.header();
+        }
+        Instant expireAt = now.plus(JWT_EXPIRE);
+        String header = "WebPush " + sign(audience, expireAt);
+        authorizations.put(audience, new CachedAuthorization(header, expireAt.minus(JWT_REFRESH_MARGIN)));
+        return header;
+    }
+
+    private String sign(String audience, Instant expireAt) throws JoseException {
+        JwtClaims claims = new JwtClaims();
+        claims.setAudience(audience);
+        claims.setExpirationTime(NumericDate.fromSeconds(expireAt.getEpochSecond()));
+        if (subject != null) {
+            claims.setSubject(subject);
+        }
+
+        JsonWebSignature jws = new JsonWebSignature();
+        jws.setHeader("typ", "JWT");
+        jws.setPayload(claims.toJson());
+        jws.setKey(privateKey);
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256);
+        return jws.getCompactSerialization();
+    }
+
+    private static KeyPairGenerator createKeyPairGenerator() {
+        try {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("ECDH", BouncyCastleProvider.PROVIDER_NAME);
+            keyPairGenerator.initialize(ECNamedCurveTable.getParameterSpec(CURVE));
+            return keyPairGenerator;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("ECDH 키 생성기를 초기화할 수 없습니다.", e);
+        }
+    }
+
+    public record PreparedPush(String url, Map<String, String> headers, byte[] body) {
+        public PreparedPush {
+            headers = Map.copyOf(headers);
+        }
+    }
+
+    private record CachedAuthorization(String header, Instant refreshAt) {
+    }
+}
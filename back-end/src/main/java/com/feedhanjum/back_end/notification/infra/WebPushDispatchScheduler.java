@@ -0,0 +1,24 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Component
+public class WebPushDispatchScheduler {
+    private final WebPushDispatcher webPushDispatcher;
+
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void retryDueDeliveries() {
+        webPushDispatcher.persistPendingDeliveries();
+        webPushDispatcher.retryDueDeliveries();
+    }
+
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void cleanupExpiredSubscriptions() {
+        webPushDispatcher.cleanupExpiredSubscriptions();
+    }
+}
@@ -0,0 +1,236 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import com.feedhanjum.back_end.notification.config.WebPushDispatchProperty;
+import com.feedhanjum.back_end.notification.domain.WebPushDelivery;
+import com.feedhanjum.back_end.notification.domain.WebPushSubscription;
+import com.feedhanjum.back_end.notification.repository.WebPushDeliveryRepository;
+import com.feedhanjum.back_end.notification.repository.WebPushSubscriptionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import nl.martijndwars.webpush.Subscription;
+import org.asynchttpclient.Response;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 웹 푸시 전송을 담당한다.
+ * 푸시 서비스(origin)별 동시 전송 수를 제한하고, 429/5xx 응답은 지수 백오프로 재시도 큐에 저장한다.
+ * 전송 결과는 HTTP 클라이언트의 I/O 스레드에서 처리하므로, 재시도할 메시지와 만료된 구독(404/410)은
+ * 메모리에 모아두었다가 주기 작업에서 한 번에 저장하거나 삭제한다.
+ */
+@Slf4j
+@Component
+public class WebPushDispatcher {
+    private static final String LATENCY_METRIC = "webpush.send.latency";
+    private static final String RESULT_METRIC = "webpush.send.result";
+
+    private final WebPushSender webPushSender;
+    private final WebPushDeliveryRepository deliveryRepository;
+    private final WebPushSubscriptionRepository subscriptionRepository;
+    private final WebPushDispatchProperty property;
+    private final WebPushSubscriptionCache subscriptionCache;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final Map<String, Semaphore> inFlightLimits = new ConcurrentHashMap<>();
+    private final Queue<Long> expiredSubscriptionIds = new ConcurrentLinkedQueue<>();
+    private final Queue<WebPushDelivery> pendingDeliveries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public WebPushDispatcher(WebPushSender webPushSender,
+                             WebPushDeliveryRepository deliveryRepository,
+                             WebPushSubscriptionRepository subscriptionRepository,
+                             WebPushDispatchProperty property,
+                             WebPushSubscriptionCache subscriptionCache,
+                             MeterRegistry meterRegistry,
+                             Clock clock) {
+        this.webPushSender = webPushSender;
+        this.deliveryRepository = deliveryRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.property = property;
+        this.subscriptionCache = subscriptionCache;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        meterRegistry.gauge("webpush.inflight", inFlight);
+        meterRegistry.gauge("webpush.expired.pending", expiredSubscriptionIds, Queue::size);
+        meterRegistry.gauge("webpush.retry.pending", pendingDeliveries, Queue::size);
+    }
+
+    public void dispatch(Long subscriptionId, Subscription subscription, String payload) {
+        dispatch(subscriptionId, subscription, payload, 0);
+    }
+
+    /**
+     * 전송 중 재시도가 결정된 메시지를 재시도 큐에 저장한다.
+     * 종료 시에도 저장해 배포 중에 재시도할 메시지를 잃지 않도록 한다.
+     */
+    @PreDestroy
+    public void persistPendingDeliveries() {
+        List<WebPushDelivery> deliveries = new ArrayList<>();
+        WebPushDelivery delivery;
+        while ((delivery = pendingDeliveries.poll()) != null) {
+            deliveries.add(delivery);
+        }
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        try {
+            deliveryRepository.saveAll(deliveries);
+        } catch (RuntimeException e) {
+            log.warn("Failed to enqueue {} push messages", deliveries.size(), e);
+        }
+    }
+
+    /**
+     * 재전송 시점이 된 메시지를 가져와 다시 전송한다.
+     */
+    @Transactional
+    public void retryDueDeliveries() {
+        List<WebPushDelivery> deliveries = deliveryRepository.findDueForUpdate(LocalDateTime.now(clock), PageRequest.of(0, property.getRetryBatchSize()));
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        deliveryRepository.deleteAllInBatch(deliveries);
+
+        Set<Long> subscriptionIds = deliveries.stream().map(WebPushDelivery::getSubscriptionId).collect(Collectors.toSet());
+        Map<Long, WebPushSubscription> subscriptions = subscriptionRepository.findAllById(subscriptionIds).stream()
+                .collect(Collectors.toMap(WebPushSubscription::getId, Function.identity()));
+        for (WebPushDelivery delivery : deliveries) {
+            WebPushSubscription subscription = subscriptions.get(delivery.getSubscriptionId());
+            // 재시도 대기 중 구독이 삭제된 경우
+            if (subscription == null) {
+                continue;
+            }
+            dispatch(subscription.getId(), subscription.getSubscription(), delivery.getPayload(), delivery.getAttempt());
+        }
+    }
+
+    /**
+     * 전송 중 만료가 확인된 구독을 한 번에 삭제한다.
+     */
+    @Transactional
+    public void cleanupExpiredSubscriptions() {
+        List<Long> subscriptionIds = new ArrayList<>();
+        Long subscriptionId;
+        while ((subscriptionId = expiredSubscriptionIds.poll()) != null) {
+            subscriptionIds.add(subscriptionId);
+        }
+        if (subscriptionIds.isEmpty()) {
+            return;
+        }
+        Set<Long> subscriberIds = subscriptionRepository.findAllById(subscriptionIds).stream()
+                .map(WebPushSubscription::getSubscriberId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        subscriptionRepository.deleteAllByIdInBatch(subscriptionIds);
+        subscriberIds.forEach(subscriptionCache::evict);
+        log.info("Expired web push subscriptions deleted: {}", subscriptionIds);
+    }
+
+    private void dispatch(Long subscriptionId, Subscription subscription, String payload, int attempt) {
+        String origin = originOf(subscription.endpoint);
+        Semaphore limit = inFlightLimits.computeIfAbsent(origin, key -> new Semaphore(property.getMaxInFlightPerOrigin()));
+        if (!limit.tryAcquire()) {
+            // 동시 전송 한도를 넘으면 스레드를 붙잡지 않고 재시도 큐로 넘김. 시도 횟수는 증가시키지 않음
+            meterRegistry.counter(RESULT_METRIC, "origin", origin, "result", "throttled").increment();
+            enqueue(subscriptionId, payload, attempt, property.getInitialBackoff());
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        webPushSender.send(subscription, payload)
+                .whenComplete((response, e) -> {
+                    limit.release();
+                    inFlight.decrementAndGet();
+                    String result = handleResult(subscriptionId, payload, attempt, response, e);
+                    sample.stop(meterRegistry.timer(LATENCY_METRIC, "origin", origin, "result", result));
+                    meterRegistry.counter(RESULT_METRIC, "origin", origin, "result", result).increment();
+                });
+    }
+
+    private String handleResult(Long subscriptionId, String payload, int attempt, Response response, Throwable e) {
+        if (e != null) {
+            log.info("Failed to send push message. subscription: {}", subscriptionId, e);
+            return retryOrDrop(subscriptionId, payload, attempt, Duration.ZERO);
+        }
+        int statusCode = response.getStatusCode();
+        if (statusCode >= 200 && statusCode < 300) {
+            return "success";
+        }
+        if (statusCode == 404 || statusCode == 410) {
+            // 구독 정보 만료
+            expiredSubscriptionIds.add(subscriptionId);
+            return "expired";
+        }
+        if (statusCode == 429 || statusCode >= 500) {
+            return retryOrDrop(subscriptionId, payload, attempt, retryAfter(response));
+        }
+        log.warn("Push message rejected. subscription: {}, response: {}", subscriptionId, response);
+        return "rejected";
+    }
+
+    private String retryOrDrop(Long subscriptionId, String payload, int attempt, Duration retryAfter) {
+        int nextAttempt = attempt + 1;
+        if (nextAttempt >= property.getMaxAttempts()) {
+            log.warn("Push message dropped after {} attempts. subscription: {}", nextAttempt, subscriptionId);
+            return "dropped";
+        }
+        Duration backoff = backoff(nextAttempt);
+        enqueue(subscriptionId, payload, nextAttempt, retryAfter.compareTo(backoff) > 0 ? retryAfter : backoff);
+        return "retry";
+    }
+
+    // I/O 스레드에서 DB에 쓰지 않도록 메모리에만 담아두고 persistPendingDeliveries에서 저장
+    private void enqueue(Long subscriptionId, String payload, int attempt, Duration delay) {
+        pendingDeliveries.add(new WebPushDelivery(subscriptionId, payload, attempt, LocalDateTime.now(clock).plus(delay)));
+    }
+
+    // initialBackoff * 2^(attempt-1) 을 maxBackoff로 제한하고, 동시에 몰리지 않도록 절반 범위의 지터 적용
+    private Duration backoff(int attempt) {
+        long initial = property.getInitialBackoff().toMillis();
+        long max = property.getMaxBackoff().toMillis();
+        long exponential = initial << Math.min(attempt - 1, 20);
+        long capped = Math.min(exponential, max);
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private Duration retryAfter(Response response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter == null) {
+            return Duration.ZERO;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            // HTTP-date 형식은 지원하지 않음
+            return Duration.ZERO;
+        }
+    }
+
+    private String originOf(String endpoint) {
+        try {
+            URI uri = URI.create(endpoint);
+            return uri.getScheme() + "://" + uri.getHost();
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+}
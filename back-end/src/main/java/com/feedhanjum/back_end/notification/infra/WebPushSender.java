@@ -0,0 +1,14 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import nl.martijndwars.webpush.Subscription;
+import org.asynchttpclient.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 암호화된 웹 푸시 메시지를 푸시 서비스로 전송한다.
+ */
+public interface WebPushSender {
+
+    CompletableFuture<Response> send(Subscription subscription, String payload);
+}
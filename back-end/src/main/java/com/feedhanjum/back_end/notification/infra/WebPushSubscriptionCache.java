@@ -0,0 +1,16 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 웹 푸시 구독 목록 캐시
+ */
+public interface WebPushSubscriptionCache {
+
+    Optional<List<CachedWebPushSubscription>> get(Long subscriberId);
+
+    void put(Long subscriberId, List<CachedWebPushSubscription> subscriptions);
+
+    void evict(Long subscriberId);
+}
@@ -32,6 +32,16 @@ public class InAppNotificationQueryRepository {
                 .fetch();
     }
 
+    public List<FeedbackReceiveNotification> getUnreadFeedbackReceiveNotifications(Long receiverId) {
+        QFeedbackReceiveNotification feedbackNotification = QFeedbackReceiveNotification.feedbackReceiveNotification;
+        return queryFactory
+                .selectFrom(feedbackNotification)
+                .where(feedbackNotification.isRead.isFalse())
+                .where(feedbackNotification.receiverId.eq(receiverId))
+                .orderBy(feedbackNotification.createdAt.asc(), feedbackNotification.id.asc())
+                .fetch();
+    }
+
     public Optional<FrequentFeedbackRequestNotification> getUnreadFrequentFeedbackRequestNotification(Long receiverId, Long teamId, Long senderId) {
         QFrequentFeedbackRequestNotification requestNotification = QFrequentFeedbackRequestNotification.frequentFeedbackRequestNotification;
         return Optional.ofNullable(queryFactory
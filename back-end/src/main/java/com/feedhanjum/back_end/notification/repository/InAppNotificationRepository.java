@@ -7,4 +7,6 @@ import java.util.List;
 
 public interface InAppNotificationRepository extends JpaRepository<InAppNotification, Long> {
     List<InAppNotification> findAllByReceiverIdAndType(Long receiverId, String type);
+
+    List<InAppNotification> findAllByReceiverIdAndIdIn(Long receiverId, List<Long> ids);
 }
@@ -0,0 +1,23 @@
+package com.feedhanjum.back_end.notification.repository;
+
+import com.feedhanjum.back_end.notification.domain.WebPushDelivery;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WebPushDeliveryRepository extends JpaRepository<WebPushDelivery, Long> {
+
+    // 다른 노드가 잠근 행은 건너뛰어(SKIP LOCKED) 같은 메시지를 중복으로 가져가지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select d from WebPushDelivery d where d.nextAttemptAt <= :now order by d.nextAttemptAt")
+    List<WebPushDelivery> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -10,5 +10,7 @@ import java.util.Optional;
 public interface WebPushSubscriptionRepository extends JpaRepository<WebPushSubscription, Long> {
     List<WebPushSubscription> findAllBySubscriber(Member subscriber);
 
+    List<WebPushSubscription> findAllBySubscriber_Id(Long subscriberId);
+
     Optional<WebPushSubscription> findBySubscription_Endpoint(String subscriptionEndpoint);
 }
\ No newline at end of file
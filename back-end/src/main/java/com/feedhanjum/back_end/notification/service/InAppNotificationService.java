@@ -1,6 +1,9 @@
 package com.feedhanjum.back_end.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.feedhanjum.back_end.core.domain.JobRecord;
+import com.feedhanjum.back_end.core.event.EventPublicationTracker;
 import com.feedhanjum.back_end.core.event.EventPublisher;
 import com.feedhanjum.back_end.core.repository.JobRecordRepository;
 import com.feedhanjum.back_end.feedback.domain.Feedback;
@@ -11,11 +14,14 @@ import com.feedhanjum.back_end.feedback.event.RegularFeedbackCreatedEvent;
 import com.feedhanjum.back_end.feedback.repository.FeedbackRepository;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.notification.config.WebPushPayloadProperty;
 import com.feedhanjum.back_end.notification.controller.dto.response.InAppNotificationDto;
 import com.feedhanjum.back_end.notification.domain.*;
 import com.feedhanjum.back_end.notification.event.InAppNotificationCreatedEvent;
+import com.feedhanjum.back_end.notification.infra.UnreadFeedbackReminderQueue;
 import com.feedhanjum.back_end.notification.repository.InAppNotificationQueryRepository;
 import com.feedhanjum.back_end.notification.repository.InAppNotificationRepository;
+import com.feedhanjum.back_end.notification.service.dto.CompactPushPayload;
 import com.feedhanjum.back_end.schedule.domain.Schedule;
 import com.feedhanjum.back_end.schedule.event.RegularFeedbackRequestCreatedEvent;
 import com.feedhanjum.back_end.schedule.event.ScheduleCreatedEvent;
@@ -27,27 +33,42 @@ import com.feedhanjum.back_end.team.event.TeamLeaderChangedEvent;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class InAppNotificationService {
+    // 푸시를 받은 클라이언트가 한 번에 조회할 수 있는 알림 수
+    public static final int MAX_BATCH_FETCH_SIZE = 50;
+    private static final int UNREAD_FEEDBACK_REMINDER_BATCH_SIZE = 100;
+    // 처리에 실패한 수신자는 같은 오류를 매번 반복하지 않도록 잠시 뒤로 미뤄 다시 처리
+    private static final Duration UNREAD_FEEDBACK_REMINDER_RETRY_DELAY = Duration.ofMinutes(10);
+
     private final InAppNotificationRepository inAppNotificationRepository;
     private final InAppNotificationQueryRepository inAppNotificationQueryRepository;
     private final MemberRepository memberRepository;
     private final ScheduleRepository scheduleRepository;
     private final EventPublisher eventPublisher;
+    private final EventPublicationTracker eventPublicationTracker;
     private final FeedbackRepository feedbackRepository;
     private final TeamRepository teamRepository;
     private final WebPushService webPushService;
     private final JobRecordRepository jobRecordRepository;
+    private final UnreadFeedbackReminderQueue unreadFeedbackReminderQueue;
+    private final ObjectMapper mapper;
+    private final WebPushPayloadProperty webPushPayloadProperty;
     private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
 
 
     @Transactional(readOnly = true)
@@ -56,6 +77,22 @@ public class InAppNotificationService {
                 .map(InAppNotificationDto::from).toList();
     }
 
+    /**
+     * 푸시를 받은 클라이언트가 여러 알림의 상세 정보를 한 번에 조회할 때 사용한다.
+     * 다른 사용자의 알림 ID는 무시한다.
+     *
+     * @throws IllegalArgumentException 알림 ID가 {@value #MAX_BATCH_FETCH_SIZE}개를 넘을 경우
+     */
+    @Transactional(readOnly = true)
+    public List<InAppNotificationDto> getInAppNotifications(Long receiverId, List<Long> notificationIds) {
+        if (notificationIds.size() > MAX_BATCH_FETCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 알림은 " + MAX_BATCH_FETCH_SIZE + "개까지입니다.");
+        }
+        return inAppNotificationRepository.findAllByReceiverIdAndIdIn(receiverId, notificationIds).stream()
+                .sorted(Comparator.comparing(InAppNotification::getId).reversed())
+                .map(InAppNotificationDto::from).toList();
+    }
+
     /**
      * @throws EntityNotFoundException receiverId에 해당하는 엔티티가 없을 때
      */
@@ -81,6 +118,9 @@ public class InAppNotificationService {
 
     @Transactional
     public void createNotification(FrequentFeedbackRequestedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long senderId = event.senderId();
         Long receiverId = event.receiverId();
         Long teamId = event.teamId();
@@ -92,11 +132,14 @@ public class InAppNotificationService {
 
         InAppNotification notification = new FrequentFeedbackRequestNotification(receiverId, sender.getName(), teamId, senderId);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        publishCreatedEvent(notification);
     }
 
     @Transactional
     public void createNotification(RegularFeedbackRequestCreatedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long receiverId = event.receiverId();
         Long scheduleId = event.scheduleId();
 
@@ -107,11 +150,14 @@ public class InAppNotificationService {
 
         InAppNotification notification = new RegularFeedbackRequestNotification(receiver, schedule);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        publishCreatedEvent(notification);
     }
 
     @Transactional
     public void createNotification(FeedbackLikedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long feedbackId = event.feedbackId();
 
         Feedback feedback = feedbackRepository.findById(feedbackId)
@@ -119,35 +165,46 @@ public class InAppNotificationService {
 
         InAppNotification notification = new HeartReactionNotification(feedback);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        publishCreatedEvent(notification);
     }
 
     @Transactional
     public void createNotification(FrequentFeedbackCreatedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long feedbackId = event.feedbackId();
 
         Feedback feedback = feedbackRepository.findById(feedbackId)
                 .orElseThrow(EntityNotFoundException::new);
 
-        InAppNotification notification = new FeedbackReceiveNotification(feedback);
+        FeedbackReceiveNotification notification = new FeedbackReceiveNotification(feedback);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        scheduleUnreadFeedbackReminder(notification);
+        publishCreatedEvent(notification);
     }
 
     @Transactional
     public void createNotification(RegularFeedbackCreatedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long feedbackId = event.feedbackId();
 
         Feedback feedback = feedbackRepository.findById(feedbackId)
                 .orElseThrow(EntityNotFoundException::new);
 
-        InAppNotification notification = new FeedbackReceiveNotification(feedback);
+        FeedbackReceiveNotification notification = new FeedbackReceiveNotification(feedback);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        scheduleUnreadFeedbackReminder(notification);
+        publishCreatedEvent(notification);
     }
 
     @Transactional
     public void createNotification(FeedbackReportCreatedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long receiverId = event.receiverId();
 
         Member receiver = memberRepository.findById(receiverId)
@@ -155,11 +212,14 @@ public class InAppNotificationService {
 
         InAppNotification notification = new FeedbackReportCreateNotification(receiver);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        publishCreatedEvent(notification);
     }
 
     @Transactional
     public void createNotification(TeamLeaderChangedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long teamId = event.teamId();
 
         Team team = teamRepository.findById(teamId)
@@ -168,11 +228,14 @@ public class InAppNotificationService {
 
         InAppNotification notification = new TeamLeaderChangeNotification(team);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        publishCreatedEvent(notification);
     }
 
     @Transactional
     public void createNotification(ScheduleCreatedEvent event) {
+        if (alreadyProcessed()) {
+            return;
+        }
         Long scheduleId = event.scheduleId();
 
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -183,14 +246,14 @@ public class InAppNotificationService {
             Member receiver = teamMember.getMember();
             InAppNotification notification = new ScheduleCreateNotification(receiver, schedule);
             inAppNotificationRepository.save(notification);
-            eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+            publishCreatedEvent(notification);
         }
     }
 
 
     @Transactional
     public void checkUnreadNotifications() {
-        JobRecord jobRecord = jobRecordRepository.findById(JobRecord.JobName.UNREAD_NOTIFICATIONS)
+        JobRecord jobRecord = jobRecordRepository.findByIdForUpdate(JobRecord.JobName.UNREAD_NOTIFICATIONS)
                 .orElseGet(() -> new JobRecord(JobRecord.JobName.UNREAD_NOTIFICATIONS));
         LocalDateTime previousTime = jobRecord.getPreviousFinishTime();
 
@@ -212,6 +275,50 @@ public class InAppNotificationService {
         jobRecordRepository.save(jobRecord);
     }
 
+    /**
+     * 예약 시점이 지난 수신자별 리마인더를 가져와 피드백 미확인 알림을 생성한다.
+     * 가장 오래된 안읽은 피드백 도착 알림을 기준으로 판단하며, 아직 24시간이 지나지 않은 알림이 남아있다면 해당 시점으로 다시 예약한다.
+     * 수신자마다 트랜잭션을 나눠 한 수신자에서 실패해도 나머지 수신자는 반영하고,
+     * 실패한 수신자만 {@link #UNREAD_FEEDBACK_REMINDER_RETRY_DELAY} 뒤로 큐에 되돌린다.
+     */
+    public void sendUnreadFeedbackReminders() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> receiverIds = unreadFeedbackReminderQueue.claimDue(now, UNREAD_FEEDBACK_REMINDER_BATCH_SIZE);
+        for (Long receiverId : receiverIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> sendUnreadFeedbackReminder(receiverId, now));
+            } catch (RuntimeException e) {
+                log.warn("Failed to send unread feedback reminder. receiver: {}", receiverId, e);
+                unreadFeedbackReminderQueue.restore(List.of(receiverId), now.plus(UNREAD_FEEDBACK_REMINDER_RETRY_DELAY));
+            }
+        }
+    }
+
+    private void sendUnreadFeedbackReminder(Long receiverId, LocalDateTime now) {
+        List<FeedbackReceiveNotification> unreadNotifications = inAppNotificationQueryRepository.getUnreadFeedbackReceiveNotifications(receiverId);
+        if (unreadNotifications.isEmpty()) {
+            return;
+        }
+        FeedbackReceiveNotification oldest = unreadNotifications.get(0);
+        if (!oldest.getCreatedAt().plusDays(1).isAfter(now)) {
+            createNotification(oldest, now);
+        }
+        unreadNotifications.stream()
+                .map(notification -> notification.getCreatedAt().plusDays(1))
+                .filter(dueAt -> dueAt.isAfter(now))
+                .findFirst()
+                .ifPresent(dueAt -> unreadFeedbackReminderQueue.schedule(receiverId, dueAt));
+    }
+
+    // 알림 생성 후 완료 기록 전에 실패해 이벤트가 다시 전달되어도 알림을 중복으로 만들지 않는다
+    private boolean alreadyProcessed() {
+        return !eventPublicationTracker.markProcessed();
+    }
+
+    private void scheduleUnreadFeedbackReminder(FeedbackReceiveNotification notification) {
+        unreadFeedbackReminderQueue.schedule(notification.getReceiverId(), notification.getCreatedAt().plusDays(1));
+    }
+
     private void createNotification(FeedbackReceiveNotification unreadNotification, LocalDateTime now) {
         Optional<UnreadFeedbackExistNotification> exists = inAppNotificationQueryRepository.getLatestUnreadFeedbackExistNotification(
                 unreadNotification.getReceiverId());
@@ -227,15 +334,46 @@ public class InAppNotificationService {
 
         InAppNotification notification = new UnreadFeedbackExistNotification(unreadNotification);
         inAppNotificationRepository.save(notification);
-        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+        publishCreatedEvent(notification);
     }
 
 
+    /**
+     * 이벤트에 담긴 payload를 그대로 전송한다. payload가 없을 때만 알림을 다시 조회해 직렬화한다.
+     */
+    public void sendPushNotification(InAppNotificationCreatedEvent event) {
+        if (event.payload() == null) {
+            sendPushNotification(event.notificationId());
+            return;
+        }
+        webPushService.sendPushPayload(event.receiverId(), event.payload());
+    }
+
     @Transactional(readOnly = true)
     public void sendPushNotification(Long notificationId) {
         InAppNotification notification = inAppNotificationRepository.findById(notificationId)
                 .orElseThrow(EntityNotFoundException::new);
         Long receiverId = notification.getReceiverId();
-        webPushService.sendPushMessage(receiverId, notification);
+        webPushService.sendPushMessage(receiverId, toPushMessage(notification));
+    }
+
+    private void publishCreatedEvent(InAppNotification notification) {
+        eventPublisher.publishEvent(new InAppNotificationCreatedEvent(notification.getId(), notification.getReceiverId(), serialize(notification)));
+    }
+
+    private Object toPushMessage(InAppNotification notification) {
+        if (webPushPayloadProperty.getMode() == WebPushPayloadProperty.Mode.COMPACT) {
+            return CompactPushPayload.from(notification, webPushPayloadProperty.getPreviewLength());
+        }
+        return notification;
+    }
+
+    private String serialize(InAppNotification notification) {
+        try {
+            return mapper.writeValueAsString(toPushMessage(notification));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize notification {}", notification.getId(), e);
+            return null;
+        }
     }
 }
@@ -1,26 +1,24 @@
 package com.feedhanjum.back_end.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedhanjum.back_end.core.infra.AfterCommit;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.notification.config.WebPushProperty;
 import com.feedhanjum.back_end.notification.domain.WebPushSubscription;
+import com.feedhanjum.back_end.notification.infra.CachedWebPushSubscription;
+import com.feedhanjum.back_end.notification.infra.WebPushDispatcher;
+import com.feedhanjum.back_end.notification.infra.WebPushSubscriptionCache;
 import com.feedhanjum.back_end.notification.repository.WebPushSubscriptionRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import nl.martijndwars.webpush.Notification;
-import nl.martijndwars.webpush.PushAsyncService;
 import nl.martijndwars.webpush.Subscription;
-import org.asynchttpclient.Response;
-import org.jose4j.lang.JoseException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.security.GeneralSecurityException;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -28,7 +26,8 @@ import java.util.concurrent.CompletableFuture;
 public class WebPushService {
     private final WebPushSubscriptionRepository subscriptionRepository;
     private final MemberRepository memberRepository;
-    private final PushAsyncService pushService;
+    private final WebPushDispatcher webPushDispatcher;
+    private final WebPushSubscriptionCache subscriptionCache;
     private final WebPushProperty webPushProperty;
     private final ObjectMapper mapper;
 
@@ -42,7 +41,11 @@ public class WebPushService {
 
         WebPushSubscription webPushSubscription = subscriptionRepository.findBySubscription_Endpoint(subscription.endpoint)
                 .orElseGet(() -> new WebPushSubscription(member, subscription));
+        if (webPushSubscription.getSubscriberId() != null) {
+            evictSubscriptionsAfterCommit(webPushSubscription.getSubscriberId());
+        }
         webPushSubscription.updateSubscriber(member);
+        evictSubscriptionsAfterCommit(subscriberId);
 
         subscriptionRepository.save(webPushSubscription);
         log.info("Web push subscription saved: {} {}", member.getName(), subscription);
@@ -54,34 +57,37 @@ public class WebPushService {
     }
 
 
-    @Transactional(readOnly = true)
     public void sendPushMessage(Long subscriberId, Object message) {
-        Member subscriber = memberRepository.findById(subscriberId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다."));
-        List<WebPushSubscription> subscriptions = subscriptionRepository.findAllBySubscriber(subscriber);
-        for (WebPushSubscription subscription : subscriptions) {
-            sendPushMessage(subscription.getSubscription(), message)
-                    .thenAcceptAsync(response -> {
-                        log.info("Push message sent to {}: {}", subscriber.getName(), response);
-                        if (response.getStatusCode() == 410) {
-                            // 구독 정보 만료
-                            log.info("Subscription deletded. expired: {}", subscription);
-                            subscriptionRepository.delete(subscription);
-                        }
-                    })
-                    .exceptionally(e -> {
-                        log.info("Failed to send push message to {}", subscriber.getName(), e);
-                        return null;
-                    });
+        String payload;
+        try {
+            payload = mapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize push message to {}", subscriberId, e);
+            return;
         }
+        sendPushPayload(subscriberId, payload);
     }
 
-    private CompletableFuture<Response> sendPushMessage(Subscription subscription, Object message) {
-        try {
-            Notification notification = new Notification(subscription, mapper.writeValueAsString(message));
-            return pushService.send(notification);
-        } catch (IOException | JoseException | GeneralSecurityException e) {
-            return CompletableFuture.failedFuture(e);
+    /**
+     * 직렬화된 메시지를 회원의 모든 구독에 전송한다. 구독 목록은 캐시에서 먼저 찾는다.
+     */
+    public void sendPushPayload(Long subscriberId, String payload) {
+        for (CachedWebPushSubscription subscription : getSubscriptions(subscriberId)) {
+            webPushDispatcher.dispatch(subscription.id(), subscription.toSubscription(), payload);
         }
     }
+
+    private List<CachedWebPushSubscription> getSubscriptions(Long subscriberId) {
+        return subscriptionCache.get(subscriberId).orElseGet(() -> {
+            List<CachedWebPushSubscription> subscriptions = subscriptionRepository.findAllBySubscriber_Id(subscriberId).stream()
+                    .map(CachedWebPushSubscription::from)
+                    .toList();
+            subscriptionCache.put(subscriberId, subscriptions);
+            return subscriptions;
+        });
+    }
+
+    private void evictSubscriptionsAfterCommit(Long subscriberId) {
+        AfterCommit.run(() -> subscriptionCache.evict(subscriberId));
+    }
 }
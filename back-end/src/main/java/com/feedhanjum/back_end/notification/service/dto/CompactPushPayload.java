@@ -0,0 +1,41 @@
+package com.feedhanjum.back_end.notification.service.dto;
+
+import com.feedhanjum.back_end.notification.domain.*;
+
+/**
+ * 푸시로 전송하는 최소 알림 정보
+ */
+public record CompactPushPayload(
+        String type,
+        Long notificationId,
+        String preview
+) {
+    public static CompactPushPayload from(InAppNotification notification, int previewLength) {
+        String preview = preview(notification);
+        if (preview.length() > previewLength) {
+            preview = preview.substring(0, previewLength);
+        }
+        return new CompactPushPayload(notification.getType(), notification.getId(), preview);
+    }
+
+    private static String preview(InAppNotification notification) {
+        if (notification instanceof FeedbackReceiveNotification n) {
+            return n.getSenderName() + "님이 피드백을 보냈어요";
+        } else if (notification instanceof FeedbackReportCreateNotification n) {
+            return n.getReceiverName() + "님의 피드백 리포트가 생성되었어요";
+        } else if (notification instanceof FrequentFeedbackRequestNotification n) {
+            return n.getSenderName() + "님이 피드백을 요청했어요";
+        } else if (notification instanceof HeartReactionNotification n) {
+            return n.getTeamName() + "에서 보낸 피드백에 하트가 도착했어요";
+        } else if (notification instanceof RegularFeedbackRequestNotification n) {
+            return n.getScheduleName() + " 일정의 회고를 작성해 주세요";
+        } else if (notification instanceof ScheduleCreateNotification n) {
+            return n.getTeamName() + "에 새 일정이 등록되었어요";
+        } else if (notification instanceof TeamLeaderChangeNotification n) {
+            return n.getTeamName() + "의 팀장이 되었어요";
+        } else if (notification instanceof UnreadFeedbackExistNotification) {
+            return "아직 확인하지 않은 피드백이 있어요";
+        }
+        throw new RuntimeException("Unreachable");
+    }
+}
@@ -3,9 +3,12 @@ package com.feedhanjum.back_end.schedule.controller;
 import com.feedhanjum.back_end.auth.infra.Login;
 import com.feedhanjum.back_end.schedule.controller.dto.ScheduleBetweenDurationRequest;
 import com.feedhanjum.back_end.schedule.controller.dto.ScheduleRequest;
+import com.feedhanjum.back_end.schedule.controller.dto.ScheduleSeriesRequest;
 import com.feedhanjum.back_end.schedule.service.ScheduleService;
 import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
 import com.feedhanjum.back_end.schedule.service.dto.ScheduleRequestDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleSeriesRequestDto;
+import com.feedhanjum.back_end.teamplanorchestration.service.ScheduleSeriesService;
 import com.feedhanjum.back_end.teamplanorchestration.service.TeamPlanOrchestrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +16,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -25,6 +31,7 @@ import java.util.List;
 public class ScheduleController {
     private final ScheduleService scheduleService;
     private final TeamPlanOrchestrationService teamPlanOrchestrationService;
+    private final ScheduleSeriesService scheduleSeriesService;
 
     @Operation(summary = "새 일정 만들기", description = "해당 팀의 새로운 일정을 만듭니다.")
     @ApiResponses({
@@ -40,6 +47,50 @@ public class ScheduleController {
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
+    @Operation(summary = "반복 일정 만들기", description = "매주 또는 격주로 반복되는 일정을 만듭니다. 각 회차는 시작 하루 전에 일정으로 만들어집니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "반복 일정 만들기 성공"),
+            @ApiResponse(responseCode = "404", description = "팀 또는 사용자가 존재하지 않을 경우, 혹은 사용자가 해당 팀에 속해있지 않을 경우", content = @Content),
+            @ApiResponse(responseCode = "400", description = "주어진 양식을 지키지 못했을 경우", content = @Content),
+            @ApiResponse(responseCode = "409", description = "이미 첫 일정의 시작시간에 일정이 있을 경우", content = @Content)
+    })
+    @PostMapping("/team/{teamId}/schedule/series")
+    public ResponseEntity<Void> createScheduleSeries(@Login Long memberId, @PathVariable Long teamId, @Valid @RequestBody ScheduleSeriesRequest request) {
+        scheduleSeriesService.createScheduleSeries(memberId, teamId, new ScheduleSeriesRequestDto(request));
+        return new ResponseEntity<>(HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "반복 일정 회차 만들기", description = "아직 만들어지지 않은 반복 일정 회차를 일정으로 만들고 반환합니다. 할 일을 등록하기 전에 호출합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "회차 일정 만들기 성공. 이미 만들어진 경우 해당 일정을 반환함"),
+            @ApiResponse(responseCode = "404", description = "반복 일정이 없거나 사용자가 해당 팀에 속해있지 않을 경우", content = @Content),
+            @ApiResponse(responseCode = "400", description = "반복 일정의 회차가 아니거나 이미 끝난 회차일 경우", content = @Content)
+    })
+    @PostMapping("/team/{teamId}/schedule/series/{seriesId}/occurrence")
+    public ResponseEntity<ScheduleNestedDto> materializeOccurrence(@Login Long memberId,
+                                                                   @PathVariable Long teamId,
+                                                                   @PathVariable Long seriesId,
+                                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime) {
+        Long scheduleId = scheduleSeriesService.materializeOccurrence(memberId, teamId, seriesId, startTime);
+        return new ResponseEntity<>(scheduleService.getSchedule(memberId, teamId, scheduleId), HttpStatus.OK);
+    }
+
+    @Operation(summary = "반복 일정 회차 건너뛰기", description = "아직 만들어지지 않은 반복 일정 회차를 건너뜁니다. 이미 만들어진 회차는 일정 삭제하기로 지웁니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "회차 건너뛰기 성공"),
+            @ApiResponse(responseCode = "403", description = "반복 일정을 만든 사람 혹은 팀장이 아닌 경우", content = @Content),
+            @ApiResponse(responseCode = "404", description = "반복 일정이 없을 경우", content = @Content),
+            @ApiResponse(responseCode = "400", description = "해당 날짜에 회차가 없을 경우", content = @Content)
+    })
+    @DeleteMapping("/team/{teamId}/schedule/series/{seriesId}/occurrence")
+    public ResponseEntity<Void> skipOccurrence(@Login Long memberId,
+                                               @PathVariable Long teamId,
+                                               @PathVariable Long seriesId,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        scheduleSeriesService.skipOccurrence(memberId, teamId, seriesId, date);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     @Operation(summary = "일정 수정하기", description = "특정 일정의 일정/할 일 정보를 수정합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "일정/할 일 정보를 수정에 성공함."),
@@ -0,0 +1,16 @@
+package com.feedhanjum.back_end.schedule.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record ScheduleSeriesRequest(
+        @Schema(description = "일정 이름") @NotBlank @Size(min = 1, max = 20) String name,
+        @Schema(description = "첫 일정 시작 시간") @NotNull LocalDateTime startTime,
+        @Schema(description = "첫 일정 종료 시간") @NotNull LocalDateTime endTime,
+        @Schema(description = "반복 주기(주). 1: 매주, 2: 격주") @Min(1) @Max(2) int intervalWeeks,
+        @Schema(description = "반복 종료 날짜. 폐구간으로 계산됨") @NotNull LocalDate untilDate
+) {
+}
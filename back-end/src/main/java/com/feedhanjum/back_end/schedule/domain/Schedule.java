@@ -15,7 +15,7 @@ import java.util.List;
 
 @SQLRestriction("deleted = false")
 @SQLDelete(sql = "UPDATE schedule SET deleted = true WHERE schedule_id = ?")
-@Table(name = "schedule")
+@Table(name = "schedule", indexes = @Index(name = "idx_schedule_team_id_start_time", columnList = "team_id, startTime"))
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -1,6 +1,6 @@
 package com.feedhanjum.back_end.schedule.domain;
 
-import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequest;
+import com.feedhanjum.back_end.core.domain.IdSequence;
 import com.feedhanjum.back_end.member.domain.Member;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -11,12 +11,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_schedule_member_schedule_member", columnNames = {"schedule_id", "member_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class ScheduleMember {
+    public static final String TODO_ORDER_COLUMN = "todo_order";
+
     @Id
     @Column(name = "schedule_member_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_member_id")
+    @TableGenerator(name = "schedule_member_id", table = IdSequence.TABLE, pkColumnValue = "schedule_member", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.EAGER)
@@ -27,15 +31,13 @@ public class ScheduleMember {
     @JoinColumn(name = "member_id")
     private Member member;
 
-    @OneToMany(mappedBy = "scheduleMember")
-    private final List<RegularFeedbackRequest> regularFeedbackRequests = new ArrayList<>();
-
+    // 순서 컬럼이 있어야 Hibernate가 바뀐 위치의 행만 UPDATE/INSERT/DELETE 한다. 없으면 변경 시마다 전체를 지우고 다시 넣는다.
     @ElementCollection
     @CollectionTable(
             name = "todos",
             joinColumns = @JoinColumn(name = "schedule_member_id")
     )
-
+    @OrderColumn(name = TODO_ORDER_COLUMN)
     private final List<Todo> todos = new ArrayList<>();
 
     public ScheduleMember(Schedule schedule, Member member) {
@@ -43,19 +45,33 @@ public class ScheduleMember {
         setSchedule(schedule);
     }
 
-    public void setTodos(List<Todo> todos){
-        this.todos.clear();
-        if(todos != null){
-            this.todos.addAll(todos);
+    /**
+     * 기존 목록과 위치별로 비교해 바뀐 할 일만 고치고, 늘어난 할 일은 뒤에 추가하고 줄어든 만큼 뒤에서 지운다.
+     * 목록이 같으면 아무 쿼리도 실행되지 않는다.
+     */
+    public void setTodos(List<Todo> todos) {
+        List<Todo> newTodos = todos == null ? List.of() : todos;
+        if (this.todos.equals(newTodos)) {
+            return;
+        }
+        for (int index = 0; index < newTodos.size(); index++) {
+            Todo todo = newTodos.get(index);
+            if (index >= this.todos.size()) {
+                this.todos.add(todo);
+            } else if (!this.todos.get(index).equals(todo)) {
+                this.todos.set(index, todo);
+            }
+        }
+        while (this.todos.size() > newTodos.size()) {
+            this.todos.remove(this.todos.size() - 1);
         }
     }
 
+    // 생성자에서만 호출되므로 일정의 멤버 목록에 이미 들어 있을 수 없다.
+    // contains 로 확인하면 지연 로딩된 멤버 목록을 일정마다 조회하게 되므로 추가만 한다.
     private void setSchedule(Schedule schedule) {
-        if (this.schedule != null) {
-            this.schedule.getScheduleMembers().remove(this);
-        }
         this.schedule = schedule;
-        if (schedule != null && !schedule.getScheduleMembers().contains(this)) {
+        if (schedule != null) {
             schedule.getScheduleMembers().add(this);
         }
     }
@@ -0,0 +1,143 @@
+package com.feedhanjum.back_end.schedule.domain;
+
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.team.domain.Team;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 매주 또는 격주로 반복되는 일정.
+ * 반복 규칙만 저장하고, 각 회차는 시작 직전이나 할 일을 등록할 때 {@link Schedule}로 만든다(materialize).
+ * materializedUntil 이전(포함)에 시작하는 회차는 이미 Schedule로 만들었거나 건너뛴 회차다.
+ */
+@Entity
+@Table(name = "schedule_series")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ScheduleSeries {
+    public static final int MAX_INTERVAL_WEEKS = 2;
+
+    @Id
+    @Column(name = "schedule_series_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    // 첫 회차의 시작, 종료 시각
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private int intervalWeeks;
+
+    // 마지막 회차가 있을 수 있는 날짜 (포함)
+    private LocalDate untilDate;
+
+    private LocalDateTime materializedUntil;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id")
+    private Member owner;
+
+    @ElementCollection
+    @CollectionTable(name = "schedule_series_exception", joinColumns = @JoinColumn(name = "schedule_series_id"))
+    @Column(name = "occurrence_date")
+    private final Set<LocalDate> exceptionDates = new HashSet<>();
+
+    public ScheduleSeries(String name, LocalDateTime startTime, LocalDateTime endTime, int intervalWeeks, LocalDate untilDate, Team team, Member owner) {
+        if (intervalWeeks < 1 || intervalWeeks > MAX_INTERVAL_WEEKS) {
+            throw new IllegalArgumentException("반복 주기는 1주 또는 2주여야 합니다.");
+        }
+        if (untilDate == null || untilDate.isBefore(startTime.toLocalDate())) {
+            throw new IllegalArgumentException("반복 종료 날짜는 첫 일정 날짜 이후여야 합니다.");
+        }
+        this.name = name;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.intervalWeeks = intervalWeeks;
+        this.untilDate = untilDate;
+        this.team = team;
+        this.owner = owner;
+        this.materializedUntil = startTime.minusNanos(1);
+    }
+
+    /**
+     * @return 시작 시각이 from 이상 to 이하인 회차의 시작 시각 목록 (건너뛴 회차, 팀 종료 날짜 이후 회차 제외)
+     */
+    public List<LocalDateTime> getOccurrenceStartTimesBetween(LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> startTimes = new ArrayList<>();
+        long interval = intervalWeeks * 7L;
+        long first = Math.max(0, ceilDiv(ChronoUnit.DAYS.between(startTime.toLocalDate(), from.toLocalDate()), interval));
+        for (long index = first; ; index++) {
+            LocalDateTime occurrence = startTime.plusDays(index * interval);
+            if (occurrence.isAfter(to) || occurrence.toLocalDate().isAfter(getLastDate())) {
+                break;
+            }
+            if (!occurrence.isBefore(from) && !exceptionDates.contains(occurrence.toLocalDate())) {
+                startTimes.add(occurrence);
+            }
+        }
+        return startTimes;
+    }
+
+    /**
+     * @return 아직 Schedule로 만들지 않은 회차 중 시작 시각이 to 이하인 회차의 시작 시각 목록
+     */
+    public List<LocalDateTime> getPendingOccurrenceStartTimesUntil(LocalDateTime to) {
+        return getOccurrenceStartTimesBetween(materializedUntil.plusNanos(1), to);
+    }
+
+    public boolean isOccurrence(LocalDateTime time) {
+        return getOccurrenceStartTimesBetween(time, time).contains(time);
+    }
+
+    public LocalDateTime getOccurrenceEndTime(LocalDateTime occurrenceStartTime) {
+        return occurrenceStartTime.plus(Duration.between(startTime, endTime));
+    }
+
+    public Schedule createOccurrence(LocalDateTime occurrenceStartTime) {
+        if (!isOccurrence(occurrenceStartTime)) {
+            throw new IllegalArgumentException("반복 일정의 회차가 아닙니다.");
+        }
+        return new Schedule(name, occurrenceStartTime, getOccurrenceEndTime(occurrenceStartTime), team, owner);
+    }
+
+    public void skipOccurrence(LocalDate occurrenceDate) {
+        exceptionDates.add(occurrenceDate);
+    }
+
+    public void markMaterializedUntil(LocalDateTime time) {
+        if (time.isAfter(materializedUntil)) {
+            this.materializedUntil = time;
+        }
+    }
+
+    public boolean isOwnerOrLeader(Member member) {
+        return owner.equals(member) || team.getLeader().equals(member);
+    }
+
+    private LocalDate getLastDate() {
+        LocalDate teamEndDate = team.getEndDate();
+        return teamEndDate != null && teamEndDate.isBefore(untilDate) ? teamEndDate : untilDate;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return Math.floorDiv(dividend + divisor - 1, divisor);
+    }
+}
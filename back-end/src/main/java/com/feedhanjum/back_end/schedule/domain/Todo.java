@@ -2,6 +2,7 @@ package com.feedhanjum.back_end.schedule.domain;
 
 import jakarta.persistence.Embeddable;
 import jakarta.validation.constraints.Size;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 @Embeddable
 @NoArgsConstructor
 @Getter
+@EqualsAndHashCode
 public class Todo {
     @Size(min = 1, max = 50)
     private String content;
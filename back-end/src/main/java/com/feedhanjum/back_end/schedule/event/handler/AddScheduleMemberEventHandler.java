@@ -1,12 +1,13 @@
 package com.feedhanjum.back_end.schedule.event.handler;
 
+import com.feedhanjum.back_end.core.event.OrderedByAggregate;
 import com.feedhanjum.back_end.schedule.service.ScheduleService;
 import com.feedhanjum.back_end.team.event.TeamMemberJoinEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @RequiredArgsConstructor
 @Component
@@ -15,8 +16,8 @@ public class AddScheduleMemberEventHandler {
 
     private final ScheduleService scheduleService;
 
-    @Async
-    @EventListener
+    @OrderedByAggregate(key = "#event.teamId()")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void addNewScheduleMember(TeamMemberJoinEvent event) {
         try {
             scheduleService.addNewScheduleMembership(event.memberId(), event.teamId());
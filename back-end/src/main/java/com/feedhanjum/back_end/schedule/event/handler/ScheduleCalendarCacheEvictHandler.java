@@ -0,0 +1,35 @@
+package com.feedhanjum.back_end.schedule.event.handler;
+
+import com.feedhanjum.back_end.core.config.EventConfig;
+import com.feedhanjum.back_end.member.event.MemberNameChangedEvent;
+import com.feedhanjum.back_end.schedule.service.ScheduleCalendarService;
+import com.feedhanjum.back_end.team.event.TeamLeaderChangedEvent;
+import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 달력 캐시에 담긴 팀장, 멤버 이름이 바뀌면 관련 팀의 캐시를 무효화한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ScheduleCalendarCacheEvictHandler {
+    private final ScheduleCalendarService scheduleCalendarService;
+    private final TeamMemberRepository teamMemberRepository;
+
+    @Async(EventConfig.SCHEDULE_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLeaderChanged(TeamLeaderChangedEvent event) {
+        scheduleCalendarService.evictTeamAfterCommit(event.teamId());
+    }
+
+    @Async(EventConfig.SCHEDULE_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberNameChanged(MemberNameChangedEvent event) {
+        teamMemberRepository.findTeamIdsByMemberId(event.memberId())
+                .forEach(scheduleCalendarService::evictTeamAfterCommit);
+    }
+}
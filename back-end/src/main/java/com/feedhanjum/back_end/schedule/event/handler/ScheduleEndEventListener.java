@@ -1,5 +1,6 @@
 package com.feedhanjum.back_end.schedule.event.handler;
 
+import com.feedhanjum.back_end.core.config.EventConfig;
 import com.feedhanjum.back_end.feedback.service.FeedbackService;
 import com.feedhanjum.back_end.schedule.event.ScheduleEndedEvent;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class ScheduleEndEventListener {
     private final FeedbackService feedbackService;
 
-    @Async
+    @Async(EventConfig.SCHEDULE_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(ScheduleEndedEvent event) {
         Long scheduleId = event.scheduleId();
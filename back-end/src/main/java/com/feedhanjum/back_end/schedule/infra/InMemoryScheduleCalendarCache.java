@@ -0,0 +1,77 @@
+package com.feedhanjum.back_end.schedule.infra;
+
+import com.feedhanjum.back_end.schedule.service.dto.NearestSchedulesDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 환경에서 Redis 대신 사용하는 일정 캐시
+ */
+@Component
+@Profile("test")
+public class InMemoryScheduleCalendarCache implements ScheduleCalendarCache {
+    private final Map<Long, Map<YearMonth, List<ScheduleNestedDto>>> cache = new ConcurrentHashMap<>();
+    private final Map<Long, NearestSchedulesDto> nearestCache = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<YearMonth, List<ScheduleNestedDto>> getAll(Long teamId, Collection<YearMonth> months) {
+        Map<YearMonth, List<ScheduleNestedDto>> teamCache = cache.getOrDefault(teamId, Map.of());
+        Map<YearMonth, List<ScheduleNestedDto>> result = new HashMap<>();
+        for (YearMonth month : months) {
+            List<ScheduleNestedDto> schedules = teamCache.get(month);
+            if (schedules != null) {
+                result.put(month, schedules);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long getVersion(Long teamId) {
+        return versions.getOrDefault(teamId, 0L);
+    }
+
+    @Override
+    public synchronized void putAll(Long teamId, long version, Map<YearMonth, List<ScheduleNestedDto>> schedulesByMonth) {
+        if (getVersion(teamId) != version) {
+            return;
+        }
+        Map<YearMonth, List<ScheduleNestedDto>> teamCache = cache.computeIfAbsent(teamId, id -> new ConcurrentHashMap<>());
+        schedulesByMonth.forEach((month, schedules) -> teamCache.put(month, List.copyOf(schedules)));
+    }
+
+    @Override
+    public Optional<NearestSchedulesDto> getNearest(Long teamId) {
+        return Optional.ofNullable(nearestCache.get(teamId));
+    }
+
+    @Override
+    public synchronized void putNearest(Long teamId, long version, NearestSchedulesDto nearestSchedules) {
+        if (getVersion(teamId) == version) {
+            nearestCache.put(teamId, nearestSchedules);
+        }
+    }
+
+    @Override
+    public synchronized void evict(Long teamId, Collection<YearMonth> months) {
+        versions.merge(teamId, 1L, Long::sum);
+        nearestCache.remove(teamId);
+        Map<YearMonth, List<ScheduleNestedDto>> teamCache = cache.get(teamId);
+        if (teamCache != null) {
+            months.forEach(teamCache::remove);
+        }
+    }
+
+    @Override
+    public synchronized void evictTeam(Long teamId) {
+        versions.merge(teamId, 1L, Long::sum);
+        nearestCache.remove(teamId);
+        cache.remove(teamId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.feedhanjum.back_end.schedule.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedhanjum.back_end.schedule.service.dto.NearestSchedulesDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀마다 해시 하나에 월(yyyy-MM)별 일정 목록과 가장 가까운 일정(nearest)을 저장하고,
+ * 버전은 팀 전체 무효화로 지워지지 않도록 별도의 정수(schedule_calendar_version:{teamId})로 저장한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisScheduleCalendarCache implements ScheduleCalendarCache {
+    private static final String KEY_PREFIX = "schedule_calendar:";
+    private static final String VERSION_KEY_PREFIX = "schedule_calendar_version:";
+    private static final String NEAREST_FIELD = "nearest";
+    // 일정/멤버십 변경 시 명시적으로 무효화하므로 TTL은 누락된 무효화에 대한 안전장치.
+    // 버전은 일정을 읽는 동안에만 유지되면 되므로 같은 TTL을 쓴다.
+    private static final long EXPIRE_HOURS = 1;
+    private static final TypeReference<List<ScheduleNestedDto>> TYPE = new TypeReference<>() {
+    };
+
+    // 버전 확인과 저장을 하나의 스크립트로 실행해 확인 직후의 무효화를 덮어쓰지 않도록 함
+    // ARGV: 버전, TTL(초), 필드와 값을 번갈아
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            """
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // ARGV: TTL(초), 지울 필드... 필드가 없으면 해시를 통째로 지운다
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            """
+            if #ARGV > 1 then
+                redis.call('HDEL', KEYS[1], unpack(ARGV, 2))
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper mapper;
+
+    @Override
+    public Map<YearMonth, List<ScheduleNestedDto>> getAll(Long teamId, Collection<YearMonth> months) {
+        List<YearMonth> monthList = List.copyOf(months);
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + teamId,
+                monthList.stream().<Object>map(YearMonth::toString).toList());
+        Map<YearMonth, List<ScheduleNestedDto>> result = new HashMap<>();
+        for (int i = 0; i < monthList.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                result.put(monthList.get(i), mapper.readValue((String) value, TYPE));
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to read cached schedules of team {} in {}", teamId, monthList.get(i), e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long getVersion(Long teamId) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + teamId);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    @Override
+    public void putAll(Long teamId, long version, Map<YearMonth, List<ScheduleNestedDto>> schedulesByMonth) {
+        Map<String, String> values = new HashMap<>();
+        try {
+            for (Map.Entry<YearMonth, List<ScheduleNestedDto>> entry : schedulesByMonth.entrySet()) {
+                values.put(entry.getKey().toString(), mapper.writeValueAsString(entry.getValue()));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache schedules of team {}", teamId, e);
+            return;
+        }
+        put(teamId, version, values);
+    }
+
+    @Override
+    public Optional<NearestSchedulesDto> getNearest(Long teamId) {
+        Object value = redisTemplate.opsForHash().get(KEY_PREFIX + teamId, NEAREST_FIELD);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(mapper.readValue((String) value, NearestSchedulesDto.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read cached nearest schedules of team {}", teamId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void putNearest(Long teamId, long version, NearestSchedulesDto nearestSchedules) {
+        String value;
+        try {
+            value = mapper.writeValueAsString(nearestSchedules);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache nearest schedules of team {}", teamId, e);
+            return;
+        }
+        put(teamId, version, Map.of(NEAREST_FIELD, value));
+    }
+
+    @Override
+    public void evict(Long teamId, Collection<YearMonth> months) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TimeUnit.HOURS.toSeconds(EXPIRE_HOURS)));
+        args.add(NEAREST_FIELD);
+        months.forEach(month -> args.add(month.toString()));
+        redisTemplate.execute(EVICT_SCRIPT, keys(teamId), args.toArray());
+    }
+
+    @Override
+    public void evictTeam(Long teamId) {
+        redisTemplate.execute(EVICT_SCRIPT, keys(teamId), String.valueOf(TimeUnit.HOURS.toSeconds(EXPIRE_HOURS)));
+    }
+
+    private void put(Long teamId, long version, Map<String, String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(version));
+        args.add(String.valueOf(TimeUnit.HOURS.toSeconds(EXPIRE_HOURS)));
+        values.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        redisTemplate.execute(PUT_SCRIPT, keys(teamId), args.toArray());
+    }
+
+    private List<String> keys(Long teamId) {
+        return List.of(KEY_PREFIX + teamId, VERSION_KEY_PREFIX + teamId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.feedhanjum.back_end.schedule.infra;
+
+import com.feedhanjum.back_end.schedule.service.dto.NearestSchedulesDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 팀별, 월별(일정 종료 시각 기준) 일정 목록과 팀의 가장 가까운 일정 캐시.
+ * 무효화할 때마다 팀의 버전이 올라가며, 읽기 전에 가져온 버전이 그대로일 때만 저장해
+ * 무효화 이전에 읽은 일정이 무효화 이후에 다시 캐싱되지 않도록 한다.
+ */
+public interface ScheduleCalendarCache {
+
+    /**
+     * @return 캐시에 있는 월의 일정 목록. 없는 월은 결과에 포함되지 않는다.
+     */
+    Map<YearMonth, List<ScheduleNestedDto>> getAll(Long teamId, Collection<YearMonth> months);
+
+    /**
+     * @return 팀의 현재 버전. DB에서 일정을 읽기 전에 가져와 {@link #putAll}, {@link #putNearest}에 넘긴다.
+     */
+    long getVersion(Long teamId);
+
+    /**
+     * 팀의 버전이 version 그대로일 때만 저장한다.
+     */
+    void putAll(Long teamId, long version, Map<YearMonth, List<ScheduleNestedDto>> schedulesByMonth);
+
+    Optional<NearestSchedulesDto> getNearest(Long teamId);
+
+    /**
+     * 팀의 버전이 version 그대로일 때만 저장한다.
+     */
+    void putNearest(Long teamId, long version, NearestSchedulesDto nearestSchedules);
+
+    /**
+     * 해당 월의 일정 목록과 함께 가장 가까운 일정도 무효화한다.
+     */
+    void evict(Long teamId, Collection<YearMonth> months);
+
+    void evictTeam(Long teamId);
+}
@@ -0,0 +1,70 @@
+package com.feedhanjum.back_end.schedule.infra;
+
+import com.feedhanjum.back_end.core.domain.DelayedJob;
+import com.feedhanjum.back_end.core.domain.JobRecord;
+import com.feedhanjum.back_end.core.repository.JobRecordRepository;
+import com.feedhanjum.back_end.core.service.DelayedJobService;
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종료된 일정을 주기적으로 찾아 종료 이벤트를 발행하던 이전 방식에서 일정별 종료 작업(DelayedJob)으로 옮긴다.
+ * 이전 방식이 마지막으로 처리한 시각(previousFinishTime) 이후에 끝났거나 끝날 일정의 종료 작업을 등록하므로,
+ * 마지막 처리와 배포 사이에 끝난 일정도 작업을 읽어 들이는 즉시 종료 이벤트가 발행된다.
+ * 옮긴 뒤 이전 작업 기록을 지우므로 시작 시 기록이 남아 있을 때만 한 번 실행된다.
+ */
+@Slf4j
+@Component
+public class ScheduleEndJobMigration implements ApplicationRunner {
+    private final JobRecordRepository jobRecordRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final DelayedJobService delayedJobService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ScheduleEndJobMigration(JobRecordRepository jobRecordRepository,
+                                   ScheduleRepository scheduleRepository,
+                                   DelayedJobService delayedJobService,
+                                   PlatformTransactionManager transactionManager) {
+        this.jobRecordRepository = jobRecordRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.delayedJobService = delayedJobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Integer migrated = transactionTemplate.execute(status -> migrate());
+            if (migrated != null && migrated > 0) {
+                log.info("Registered schedule end jobs for legacy schedules. schedules: {}", migrated);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 같은 일정의 작업이 동시에 등록됨. 작업 기록이 남아 있으므로 다음 시작 시 다시 옮긴다.
+            log.warn("Failed to register schedule end jobs for legacy schedules", e);
+        }
+    }
+
+    private int migrate() {
+        // 작업 기록을 잠가 여러 노드가 동시에 시작해도 한 노드만 옮긴다
+        Optional<JobRecord> jobRecord = jobRecordRepository.findByIdForUpdate(JobRecord.JobName.SCHEDULE);
+        if (jobRecord.isEmpty()) {
+            return 0;
+        }
+        List<Schedule> schedules = scheduleRepository.findByEndTimeAfter(jobRecord.get().getPreviousFinishTime());
+        for (Schedule schedule : schedules) {
+            delayedJobService.scheduleIfAbsent(DelayedJob.JobType.SCHEDULE_END, schedule.getId(), schedule.getEndTime());
+        }
+        jobRecordRepository.delete(jobRecord.get());
+        return schedules.size();
+    }
+}
@@ -0,0 +1,55 @@
+package com.feedhanjum.back_end.schedule.infra;
+
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 순서 컬럼(todo_order)이 생기기 전에 저장된 할 일 행에 순서를 채운다.
+ * 순서가 비어 있는 행은 목록으로 읽을 수 없으므로, 요청을 받기 전인 빈 초기화 단계에서 실행한다.
+ * 행을 구분할 키가 없으므로 일정 멤버별로 지우고 읽은 순서대로 다시 넣는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@DependsOn("entityManagerFactory")
+public class TodoOrderInitializer implements InitializingBean {
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        List<Long> scheduleMemberIds = jdbcTemplate.queryForList(
+                "select distinct schedule_member_id from todos where " + ScheduleMember.TODO_ORDER_COLUMN + " is null", Long.class);
+        for (int from = 0; from < scheduleMemberIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = scheduleMemberIds.subList(from, Math.min(from + CHUNK_SIZE, scheduleMemberIds.size()));
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::reorder));
+        }
+        if (!scheduleMemberIds.isEmpty()) {
+            log.info("Filled todo order. schedule members: {}", scheduleMemberIds.size());
+        }
+    }
+
+    private void reorder(Long scheduleMemberId) {
+        List<String> contents = jdbcTemplate.queryForList(
+                "select content from todos where schedule_member_id = ? and " + ScheduleMember.TODO_ORDER_COLUMN + " is null",
+                String.class, scheduleMemberId);
+        jdbcTemplate.update("delete from todos where schedule_member_id = ? and " + ScheduleMember.TODO_ORDER_COLUMN + " is null",
+                scheduleMemberId);
+        List<Object[]> rows = new ArrayList<>();
+        for (int order = 0; order < contents.size(); order++) {
+            rows.add(new Object[]{scheduleMemberId, contents.get(order), order});
+        }
+        jdbcTemplate.batchUpdate("insert into todos (schedule_member_id, content, " + ScheduleMember.TODO_ORDER_COLUMN + ") values (?, ?, ?)", rows);
+    }
+}
@@ -6,12 +6,30 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleMemberRepository extends JpaRepository<ScheduleMember, Long> {
 
     Optional<ScheduleMember> findByMemberIdAndScheduleId(Long memberId, Long scheduleId);
 
+    /**
+     * 일정 멤버를 schedule_member_id 순으로 정렬했을 때 해당 멤버의 위치
+     */
+    long countByScheduleIdAndIdLessThan(Long scheduleId, Long scheduleMemberId);
+
+    @Query("select sm from ScheduleMember sm join fetch sm.member where sm.schedule.id = :scheduleId order by sm.id")
+    List<ScheduleMember> findAllByScheduleIdOrderById(Long scheduleId);
+
+    /**
+     * 해당 멤버가 이미 속해 있는, endTime 이후(포함)에 끝나는 팀 일정 ID 목록
+     */
+    @Query("select sm.schedule.id from ScheduleMember sm " +
+            "where sm.member.id = :memberId " +
+            "  and sm.schedule.team.id = :teamId " +
+            "  and sm.schedule.endTime >= :endTime")
+    List<Long> findScheduleIdsByMemberIdAndTeamIdAndEndTimeGreaterThanEqual(Long memberId, Long teamId, LocalDateTime endTime);
+
     @Modifying(clearAutomatically = true)
     @Query("delete from ScheduleMember sm " +
             "where sm.member.id = :memberId " +
@@ -1,8 +1,10 @@
 package com.feedhanjum.back_end.schedule.repository;
 
 import com.feedhanjum.back_end.schedule.repository.dto.ScheduleProjectionDto;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -11,8 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import static com.feedhanjum.back_end.member.domain.QMember.member;
 import static com.feedhanjum.back_end.schedule.domain.QSchedule.schedule;
@@ -24,12 +25,13 @@ import static com.feedhanjum.back_end.team.domain.QTeamMember.teamMember;
 @Repository
 @RequiredArgsConstructor
 public class ScheduleQueryRepository {
+    private static final int TODO_QUERY_CHUNK_SIZE = 1000;
+
     private final JPAQueryFactory queryFactory;
 
     public List<ScheduleProjectionDto> findScheduleTodoList(Long scheduleId, Long memberId) {
-        return queryScheduleProjectionDto()
-                .where(schedule.id.eq(scheduleId), memberIdEq(memberId))
-                .fetch();
+        return fetchWithTodos(queryScheduleProjectionDto()
+                .where(schedule.id.eq(scheduleId), memberIdEq(memberId)));
     }
 
     public List<ScheduleProjectionDto> findScheduleByClosestNextStartTime(Long teamId, LocalDateTime time) {
@@ -41,9 +43,8 @@ public class ScheduleQueryRepository {
 
         if(closestNextScheduleId == null) return List.of();
 
-        return queryScheduleProjectionDto()
-                .where(schedule.id.eq(closestNextScheduleId))
-                .fetch();
+        return fetchWithTodos(queryScheduleProjectionDto()
+                .where(schedule.id.eq(closestNextScheduleId)));
     }
 
     public List<ScheduleProjectionDto> findScheduleByClosestPreviousEndTime(Long teamId, LocalDateTime time) {
@@ -55,9 +56,8 @@ public class ScheduleQueryRepository {
 
         if(closestPreviousSchedule == null) return List.of();
 
-        return queryScheduleProjectionDto()
-                .where(schedule.id.eq(closestPreviousSchedule))
-                .fetch();
+        return fetchWithTodos(queryScheduleProjectionDto()
+                .where(schedule.id.eq(closestPreviousSchedule)));
     }
 
 
@@ -68,9 +68,8 @@ public class ScheduleQueryRepository {
                 .join(teamMember.team, team)
                 .join(teamMember.member, member)
                 .where(teamIdEq(teamId), memberIdEq(memberId));
-        return queryScheduleProjectionDto()
-                .where(schedule.team.id.in(subQuery), schedule.endTime.between(startTime, endTime))
-                .fetch();
+        return fetchWithTodos(queryScheduleProjectionDto()
+                .where(schedule.team.id.in(subQuery), schedule.endTime.between(startTime, endTime)));
     }
 
     public Optional<LocalDateTime> findEarliestStartTimeByTeamId(Long teamId) {
@@ -81,6 +80,17 @@ public class ScheduleQueryRepository {
                 .fetchFirst());
     }
 
+    /**
+     * @return time 이후(포함)에 끝나는 팀 일정 중 가장 먼저 끝나는 일정의 종료 시각
+     */
+    public Optional<LocalDateTime> findEarliestEndTimeAfter(Long teamId, LocalDateTime time) {
+        return Optional.ofNullable(queryFactory.select(schedule.endTime)
+                .from(schedule)
+                .where(schedule.team.id.eq(teamId), schedule.endTime.goe(time))
+                .orderBy(schedule.endTime.asc())
+                .fetchFirst());
+    }
+
     public Optional<LocalDateTime> findLatestEndTimeByTeamId(Long teamId){
         return Optional.ofNullable(queryFactory.select(schedule.endTime)
                 .from(schedule)
@@ -98,6 +108,36 @@ public class ScheduleQueryRepository {
         return teamId == null ? null : team.id.eq(teamId);
     }
 
+    /**
+     * 일정 멤버 행을 조회한 뒤, 할 일을 일정 멤버 ID IN 쿼리로 따로 읽어 채운다.
+     * 할 일을 함께 조인하면 할 일 수만큼 일정, 팀, 멤버 컬럼이 반복된 행이 만들어지므로 나누어 조회한다.
+     */
+    private List<ScheduleProjectionDto> fetchWithTodos(JPAQuery<ScheduleProjectionDto> query) {
+        List<ScheduleProjectionDto> rows = query.fetch();
+        List<Long> scheduleMemberIds = rows.stream().map(ScheduleProjectionDto::getScheduleMemberId).toList();
+        Map<Long, List<String>> todosByScheduleMemberId = findTodosByScheduleMemberIds(scheduleMemberIds);
+        rows.forEach(row -> row.setTodos(todosByScheduleMemberId.getOrDefault(row.getScheduleMemberId(), List.of())));
+        return rows;
+    }
+
+    private Map<Long, List<String>> findTodosByScheduleMemberIds(List<Long> scheduleMemberIds) {
+        Map<Long, List<String>> todosByScheduleMemberId = new HashMap<>();
+        for (int from = 0; from < scheduleMemberIds.size(); from += TODO_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = scheduleMemberIds.subList(from, Math.min(from + TODO_QUERY_CHUNK_SIZE, scheduleMemberIds.size()));
+            List<Tuple> todos = queryFactory.select(scheduleMember.id, todo.content)
+                    .from(scheduleMember)
+                    .join(scheduleMember.todos, todo)
+                    .where(scheduleMember.id.in(chunk))
+                    .orderBy(scheduleMember.id.asc(), Expressions.numberTemplate(Integer.class, "index({0})", todo).asc())
+                    .fetch();
+            for (Tuple row : todos) {
+                todosByScheduleMemberId.computeIfAbsent(row.get(scheduleMember.id), id -> new ArrayList<>())
+                        .add(row.get(todo.content));
+            }
+        }
+        return todosByScheduleMemberId;
+    }
+
     private JPAQuery<ScheduleProjectionDto> queryScheduleProjectionDto() {
         return queryFactory.select(Projections.constructor(
                         ScheduleProjectionDto.class,
@@ -111,13 +151,11 @@ public class ScheduleQueryRepository {
                         schedule.endTime,
                         member.id,
                         member.name,
-                        scheduleMember.id,
-                        todo.content
+                        scheduleMember.id
                 ))
                 .from(scheduleMember)
                 .join(scheduleMember.schedule, schedule)
                 .join(schedule.team, team)
-                .leftJoin(scheduleMember.todos, todo)
                 .join(scheduleMember.member, member);
     }
 }
@@ -1,7 +1,10 @@
 package com.feedhanjum.back_end.schedule.repository;
 
 import com.feedhanjum.back_end.schedule.domain.Schedule;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
@@ -13,9 +16,22 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     @Query("select s from Schedule s join fetch s.scheduleMembers m join fetch m.member where s.id = :id")
     Optional<Schedule> findByIdWithMembers(Long id);
 
-    Optional<Schedule> findByTeamIdAndStartTime(Long teamId, LocalDateTime startTime);
+    /**
+     * @param dayStart startTime이 속한 날의 시작 시각. 겹치는 일정은 같은 날 시작하므로 인덱스 범위를 그날로 좁힌다.
+     */
+    @Query("select s from Schedule s where s.team.id = :teamId and s.startTime >= :dayStart and s.startTime < :endTime and s.endTime > :startTime order by s.startTime")
+    List<Schedule> findOverlapping(Long teamId, LocalDateTime dayStart, LocalDateTime startTime, LocalDateTime endTime);
 
-    List<Schedule> findByEndTimeBetween(LocalDateTime endTimeAfter, LocalDateTime endTimeBefore);
+    List<Schedule> findByEndTimeAfter(LocalDateTime endTime);
 
     List<Schedule> findAllByTeam_IdAndEndTimeGreaterThanEqual(Long teamId, LocalDateTime now);
+
+    /**
+     * 팀 기간(startTime 이상, endTime 이하) 밖의 일정을 공유 락을 걸고 읽는다. 커밋된 최신 일정까지 보인다.
+     *
+     * @param endTime null이면 종료 제한 없음
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select s from Schedule s where s.team.id = :teamId and (s.startTime < :startTime or (:endTime is not null and s.endTime > :endTime))")
+    List<Schedule> findOutsidePeriodForShare(Long teamId, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable);
 }
\ No newline at end of file
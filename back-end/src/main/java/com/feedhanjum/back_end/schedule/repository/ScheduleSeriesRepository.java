@@ -0,0 +1,33 @@
+package com.feedhanjum.back_end.schedule.repository;
+
+import com.feedhanjum.back_end.schedule.domain.ScheduleSeries;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduleSeriesRepository extends JpaRepository<ScheduleSeries, Long> {
+
+    /**
+     * 회차가 from 날짜와 to 시각 사이에 있을 수 있는 팀의 반복 일정 목록
+     */
+    @Query("select ss from ScheduleSeries ss join fetch ss.team " +
+            "where ss.team.id = :teamId and ss.startTime <= :to and ss.untilDate >= :from")
+    List<ScheduleSeries> findAllByTeamIdAndPeriod(Long teamId, LocalDate from, LocalDateTime to);
+
+    /**
+     * time 까지 Schedule로 만들지 않은 회차가 남아 있을 수 있는 반복 일정의 ID 목록
+     */
+    @Query("select ss.id from ScheduleSeries ss where ss.materializedUntil < :time and ss.untilDate >= :today")
+    List<Long> findIdsToMaterialize(LocalDateTime time, LocalDate today);
+
+    // 회차를 만들거나 건너뛰는 동안 다른 요청이 같은 반복 일정의 회차를 바꾸지 못하도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select ss from ScheduleSeries ss join fetch ss.team where ss.id = :id")
+    Optional<ScheduleSeries> findByIdForUpdate(Long id);
+}
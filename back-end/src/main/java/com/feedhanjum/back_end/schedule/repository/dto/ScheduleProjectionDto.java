@@ -1,12 +1,15 @@
 package com.feedhanjum.back_end.schedule.repository.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * 일정 멤버 한 명당 한 행. 할 일 목록은 별도 쿼리로 채운다.
+ */
 @Data
-@AllArgsConstructor
 public class ScheduleProjectionDto {
     private Long teamId;
     private String teamName;
@@ -19,5 +22,20 @@ public class ScheduleProjectionDto {
     private Long memberId;
     private String memberName;
     private Long scheduleMemberId;
-    private String todo;
+    private List<String> todos = new ArrayList<>();
+
+    public ScheduleProjectionDto(Long teamId, String teamName, Long leaderId, Long scheduleId, String scheduleName, Long ownerId,
+                                 LocalDateTime startTime, LocalDateTime endTime, Long memberId, String memberName, Long scheduleMemberId) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.leaderId = leaderId;
+        this.scheduleId = scheduleId;
+        this.scheduleName = scheduleName;
+        this.ownerId = ownerId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.scheduleMemberId = scheduleMemberId;
+    }
 }
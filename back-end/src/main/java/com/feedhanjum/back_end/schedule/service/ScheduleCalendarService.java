@@ -0,0 +1,163 @@
+package com.feedhanjum.back_end.schedule.service;
+
+import com.feedhanjum.back_end.core.infra.AfterCommit;
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberQueryRepository;
+import com.feedhanjum.back_end.schedule.domain.ScheduleSeries;
+import com.feedhanjum.back_end.schedule.infra.ScheduleCalendarCache;
+import com.feedhanjum.back_end.schedule.repository.ScheduleQueryRepository;
+import com.feedhanjum.back_end.schedule.repository.ScheduleSeriesRepository;
+import com.feedhanjum.back_end.schedule.service.dto.NearestSchedulesDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 달력 조회용 일정 목록을 팀별, 월별(일정 종료 시각 기준)로 캐싱한다.
+ * 기간 조회는 기간에 걸친 월의 캐시를 모아 만들고, 캐시에 없는 월만 한 번의 쿼리로 읽어 채운다.
+ * 아직 Schedule로 만들지 않은 반복 일정 회차는 월 목록을 읽을 때 규칙으로 펼쳐 함께 담는다.
+ * 홈 화면에서 쓰는 팀의 가장 가까운 다음/이전 일정도 함께 캐싱한다.
+ * 일정 생성/수정/삭제 시 해당 월과 가장 가까운 일정을, 멤버십/팀 정보/멤버 이름 변경 시 팀 전체를 커밋 이후 무효화한다.
+ * 일정을 읽는 동안 팀의 캐시가 무효화되면 읽은 일정은 캐싱하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleCalendarService {
+    private final ScheduleCalendarCache scheduleCalendarCache;
+    private final ScheduleQueryRepository scheduleQueryRepository;
+    private final ScheduleSeriesRepository scheduleSeriesRepository;
+    private final MemberQueryRepository memberQueryRepository;
+
+    /**
+     * @return 종료 시각이 startTime과 endTime 사이인 팀 일정 목록 (시작 시각 순)
+     */
+    public List<ScheduleNestedDto> getSchedules(Collection<Long> teamIds, LocalDateTime startTime, LocalDateTime endTime) {
+        List<YearMonth> months = monthsBetween(startTime, endTime);
+        List<ScheduleNestedDto> result = new ArrayList<>();
+        for (Long teamId : teamIds) {
+            getMonthlySchedules(teamId, months).values().stream()
+                    .flatMap(List::stream)
+                    .filter(schedule -> !schedule.getEndTime().isBefore(startTime) && !schedule.getEndTime().isAfter(endTime))
+                    .forEach(result::add);
+        }
+        result.sort(Comparator.comparing(ScheduleNestedDto::getStartTime)
+                .thenComparing(ScheduleNestedDto::getScheduleId, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /**
+     * 캐시된 값이 now 시점에 유효하지 않으면(다음 일정이 시작됐거나 새로 끝난 일정이 있으면) 다시 계산한다.
+     */
+    public NearestSchedulesDto getNearestSchedules(Long teamId, LocalDateTime now) {
+        Optional<NearestSchedulesDto> cached = scheduleCalendarCache.getNearest(teamId);
+        if (cached.isPresent() && cached.get().isValidAt(now)) {
+            return cached.get();
+        }
+
+        long version = scheduleCalendarCache.getVersion(teamId);
+        ScheduleNestedDto nextSchedule = ScheduleNestedDto.from(scheduleQueryRepository.findScheduleByClosestNextStartTime(teamId, now))
+                .stream().findFirst().orElse(null);
+        ScheduleNestedDto previousSchedule = ScheduleNestedDto.from(scheduleQueryRepository.findScheduleByClosestPreviousEndTime(teamId, now))
+                .stream().findFirst().orElse(null);
+        LocalDateTime validUntil = scheduleQueryRepository.findEarliestEndTimeAfter(teamId, now).orElse(null);
+        if (nextSchedule != null && (validUntil == null || nextSchedule.getStartTime().isBefore(validUntil))) {
+            validUntil = nextSchedule.getStartTime();
+        }
+
+        NearestSchedulesDto nearestSchedules = new NearestSchedulesDto(nextSchedule, previousSchedule, validUntil);
+        scheduleCalendarCache.putNearest(teamId, version, nearestSchedules);
+        return nearestSchedules;
+    }
+
+    /**
+     * 일정 종료 시각이 속한 월과 가장 가까운 일정의 캐시를 커밋 이후 무효화한다.
+     */
+    public void evictAfterCommit(Long teamId, LocalDateTime... scheduleEndTimes) {
+        Set<YearMonth> months = Arrays.stream(scheduleEndTimes)
+                .filter(Objects::nonNull)
+                .map(YearMonth::from)
+                .collect(Collectors.toSet());
+        AfterCommit.run(() -> scheduleCalendarCache.evict(teamId, months));
+    }
+
+    public void evictTeamAfterCommit(Long teamId) {
+        AfterCommit.run(() -> scheduleCalendarCache.evictTeam(teamId));
+    }
+
+    private Map<YearMonth, List<ScheduleNestedDto>> getMonthlySchedules(Long teamId, List<YearMonth> months) {
+        Map<YearMonth, List<ScheduleNestedDto>> schedulesByMonth = new HashMap<>(scheduleCalendarCache.getAll(teamId, months));
+        List<YearMonth> missingMonths = months.stream()
+                .filter(month -> !schedulesByMonth.containsKey(month))
+                .toList();
+        if (missingMonths.isEmpty()) {
+            return schedulesByMonth;
+        }
+
+        // 버전은 DB를 읽기 전에 가져와야 읽는 도중의 무효화를 알아챌 수 있다
+        long version = scheduleCalendarCache.getVersion(teamId);
+        // 없는 월 사이의 월도 함께 읽히므로 모두 채워 둔다
+        YearMonth firstMonth = missingMonths.get(0);
+        YearMonth lastMonth = missingMonths.get(missingMonths.size() - 1);
+        Map<YearMonth, List<ScheduleNestedDto>> loaded = new HashMap<>();
+        for (YearMonth month : monthsBetween(firstMonth.atDay(1).atStartOfDay(), lastMonth.atEndOfMonth().atStartOfDay())) {
+            loaded.put(month, new ArrayList<>());
+        }
+        LocalDateTime from = firstMonth.atDay(1).atStartOfDay();
+        LocalDateTime to = lastMonth.atEndOfMonth().atTime(LocalTime.MAX);
+        List<ScheduleNestedDto> schedules = ScheduleNestedDto.from(scheduleQueryRepository.findSchedulesByTeamIdAndDuration(null, teamId, from, to));
+        schedules.addAll(expandOccurrences(teamId, from, to, schedules));
+        schedules.forEach(schedule -> loaded.get(YearMonth.from(schedule.getEndTime())).add(schedule));
+        scheduleCalendarCache.putAll(teamId, version, loaded);
+
+        missingMonths.forEach(month -> schedulesByMonth.put(month, loaded.get(month)));
+        return schedulesByMonth;
+    }
+
+    // 종료 시각이 from과 to 사이인, 아직 만들지 않은 반복 일정 회차. 시간이 겹치는 일정이 이미 있으면 제외한다.
+    private List<ScheduleNestedDto> expandOccurrences(Long teamId, LocalDateTime from, LocalDateTime to, List<ScheduleNestedDto> schedules) {
+        // 일정은 하루 안에 끝나므로 하루 전에 시작한 회차까지 본다
+        List<ScheduleSeries> seriesList = scheduleSeriesRepository.findAllByTeamIdAndPeriod(teamId, from.toLocalDate().minusDays(1), to);
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        List<ScheduleNestedDto> occupied = new ArrayList<>(schedules);
+        List<Member> teamMembers = memberQueryRepository.findMembersByTeamId(teamId);
+        List<ScheduleNestedDto> occurrences = new ArrayList<>();
+        for (ScheduleSeries series : seriesList) {
+            // materializedUntil 이전 회차는 이미 일정으로 만들었거나 건너뛴 회차다
+            LocalDateTime searchFrom = from.minusDays(1);
+            if (series.getMaterializedUntil().isAfter(searchFrom)) {
+                searchFrom = series.getMaterializedUntil().plusNanos(1);
+            }
+            for (LocalDateTime startTime : series.getOccurrenceStartTimesBetween(searchFrom, to)) {
+                LocalDateTime endTime = series.getOccurrenceEndTime(startTime);
+                if (endTime.isBefore(from) || endTime.isAfter(to) || overlaps(occupied, startTime, endTime)) {
+                    continue;
+                }
+                ScheduleNestedDto occurrence = ScheduleNestedDto.ofOccurrence(series, startTime, teamMembers);
+                occupied.add(occurrence);
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    private boolean overlaps(List<ScheduleNestedDto> schedules, LocalDateTime startTime, LocalDateTime endTime) {
+        return schedules.stream()
+                .anyMatch(schedule -> schedule.getStartTime().isBefore(endTime) && schedule.getEndTime().isAfter(startTime));
+    }
+
+    private List<YearMonth> monthsBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(startTime); !month.isAfter(YearMonth.from(endTime)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+}
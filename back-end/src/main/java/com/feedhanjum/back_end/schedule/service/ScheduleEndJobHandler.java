@@ -0,0 +1,31 @@
+package com.feedhanjum.back_end.schedule.service;
+
+import com.feedhanjum.back_end.core.domain.DelayedJob;
+import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.core.service.DelayedJobHandler;
+import com.feedhanjum.back_end.schedule.event.ScheduleEndedEvent;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 종료 시각에 일정 종료 이벤트를 발행한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ScheduleEndJobHandler implements DelayedJobHandler {
+    private final ScheduleRepository scheduleRepository;
+    private final EventPublisher eventPublisher;
+
+    @Override
+    public DelayedJob.JobType getJobType() {
+        return DelayedJob.JobType.SCHEDULE_END;
+    }
+
+    @Override
+    public void handle(Long scheduleId) {
+        if (scheduleRepository.existsById(scheduleId)) {
+            eventPublisher.publishEvent(new ScheduleEndedEvent(scheduleId));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.feedhanjum.back_end.schedule.service;
+
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 팀 일정과 시간이 겹치는 일정을 찾는다.
+ * 일정은 시작한 날 안에 끝나므로 겹치는 일정은 모두 같은 날 시작한다.
+ * (team_id, startTime) 인덱스로 그날 시작한 일정만 읽으므로, 팀의 전체 일정 수와 관계없이 O(log n + k)로 찾는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleOverlapService {
+    private final ScheduleRepository scheduleRepository;
+
+    /**
+     * @return startTime과 endTime 사이에 걸친 팀 일정 목록 (시작 시각 순). 한쪽 끝이 맞닿기만 한 일정은 겹치지 않는 것으로 본다.
+     */
+    public List<Schedule> findOverlappingSchedules(Long teamId, LocalDateTime startTime, LocalDateTime endTime) {
+        return scheduleRepository.findOverlapping(teamId, startTime.toLocalDate().atStartOfDay(), startTime, endTime);
+    }
+
+    /**
+     * 일정 시간을 바꿀 때 자기 자신을 제외하고 겹치는 일정을 찾는다.
+     */
+    public List<Schedule> findOverlappingSchedules(Long teamId, LocalDateTime startTime, LocalDateTime endTime, Long excludeScheduleId) {
+        return findOverlappingSchedules(teamId, startTime, endTime).stream()
+                .filter(schedule -> !Objects.equals(schedule.getId(), excludeScheduleId))
+                .toList();
+    }
+}
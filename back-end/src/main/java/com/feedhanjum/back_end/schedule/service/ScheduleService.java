@@ -1,26 +1,25 @@
 package com.feedhanjum.back_end.schedule.service;
 
-import com.feedhanjum.back_end.core.domain.JobRecord;
-import com.feedhanjum.back_end.core.event.EventPublisher;
-import com.feedhanjum.back_end.core.repository.JobRecordRepository;
-import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestQueryRepository;
+import com.feedhanjum.back_end.core.domain.DelayedJob;
+import com.feedhanjum.back_end.core.service.DelayedJobService;
+import com.feedhanjum.back_end.feedback.service.PendingRegularFeedbackService;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberQueryRepository;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.schedule.domain.Schedule;
 import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
-import com.feedhanjum.back_end.schedule.event.ScheduleEndedEvent;
 import com.feedhanjum.back_end.schedule.exception.ScheduleIsAlreadyEndException;
 import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleQueryRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
 import com.feedhanjum.back_end.schedule.repository.dto.ScheduleProjectionDto;
-import com.feedhanjum.back_end.schedule.service.dto.ScheduleMemberNestedDto;
+import com.feedhanjum.back_end.schedule.service.dto.NearestSchedulesDto;
 import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
 import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.TeamMembershipService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -30,10 +29,9 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -47,53 +45,54 @@ public class ScheduleService {
     private final MemberRepository memberRepository;
     private final ScheduleQueryRepository scheduleQueryRepository;
     private final MemberQueryRepository memberQueryRepository;
-    private final JobRecordRepository jobRecordRepository;
-    private final EventPublisher eventPublisher;
-    private final RegularFeedbackRequestQueryRepository regularFeedbackRequestQueryRepository;
+    private final PendingRegularFeedbackService pendingRegularFeedbackService;
+    private final DelayedJobService delayedJobService;
+    private final ScheduleCalendarService scheduleCalendarService;
+    private final TeamMembershipService teamMembershipService;
 
 
     @Transactional(readOnly = true)
     public ScheduleNestedDto getSchedule(Long memberId, Long teamId, Long scheduleId) {
-        Team team = teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
-        memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
-        teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId).orElseThrow(() -> new TeamMembershipNotFoundException("해당 팀에 속해있지 않습니다."));
+        teamMembershipService.validateTeamMember(memberId, teamId);
 
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new EntityNotFoundException("해당 일정을 찾을 수 없습니다."));
-        if (!schedule.getTeam().equals(team)) {
+        if (!schedule.getTeam().getId().equals(teamId)) {
             throw new TeamMembershipNotFoundException("해당 팀에 속해있지 않습니다.");
         }
         List<ScheduleProjectionDto> scheduleTodoList = scheduleQueryRepository.findScheduleTodoList(scheduleId, null);
 
-        return getScheduleNestedDtos(scheduleTodoList).stream().findFirst().orElse(null);
+        return ScheduleNestedDto.from(scheduleTodoList).stream().findFirst().orElse(null);
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleNestedDto> getScheduleDurations(Long memberId, Long teamId, LocalDate startDay, LocalDate endDay) {
-        memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
         if (teamId != null) {
+            teamMembershipService.validateTeamMember(memberId, teamId);
+        } else {
             memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
-            teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId).orElseThrow(() -> new TeamMembershipNotFoundException("해당 팀에 속해있지 않습니다."));
         }
         if (startDay.isAfter(endDay)) {
             throw new IllegalArgumentException("시작 날짜는 종료 날짜 이전이어야 합니다.");
         }
         LocalDateTime startTime = startDay.atStartOfDay();
         LocalDateTime endTime = endDay.atTime(LocalTime.MAX);
-        List<ScheduleProjectionDto> schedulesByTeamIdAndDuration = scheduleQueryRepository.findSchedulesByTeamIdAndDuration(memberId, teamId, startTime, endTime);
+        List<Long> teamIds = teamId != null ? List.of(teamId) : teamMemberRepository.findTeamIdsByMemberId(memberId);
 
-        return getScheduleNestedDtos(schedulesByTeamIdAndDuration);
+        return scheduleCalendarService.getSchedules(teamIds, startTime, endTime);
     }
 
+    /**
+     * 팀 멤버십, 팀별 가장 가까운 일정, 멤버별 정기 피드백 요청 여부를 모두 캐시로 판단하므로, 캐시가 있으면 DB를 조회하지 않는다.
+     */
     @Transactional(readOnly = true)
     public ScheduleNestedDto getNearestSchedule(Long memberId, Long teamId) {
-        validateTeamMember(memberId, teamId);
+        teamMembershipService.validateTeamMember(memberId, teamId);
 
         LocalDateTime now = LocalDateTime.now(clock);
 
-        ScheduleNestedDto nextSchedule = getScheduleNestedDtos(scheduleQueryRepository.findScheduleByClosestNextStartTime(teamId, now))
-                .stream().findFirst().orElse(null);
-        ScheduleNestedDto previousSchedule = getScheduleNestedDtos(scheduleQueryRepository.findScheduleByClosestPreviousEndTime(teamId, now))
-                .stream().findFirst().orElse(null);
+        NearestSchedulesDto nearestSchedules = scheduleCalendarService.getNearestSchedules(teamId, now);
+        ScheduleNestedDto nextSchedule = nearestSchedules.getNextSchedule();
+        ScheduleNestedDto previousSchedule = nearestSchedules.getPreviousSchedule();
 
         // 가까운 미래 일정이 1일 이내라면 바로 반환
         if (nextSchedule != null && nextSchedule.getStartTime().isBefore(now.plusDays(1)))
@@ -101,7 +100,7 @@ public class ScheduleService {
 
         // 지난 일정이 1일 이내이고, 처리하지 않은 정기 피드백 요청이 존재한다면 이전 일정 반환
         if (previousSchedule != null && previousSchedule.getEndTime().isAfter(now.minusDays(1))
-                && regularFeedbackRequestQueryRepository.getRegularFeedbackRequestCount(memberId, previousSchedule.getScheduleId()) > 0) {
+                && pendingRegularFeedbackService.hasPendingRequest(memberId, previousSchedule.getScheduleId())) {
             return previousSchedule;
         }
 
@@ -109,20 +108,6 @@ public class ScheduleService {
         return nextSchedule;
     }
 
-    @Transactional
-    public void endSchedules() {
-        LocalDateTime now = truncateToNearestTenMinutes(LocalDateTime.now(clock));
-        JobRecord jobRecord = jobRecordRepository.findById(JobRecord.JobName.SCHEDULE)
-                .orElseGet(() -> new JobRecord(JobRecord.JobName.SCHEDULE));
-
-        List<Schedule> schedules = scheduleRepository.findByEndTimeBetween(jobRecord.getPreviousFinishTime().plusSeconds(1), now);
-        for (Schedule schedule : schedules) {
-            eventPublisher.publishEvent(new ScheduleEndedEvent(schedule.getId()));
-        }
-        jobRecord.updatePreviousFinishTime(now);
-        jobRecordRepository.save(jobRecord);
-    }
-
     /**
      * Retrieves the earliest start time among all schedules for a given team.
      *
@@ -153,21 +138,30 @@ public class ScheduleService {
         return scheduleQueryRepository.findLatestEndTimeByTeamId(teamId).orElse(null);
     }
 
+    /**
+     * 아직 끝나지 않은 팀 일정 중 해당 멤버가 없는 일정에 멤버를 추가한다.
+     * 이미 속한 일정은 한 번의 쿼리로 걸러내고, 새 일정 멤버는 배치 INSERT로 저장한다.
+     */
     @Transactional
     public void addNewScheduleMembership(Long memberId, Long teamId) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new EntityNotFoundException("Team with ID " + teamId + " does not exist"));
-        List<Schedule> relatedSchedule = scheduleRepository.findAllByTeam_IdAndEndTimeGreaterThanEqual(teamId, LocalDateTime.now(clock));
+        if (!teamRepository.existsById(teamId)) {
+            throw new EntityNotFoundException("Team with ID " + teamId + " does not exist");
+        }
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("Member with ID " + memberId + " does not exist"));
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Schedule> relatedSchedule = scheduleRepository.findAllByTeam_IdAndEndTimeGreaterThanEqual(teamId, now);
         if (relatedSchedule.isEmpty()) {
             return;  // Early return if no schedules need updating
         }
+        Set<Long> joinedScheduleIds = new HashSet<>(
+                scheduleMemberRepository.findScheduleIdsByMemberIdAndTeamIdAndEndTimeGreaterThanEqual(memberId, teamId, now));
         List<ScheduleMember> scheduleMembers = relatedSchedule.stream()
-                .filter(schedule -> scheduleMemberRepository.findByMemberIdAndScheduleId(member.getId(), schedule.getId()).isEmpty())
+                .filter(schedule -> !joinedScheduleIds.contains(schedule.getId()))
                 .map(schedule -> new ScheduleMember(schedule, member))
                 .toList();
         scheduleMemberRepository.saveAll(scheduleMembers);
+        scheduleCalendarService.evictTeamAfterCommit(teamId);
     }
 
     @Transactional
@@ -179,6 +173,7 @@ public class ScheduleService {
             throw new EntityNotFoundException("Member with ID " + memberId + " does not exist");
         }
         scheduleMemberRepository.deleteScheduleMembersByMemberIdAndTeamIdAfterNow(memberId, teamId, LocalDateTime.now(clock));
+        scheduleCalendarService.evictTeamAfterCommit(teamId);
     }
 
     @Transactional
@@ -194,39 +189,7 @@ public class ScheduleService {
         }
         if (schedule.isEnd()) throw new ScheduleIsAlreadyEndException("일정이 이미 종료되었습니다.");
         scheduleRepository.delete(schedule);
-    }
-
-    private LocalDateTime truncateToNearestTenMinutes(LocalDateTime dateTime) {
-        int minute = dateTime.getMinute();
-        int truncatedMinute = (minute / 10) * 10;
-        return dateTime.withMinute(truncatedMinute).withSecond(0).withNano(0);
-    }
-
-    private List<ScheduleNestedDto> getScheduleNestedDtos(List<ScheduleProjectionDto> schedules) {
-        Map<Long, ScheduleNestedDto> scheduleNestedDtoMap = new HashMap<>();
-        Map<Long, ScheduleMemberNestedDto> scheduleMemberNestedDtoMap = new HashMap<>();
-
-        for (ScheduleProjectionDto dto : schedules) {
-            Long scheduleId = dto.getScheduleId();
-            Long scheduleMemberId = dto.getScheduleMemberId();
-
-            ScheduleNestedDto scheduleNestedDto = scheduleNestedDtoMap.computeIfAbsent(scheduleId, id -> new ScheduleNestedDto(dto));
-            ScheduleMemberNestedDto scheduleMemberNestedDto;
-            if (scheduleMemberNestedDtoMap.get(scheduleMemberId) == null) {
-                scheduleMemberNestedDto = new ScheduleMemberNestedDto(dto);
-                scheduleMemberNestedDtoMap.put(scheduleMemberId, scheduleMemberNestedDto);
-                scheduleNestedDto.addScheduleMemberNestedDto(scheduleMemberNestedDto);
-            }
-            scheduleMemberNestedDto = scheduleMemberNestedDtoMap.get(scheduleMemberId);
-
-            if (dto.getTodo() != null) scheduleMemberNestedDto.addTodo(dto.getTodo());
-        }
-        return new ArrayList<>(scheduleNestedDtoMap.values());
-    }
-
-    private void validateTeamMember(Long memberId, Long teamId) {
-        teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
-        memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
-        teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId).orElseThrow(() -> new TeamMembershipNotFoundException("해당 팀에 속해있지 않습니다."));
+        delayedJobService.cancel(DelayedJob.JobType.SCHEDULE_END, scheduleId);
+        scheduleCalendarService.evictAfterCommit(teamId, schedule.getEndTime());
     }
 }
@@ -0,0 +1,24 @@
+package com.feedhanjum.back_end.schedule.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀의 가장 가까운 다음 일정과 이전 일정.
+ * validUntil 이 되면 다음 일정이 시작되거나 이전 일정이 바뀌므로 다시 계산해야 한다. null이면 일정이 바뀌기 전까지 유효하다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearestSchedulesDto {
+    private ScheduleNestedDto nextSchedule;
+    private ScheduleNestedDto previousSchedule;
+    private LocalDateTime validUntil;
+
+    public boolean isValidAt(LocalDateTime time) {
+        return validUntil == null || time.isBefore(validUntil);
+    }
+}
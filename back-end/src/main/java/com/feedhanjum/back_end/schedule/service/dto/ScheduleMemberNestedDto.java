@@ -1,13 +1,16 @@
 package com.feedhanjum.back_end.schedule.service.dto;
 
+import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.schedule.repository.dto.ScheduleProjectionDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 @Schema(description = "스케줄 멤버 및 할 일 목록 데이터를 포함하는 DTO")
 public class ScheduleMemberNestedDto{
 
@@ -23,6 +26,12 @@ public class ScheduleMemberNestedDto{
     public ScheduleMemberNestedDto(ScheduleProjectionDto scheduleProjectionDto){
         memberId = scheduleProjectionDto.getMemberId();
         memberName = scheduleProjectionDto.getMemberName();
+        todoList = new ArrayList<>(scheduleProjectionDto.getTodos());
+    }
+
+    public ScheduleMemberNestedDto(Member member) {
+        memberId = member.getId();
+        memberName = member.getName();
     }
 
     public void addTodo(String todo){
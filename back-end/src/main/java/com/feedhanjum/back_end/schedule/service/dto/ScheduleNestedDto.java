@@ -1,17 +1,25 @@
 package com.feedhanjum.back_end.schedule.service.dto;
 
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.schedule.domain.ScheduleSeries;
 import com.feedhanjum.back_end.schedule.repository.dto.ScheduleProjectionDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Data
+@NoArgsConstructor
 public class ScheduleNestedDto{
-    @Schema(description = "일정 ID")
+    @Schema(description = "일정 ID. 아직 만들어지지 않은 반복 일정 회차는 null")
     private Long scheduleId;
+    @Schema(description = "아직 만들어지지 않은 반복 일정 회차의 반복 일정 ID. 회차를 만들어야 할 일을 등록할 수 있다.")
+    private Long seriesId;
     @Schema(description = "일정 이름")
     private String scheduleName;
     @Schema(description = "일정 시작 시간")
@@ -40,7 +48,36 @@ public class ScheduleNestedDto{
         ownerId = scheduleProjectionDto.getOwnerId();
     }
 
+    /**
+     * 아직 Schedule로 만들지 않은 반복 일정 회차. 팀원 전체가 할 일 없이 포함된다.
+     */
+    public static ScheduleNestedDto ofOccurrence(ScheduleSeries series, LocalDateTime occurrenceStartTime, List<Member> teamMembers) {
+        ScheduleNestedDto dto = new ScheduleNestedDto();
+        dto.seriesId = series.getId();
+        dto.scheduleName = series.getName();
+        dto.startTime = occurrenceStartTime;
+        dto.endTime = series.getOccurrenceEndTime(occurrenceStartTime);
+        dto.teamId = series.getTeam().getId();
+        dto.teamName = series.getTeam().getName();
+        dto.leaderId = series.getTeam().getLeader().getId();
+        dto.ownerId = series.getOwner().getId();
+        teamMembers.forEach(member -> dto.addScheduleMemberNestedDto(new ScheduleMemberNestedDto(member)));
+        return dto;
+    }
+
     public void addScheduleMemberNestedDto(ScheduleMemberNestedDto scheduleMemberNestedDto){
         scheduleMemberNestedDtoList.add(scheduleMemberNestedDto);
     }
+
+    /**
+     * 일정 멤버 행 목록을 일정별로 묶는다.
+     */
+    public static List<ScheduleNestedDto> from(List<ScheduleProjectionDto> scheduleMembers) {
+        Map<Long, ScheduleNestedDto> scheduleNestedDtoMap = new LinkedHashMap<>();
+        for (ScheduleProjectionDto dto : scheduleMembers) {
+            scheduleNestedDtoMap.computeIfAbsent(dto.getScheduleId(), id -> new ScheduleNestedDto(dto))
+                    .addScheduleMemberNestedDto(new ScheduleMemberNestedDto(dto));
+        }
+        return new ArrayList<>(scheduleNestedDtoMap.values());
+    }
 }
@@ -0,0 +1,17 @@
+package com.feedhanjum.back_end.schedule.service.dto;
+
+import com.feedhanjum.back_end.schedule.controller.dto.ScheduleSeriesRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ScheduleSeriesRequestDto(String name, LocalDateTime startTime, LocalDateTime endTime, int intervalWeeks, LocalDate untilDate) {
+    public ScheduleSeriesRequestDto(ScheduleSeriesRequest request) {
+        this(request.name(), request.startTime(), request.endTime(), request.intervalWeeks(), request.untilDate());
+    }
+
+    public ScheduleRequestDto toFirstScheduleRequestDto() {
+        return new ScheduleRequestDto(name, startTime, endTime, List.of());
+    }
+}
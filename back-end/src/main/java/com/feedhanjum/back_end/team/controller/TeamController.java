@@ -8,6 +8,7 @@ import com.feedhanjum.back_end.team.controller.dto.*;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.domain.TeamJoinToken;
 import com.feedhanjum.back_end.team.service.TeamService;
+import com.feedhanjum.back_end.team.service.TeamSummaryService;
 import com.feedhanjum.back_end.team.service.dto.TeamCreateDto;
 import com.feedhanjum.back_end.team.service.dto.TeamUpdateDto;
 import com.feedhanjum.back_end.teamplanorchestration.service.TeamPlanOrchestrationService;
@@ -30,6 +31,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TeamController {
     private final TeamService teamService;
+    private final TeamSummaryService teamSummaryService;
     private final MemberService memberService;
     private final ScheduleService scheduleService;
     private final TeamPlanOrchestrationService teamPlanOrchestrationService;
@@ -48,15 +50,15 @@ public class TeamController {
         return new ResponseEntity<>(new TeamResponse(team), HttpStatus.CREATED);
     }
 
-    @Operation(summary = "내가 속한 팀 조회", description = "현재 로그인한 사용자가 가입한 모든 팀을 조회한다.")
+    @Operation(summary = "내가 속한 팀 조회", description = "현재 로그인한 사용자가 가입한 모든 팀을 팀 멤버 수, 사용자의 역할과 함께 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회에 성공한 경우")
     })
     @GetMapping("/my-teams")
-    public ResponseEntity<List<TeamResponse>> getMyTeams(@Login Long memberId) {
-        List<TeamResponse> teams = teamService.getMyTeams(memberId)
+    public ResponseEntity<List<TeamSummaryResponse>> getMyTeams(@Login Long memberId) {
+        List<TeamSummaryResponse> teams = teamSummaryService.getMyTeams(memberId)
                 .stream()
-                .map(TeamResponse::new)
+                .map(TeamSummaryResponse::new)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(teams);
     }
@@ -161,14 +163,14 @@ public class TeamController {
         return ResponseEntity.ok(TeamJoinTokenResponse.from(joinToken));
     }
 
-    @Operation(summary = "팀 가입 토큰으로 팀 정보 조회", description = "주어진 팀 가입 토큰을 이용해 기본 팀 정보를 조회한다.")
+    @Operation(summary = "팀 가입 토큰으로 팀 정보 조회", description = "주어진 팀 가입 토큰을 이용해 기본 팀 정보를 조회한다. 토큰 발급 시점의 팀 정보를 반환한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "팀 정보 조회에 성공한 경우"),
             @ApiResponse(responseCode = "404", description = "유효하지 않은 토큰으로 요청하거나, 만료된 경우", content = @Content)
     })
     @GetMapping("/find")
     public ResponseEntity<TeamResponse> getTeamByJoinToken(@RequestParam String token) {
-        Team team = teamService.getTeamByJoinToken(token);
+        TeamJoinToken.TeamSnapshot team = teamService.getTeamByJoinToken(token);
         return ResponseEntity.ok(new TeamResponse(team));
     }
 
@@ -3,6 +3,7 @@ package com.feedhanjum.back_end.team.controller.dto;
 import com.feedhanjum.back_end.feedback.domain.FeedbackType;
 import com.feedhanjum.back_end.member.controller.dto.MemberResponse;
 import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.domain.TeamJoinToken;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -35,4 +36,14 @@ public record TeamResponse(
                 team.getFeedbackType(),
                 new MemberResponse(team.getLeader()));
     }
+
+    public TeamResponse(TeamJoinToken.TeamSnapshot team) {
+        this(
+                team.id(),
+                team.name(),
+                team.startDate(),
+                team.endDate(),
+                team.feedbackType(),
+                new MemberResponse(team.leaderId(), team.leaderName(), team.leaderEmail(), team.leaderProfileImage()));
+    }
 }
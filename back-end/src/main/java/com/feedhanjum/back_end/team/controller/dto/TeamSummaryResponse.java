@@ -0,0 +1,45 @@
+package com.feedhanjum.back_end.team.controller.dto;
+
+import com.feedhanjum.back_end.feedback.domain.FeedbackType;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+public record TeamSummaryResponse(
+        @Schema(description = "팀 고유 ID")
+        Long id,
+
+        @Schema(description = "팀 이름")
+        String name,
+
+        @Schema(description = "팀 시작 날짜")
+        LocalDate startDate,
+
+        @Schema(description = "팀 종료 날짜")
+        LocalDate endDate,
+
+        @Schema(description = "피드백 유형")
+        FeedbackType feedbackType,
+
+        @Schema(description = "팀장 ID")
+        Long leaderId,
+
+        @Schema(description = "팀 멤버 수")
+        long memberCount,
+
+        @Schema(description = "조회한 사용자의 팀 내 역할")
+        TeamSummaryDto.Role role
+) {
+    public TeamSummaryResponse(TeamSummaryDto teamSummary) {
+        this(
+                teamSummary.teamId(),
+                teamSummary.name(),
+                teamSummary.startDate(),
+                teamSummary.endDate(),
+                teamSummary.feedbackType(),
+                teamSummary.leaderId(),
+                teamSummary.memberCount(),
+                teamSummary.role());
+    }
+}
@@ -1,7 +1,6 @@
 package com.feedhanjum.back_end.team.domain;
 
 import com.feedhanjum.back_end.feedback.domain.FeedbackType;
-import com.feedhanjum.back_end.feedback.domain.FrequentFeedbackRequest;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.team.exception.TeamEndedException;
 import com.feedhanjum.back_end.team.exception.TeamLeaderMustExistException;
@@ -11,6 +10,7 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -22,7 +22,7 @@ import java.util.List;
 
 
 @SQLRestriction("deleted = false")
-@SQLDelete(sql = "UPDATE team SET deleted = true WHERE team_id = ?")
+@SQLDelete(sql = "UPDATE team SET deleted = true WHERE team_id = ? AND version = ?")
 @Table(name = "team")
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -37,6 +37,10 @@ public class Team {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 팀 정보(이름, 기간, 팀장 등)를 바꿀 때만 올라간다. 멤버 목록의 변경은 버전에 포함하지 않는다.
+    @Version
+    private long version;
+
     private String name;
 
     private LocalDate startDate;
@@ -50,12 +54,10 @@ public class Team {
     @JoinColumn(name = "leader_id", nullable = false)
     private Member leader;
 
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<TeamMember> teamMembers = new ArrayList<>();
 
-    @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
-    private final List<FrequentFeedbackRequest> frequentFeedbackRequests = new ArrayList<>();
-
     public Team(String name, Member leader, LocalDate startDate, LocalDate endDate, FeedbackType feedbackType, LocalDate now) {
         validateDuration(startDate, endDate, now);
         this.feedbackType = feedbackType;
@@ -109,42 +111,10 @@ public class Team {
         return teamMembers.size();
     }
 
-    // 수시 피드백 요청
-    public void requestFeedback(Member requestSender, Member requestReceiver, String requestedContent) {
-        validateTeamMember(requestSender);
-        validateTeamMember(requestReceiver);
-        this.frequentFeedbackRequests.removeIf(request -> requestSender.equals(request.getSender()) && requestReceiver.equals(request.getReceiver()));
-        this.frequentFeedbackRequests.add(new FrequentFeedbackRequest(requestedContent, requestSender, this, requestReceiver));
-    }
-
-    // 모든 수시 피드백 요청 거절
-    public void rejectFeedbackRequests(Member requestReceiver) {
-        validateTeamMember(requestReceiver);
-        this.frequentFeedbackRequests.removeIf(request -> requestReceiver.equals(request.getReceiver()));
-    }
-
-    // 특정 수시 피드백 요청 거절
-    public void removeFeedbackRequest(Member requestSender, Member requestReceiver) {
-        validateTeamMember(requestSender);
-        validateTeamMember(requestReceiver);
-        this.frequentFeedbackRequests.removeIf(request -> requestSender.equals(request.getSender()) && requestReceiver.equals(request.getReceiver()));
-    }
-
-    public List<FrequentFeedbackRequest> getFeedbackRequests(Member receiver) {
-        validateTeamMember(receiver);
-        return this.frequentFeedbackRequests.stream()
-                .filter(request -> receiver.equals(request.getReceiver()))
-                .toList();
-    }
-
     public List<TeamMember> getTeamMembers() {
         return Collections.unmodifiableList(teamMembers);
     }
 
-    public List<FrequentFeedbackRequest> getFrequentFeedbackRequests() {
-        return Collections.unmodifiableList(frequentFeedbackRequests);
-    }
-
 
     public boolean isTeamMember(Member member) {
         return teamMembers.stream().anyMatch(teamMember -> member.equals(teamMember.getMember()));
@@ -154,7 +124,7 @@ public class Team {
         if (now.isAfter(endDate.plusDays(1).atStartOfDay()))
             throw new TeamEndedException("팀이 이미 종료되었습니다");
         validateTeamMember(member);
-        return TeamJoinToken.createToken(this);
+        return TeamJoinToken.createToken(this, now);
     }
 
     private boolean isTeamLeader(Member leader) {
@@ -1,36 +1,37 @@
 package com.feedhanjum.back_end.team.domain;
 
+import com.feedhanjum.back_end.feedback.domain.FeedbackType;
 import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.domain.ProfileImage;
 import com.feedhanjum.back_end.team.exception.TeamEndedException;
 import com.feedhanjum.back_end.team.exception.TeamJoinTokenNotValidException;
-import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * 팀 가입 토큰. 초대 링크로 팀 정보를 보여줄 때 DB를 읽지 않도록 발급 시점의 팀 정보(team)를 함께 담는다.
+ * 만료 시각(expireDate)이 지나면 저장소에서 사라진다.
+ */
+@Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Entity
 public class TeamJoinToken {
     public static final Integer EXPIRATION_HOURS = 24;
-    @Getter
-    @Id
+
     private String token;
 
-    @Getter(AccessLevel.PRIVATE)
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "team_id")
-    private Team team;
+    private TeamSnapshot team;
 
-    @Getter
     private LocalDateTime expireDate;
 
-    private TeamJoinToken(String token, Team team) {
+    private TeamJoinToken(String token, TeamSnapshot team, LocalDateTime expireDate) {
         this.token = token;
         this.team = team;
-        this.expireDate = LocalDateTime.now().plusHours(EXPIRATION_HOURS);
+        this.expireDate = expireDate;
     }
 
     private static String createToken() {
@@ -38,29 +39,61 @@ public class TeamJoinToken {
     }
 
     // 새로운 토큰 발급
-    static TeamJoinToken createToken(Team team) {
-        return new TeamJoinToken(createToken(), team);
+    static TeamJoinToken createToken(Team team, LocalDateTime now) {
+        return new TeamJoinToken(createToken(), TeamSnapshot.from(team), now.plusHours(EXPIRATION_HOURS));
     }
 
-    // 연관 팀에 가입
-    public Team joinTeam(Member member) {
-        validate();
-        Team team = getTeam();
+    /**
+     * 연관 팀에 가입. 발급 이후 팀 기간이 바뀌었을 수 있으므로 종료 여부는 현재 팀 정보로 확인한다.
+     *
+     * @param team 토큰의 팀 ID로 조회한 팀
+     */
+    public void joinTeam(Team team, Member member, LocalDateTime now) {
+        validateNotExpired(now);
+        validateNotEnded(team.getEndDate(), now);
         team.join(member);
+    }
+
+    /**
+     * @return 발급 시점의 팀 정보
+     */
+    public TeamSnapshot getTeamInfo(LocalDateTime now) {
+        validateNotExpired(now);
+        validateNotEnded(team.endDate(), now);
         return team;
     }
 
-    public Team getTeamInfo() {
-        validate();
-        return getTeam();
+    public boolean isExpired(LocalDateTime now) {
+        return expireDate.isBefore(now);
     }
 
-    private void validate() {
-        if (getExpireDate().isBefore(LocalDateTime.now())) {
+    private void validateNotExpired(LocalDateTime now) {
+        if (isExpired(now)) {
             throw new TeamJoinTokenNotValidException();
         }
-        if (team.getEndDate().plusDays(1).atStartOfDay().isBefore(LocalDateTime.now())) {
+    }
+
+    private void validateNotEnded(LocalDate endDate, LocalDateTime now) {
+        if (endDate.plusDays(1).atStartOfDay().isBefore(now)) {
             throw new TeamEndedException("팀 스페이스가 이미 종료되었습니다.");
         }
     }
+
+    public record TeamSnapshot(
+            Long id,
+            String name,
+            LocalDate startDate,
+            LocalDate endDate,
+            FeedbackType feedbackType,
+            Long leaderId,
+            String leaderName,
+            String leaderEmail,
+            ProfileImage leaderProfileImage
+    ) {
+        static TeamSnapshot from(Team team) {
+            Member leader = team.getLeader();
+            return new TeamSnapshot(team.getId(), team.getName(), team.getStartDate(), team.getEndDate(), team.getFeedbackType(),
+                    leader.getId(), leader.getName(), leader.getEmail(), leader.getProfileImage());
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.feedhanjum.back_end.team.event.handler;
+
+import com.feedhanjum.back_end.team.event.TeamMemberJoinEvent;
+import com.feedhanjum.back_end.team.event.TeamMemberLeftEvent;
+import com.feedhanjum.back_end.team.service.TeamMembershipService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팀 멤버가 바뀌면 팀 멤버십 캐시를 무효화한다.
+ * 탈퇴, 추방, 마지막 멤버 탈퇴로 인한 팀 삭제는 모두 TeamMemberLeftEvent로 발행된다.
+ * 탈퇴한 멤버가 캐시로 접근할 수 있는 시간을 줄이기 위해 비동기로 넘기지 않고 커밋 직후 바로 무효화한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TeamMembershipCacheEvictHandler {
+    private final TeamMembershipService teamMembershipService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberJoined(TeamMemberJoinEvent event) {
+        teamMembershipService.evict(event.teamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberLeft(TeamMemberLeftEvent event) {
+        teamMembershipService.evict(event.teamId());
+    }
+}
@@ -0,0 +1,36 @@
+package com.feedhanjum.back_end.team.event.handler;
+
+import com.feedhanjum.back_end.team.event.TeamLeaderChangedEvent;
+import com.feedhanjum.back_end.team.event.TeamMemberJoinEvent;
+import com.feedhanjum.back_end.team.event.TeamMemberLeftEvent;
+import com.feedhanjum.back_end.team.service.TeamSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팀 멤버나 팀장이 바뀌면 팀 멤버 모두의 팀 요약 캐시를 무효화한다.
+ * 가입/탈퇴한 멤버는 바로 팀 목록에서 결과를 확인하므로 비동기로 넘기지 않는다.
+ * 발행 기록은 리스너 메서드 이름으로 구분하므로 이벤트마다 메서드 이름을 다르게 둔다.
+ */
+@RequiredArgsConstructor
+@Component
+public class TeamSummaryCacheEvictHandler {
+    private final TeamSummaryService teamSummaryService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberJoined(TeamMemberJoinEvent event) {
+        teamSummaryService.evictTeam(event.teamId(), event.memberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberLeft(TeamMemberLeftEvent event) {
+        teamSummaryService.evictTeam(event.teamId(), event.memberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLeaderChanged(TeamLeaderChangedEvent event) {
+        teamSummaryService.evictTeam(event.teamId());
+    }
+}
@@ -0,0 +1,44 @@
+package com.feedhanjum.back_end.team.infra;
+
+import com.feedhanjum.back_end.team.domain.TeamJoinToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 환경에서 Redis 대신 사용하는 팀 가입 토큰 저장소.
+ * 만료된 토큰은 조회할 때와 새 토큰을 저장할 때 제거한다.
+ */
+@RequiredArgsConstructor
+@Component
+@Profile("test")
+public class InMemoryTeamJoinTokenStore implements TeamJoinTokenStore {
+    private final Map<String, TeamJoinToken> tokens = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    @Override
+    public void save(TeamJoinToken joinToken) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        tokens.values().removeIf(token -> token.isExpired(now));
+        tokens.put(joinToken.getToken(), joinToken);
+    }
+
+    @Override
+    public Optional<TeamJoinToken> find(String token) {
+        TeamJoinToken joinToken = tokens.get(token);
+        if (joinToken == null) {
+            return Optional.empty();
+        }
+        if (joinToken.isExpired(LocalDateTime.now(clock))) {
+            tokens.remove(token, joinToken);
+            return Optional.empty();
+        }
+        return Optional.of(joinToken);
+    }
+}
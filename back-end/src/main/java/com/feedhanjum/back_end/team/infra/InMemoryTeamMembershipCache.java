@@ -0,0 +1,44 @@
+package com.feedhanjum.back_end.team.infra;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 환경에서 Redis 대신 사용하는 팀 멤버십 캐시.
+ * 멤버 ID를 정렬된 long 배열로 저장해 이진 탐색한다.
+ */
+@Component
+@Profile("test")
+public class InMemoryTeamMembershipCache implements TeamMembershipCache {
+    private final Map<Long, long[]> cache = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean containsMember(Long teamId, Long memberId) {
+        long[] memberIds = cache.get(teamId);
+        return memberIds != null && Arrays.binarySearch(memberIds, memberId) >= 0;
+    }
+
+    @Override
+    public long getVersion(Long teamId) {
+        return versions.getOrDefault(teamId, 0L);
+    }
+
+    @Override
+    public synchronized void put(Long teamId, long version, Collection<Long> memberIds) {
+        if (getVersion(teamId) == version) {
+            cache.put(teamId, memberIds.stream().mapToLong(Long::longValue).sorted().toArray());
+        }
+    }
+
+    @Override
+    public synchronized void evict(Long teamId) {
+        versions.merge(teamId, 1L, Long::sum);
+        cache.remove(teamId);
+    }
+}
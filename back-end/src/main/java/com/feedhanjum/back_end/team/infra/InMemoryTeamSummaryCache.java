@@ -0,0 +1,46 @@
+package com.feedhanjum.back_end.team.infra;
+
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트 환경에서 Redis 대신 사용하는 팀 요약 캐시
+ */
+@Component
+@Profile("test")
+public class InMemoryTeamSummaryCache implements TeamSummaryCache {
+    private final Map<Long, List<TeamSummaryDto>> cache = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<List<TeamSummaryDto>> get(Long memberId) {
+        return Optional.ofNullable(cache.get(memberId));
+    }
+
+    @Override
+    public long getVersion(Long memberId) {
+        return versions.getOrDefault(memberId, 0L);
+    }
+
+    @Override
+    public synchronized void put(Long memberId, long version, List<TeamSummaryDto> teamSummaries) {
+        if (getVersion(memberId) == version) {
+            cache.put(memberId, List.copyOf(teamSummaries));
+        }
+    }
+
+    @Override
+    public synchronized void evict(Collection<Long> memberIds) {
+        memberIds.forEach(memberId -> {
+            versions.merge(memberId, 1L, Long::sum);
+            cache.remove(memberId);
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.feedhanjum.back_end.team.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedhanjum.back_end.team.domain.TeamJoinToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 토큰마다 JSON 문자열(team_join_token:{token})로 저장하고, 토큰의 만료 시각까지를 키의 TTL로 지정한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisTeamJoinTokenStore implements TeamJoinTokenStore {
+    private static final String KEY_PREFIX = "team_join_token:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+
+    @Override
+    public void save(TeamJoinToken joinToken) {
+        Duration timeToLive = Duration.between(LocalDateTime.now(clock), joinToken.getExpireDate());
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + joinToken.getToken(), mapper.writeValueAsString(joinToken), timeToLive);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("팀 가입 토큰을 저장할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public Optional<TeamJoinToken> find(String token) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + token);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(mapper.readValue(value, TeamJoinToken.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read team join token {}", token, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.feedhanjum.back_end.team.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀마다 멤버 ID를 Redis 집합(team_members:{teamId})에, 버전을 정수(team_members_version:{teamId})로 저장한다.
+ * 정수로만 이루어진 작은 집합은 Redis가 intset으로 저장하므로 멤버 수에 비해 메모리를 적게 쓴다.
+ */
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisTeamMembershipCache implements TeamMembershipCache {
+    private static final String KEY_PREFIX = "team_members:";
+    private static final String VERSION_KEY_PREFIX = "team_members_version:";
+    // 가입/탈퇴/추방/삭제 시 명시적으로 무효화하므로 TTL은 누락된 무효화에 대한 안전장치.
+    // 버전은 멤버 목록을 읽는 동안에만 유지되면 되므로 같은 TTL을 쓴다.
+    private static final long EXPIRE_MINUTES = 30;
+
+    // 버전 확인, 삭제, 추가를 하나의 스크립트로 실행해 다른 요청이 비어 있거나 일부만 채워진 집합을 보지 않도록 함
+    // ARGV: 버전, TTL(초), 멤버 ID...
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            """
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 2 then
+                redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            """
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean containsMember(Long teamId, Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(KEY_PREFIX + teamId, memberId.toString()));
+    }
+
+    @Override
+    public long getVersion(Long teamId) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + teamId);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    @Override
+    public void put(Long teamId, long version, Collection<Long> memberIds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(version));
+        args.add(String.valueOf(TimeUnit.MINUTES.toSeconds(EXPIRE_MINUTES)));
+        memberIds.forEach(memberId -> args.add(memberId.toString()));
+        redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + teamId, VERSION_KEY_PREFIX + teamId), args.toArray());
+    }
+
+    @Override
+    public void evict(Long teamId) {
+        redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + teamId, VERSION_KEY_PREFIX + teamId),
+                String.valueOf(TimeUnit.MINUTES.toSeconds(EXPIRE_MINUTES)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.feedhanjum.back_end.team.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멤버마다 팀 요약 목록을 JSON 문자열(team_summaries:{memberId})로, 버전을 정수(team_summaries_version:{memberId})로 저장한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisTeamSummaryCache implements TeamSummaryCache {
+    private static final String KEY_PREFIX = "team_summaries:";
+    private static final String VERSION_KEY_PREFIX = "team_summaries_version:";
+    // 멤버십/팀 정보 변경 시 명시적으로 무효화하므로 TTL은 누락된 무효화에 대한 안전장치.
+    // 버전은 목록을 읽는 동안에만 유지되면 되므로 같은 TTL을 쓴다.
+    private static final long EXPIRE_MINUTES = 30;
+    private static final TypeReference<List<TeamSummaryDto>> TYPE = new TypeReference<>() {
+    };
+
+    // 버전 확인과 저장을 하나의 스크립트로 실행해 확인 직후의 무효화를 덮어쓰지 않도록 함
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            """
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: 목록 키와 버전 키를 멤버마다 번갈아 담는다
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            """
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[i + 1])
+                redis.call('EXPIRE', KEYS[i + 1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper mapper;
+
+    @Override
+    public Optional<List<TeamSummaryDto>> get(Long memberId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(mapper.readValue(value, TYPE));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read cached team summaries of member {}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long getVersion(Long memberId) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + memberId);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    @Override
+    public void put(Long memberId, long version, List<TeamSummaryDto> teamSummaries) {
+        String value;
+        try {
+            value = mapper.writeValueAsString(teamSummaries);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache team summaries of member {}", memberId, e);
+            return;
+        }
+        redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                String.valueOf(version), value, String.valueOf(TimeUnit.MINUTES.toSeconds(EXPIRE_MINUTES)));
+    }
+
+    @Override
+    public void evict(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        memberIds.forEach(memberId -> {
+            keys.add(KEY_PREFIX + memberId);
+            keys.add(VERSION_KEY_PREFIX + memberId);
+        });
+        redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(TimeUnit.MINUTES.toSeconds(EXPIRE_MINUTES)));
+    }
+}
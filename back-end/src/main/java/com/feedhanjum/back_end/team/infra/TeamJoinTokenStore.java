@@ -0,0 +1,18 @@
+package com.feedhanjum.back_end.team.infra;
+
+import com.feedhanjum.back_end.team.domain.TeamJoinToken;
+
+import java.util.Optional;
+
+/**
+ * 팀 가입 토큰 저장소. 토큰은 만료 시각이 지나면 자동으로 사라진다.
+ */
+public interface TeamJoinTokenStore {
+
+    void save(TeamJoinToken joinToken);
+
+    /**
+     * @return 저장된 토큰. 없거나 만료됐으면 빈 값
+     */
+    Optional<TeamJoinToken> find(String token);
+}
@@ -0,0 +1,29 @@
+package com.feedhanjum.back_end.team.infra;
+
+import java.util.Collection;
+
+/**
+ * 팀별 멤버 ID 집합 캐시.
+ * 무효화할 때마다 팀의 버전이 올라가며, 읽기 전에 가져온 버전이 그대로일 때만 저장해
+ * 탈퇴 이전에 읽은 멤버 목록이 무효화 이후에 다시 캐싱되지 않도록 한다.
+ */
+public interface TeamMembershipCache {
+
+    /**
+     * @return 팀의 멤버 ID 집합이 캐시에 있고 memberId가 포함되어 있으면 true. 캐시에 없으면 false
+     */
+    boolean containsMember(Long teamId, Long memberId);
+
+    /**
+     * @return 팀의 현재 버전. DB에서 멤버 목록을 읽기 전에 가져와 {@link #put}에 넘긴다.
+     */
+    long getVersion(Long teamId);
+
+    /**
+     * 팀의 버전이 version 그대로일 때만 팀의 멤버 ID 집합을 통째로 바꾼다.
+     * 다른 요청은 바뀌기 전이나 후의 집합만 볼 수 있다.
+     */
+    void put(Long teamId, long version, Collection<Long> memberIds);
+
+    void evict(Long teamId);
+}
@@ -0,0 +1,29 @@
+package com.feedhanjum.back_end.team.infra;
+
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 멤버별 내가 속한 팀 요약 목록 캐시.
+ * 무효화할 때마다 멤버의 버전이 올라가며, 읽기 전에 가져온 버전이 그대로일 때만 저장해
+ * 무효화 이전에 읽은 목록이 무효화 이후에 다시 캐싱되지 않도록 한다.
+ */
+public interface TeamSummaryCache {
+
+    Optional<List<TeamSummaryDto>> get(Long memberId);
+
+    /**
+     * @return 멤버의 현재 버전. DB에서 목록을 읽기 전에 가져와 {@link #put}에 넘긴다.
+     */
+    long getVersion(Long memberId);
+
+    /**
+     * 멤버의 버전이 version 그대로일 때만 저장한다.
+     */
+    void put(Long memberId, long version, List<TeamSummaryDto> teamSummaries);
+
+    void evict(Collection<Long> memberIds);
+}
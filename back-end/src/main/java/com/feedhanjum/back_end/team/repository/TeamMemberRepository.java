@@ -2,9 +2,17 @@ package com.feedhanjum.back_end.team.repository;
 
 import com.feedhanjum.back_end.team.domain.TeamMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     Optional<TeamMember> findByMemberIdAndTeamId(Long memberId, Long teamId);
+
+    @Query("select tm.team.id from TeamMember tm where tm.member.id = :memberId")
+    List<Long> findTeamIdsByMemberId(Long memberId);
+
+    @Query("select tm.member.id from TeamMember tm where tm.team.id = :teamId")
+    List<Long> findMemberIdsByTeamId(Long teamId);
 }
@@ -1,6 +1,8 @@
 package com.feedhanjum.back_end.team.repository;
 
-import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.domain.QTeamMember;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -15,11 +17,30 @@ import static com.feedhanjum.back_end.team.domain.QTeamMember.teamMember;
 public class TeamQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
 
-    public List<Team> findTeamByMemberId(Long memberId) {
-        return jpaQueryFactory.select(team)
-                .from(team)
-                .join(teamMember).on(teamMember.team.id.eq(team.id)).fetchJoin()
-                .where(teamMember.member.id.eq(memberId))
-                .fetch();
+    /**
+     * 멤버가 속한 팀의 요약 정보를 팀 멤버 수와 함께 한 번의 그룹 쿼리로 읽는다.
+     */
+    public List<TeamSummaryDto> findTeamSummariesByMemberId(Long memberId) {
+        QTeamMember myMembership = new QTeamMember("myMembership");
+        NumberExpression<Long> memberCount = teamMember.count();
+        return jpaQueryFactory.select(team.id, team.name, team.startDate, team.endDate, team.feedbackType, team.leader.id, memberCount)
+                .from(myMembership)
+                .join(myMembership.team, team)
+                .join(teamMember).on(teamMember.team.id.eq(team.id))
+                .where(myMembership.member.id.eq(memberId))
+                .groupBy(team.id, team.name, team.startDate, team.endDate, team.feedbackType, team.leader.id)
+                .orderBy(team.id.asc())
+                .fetch()
+                .stream()
+                .map(row -> new TeamSummaryDto(
+                        row.get(team.id),
+                        row.get(team.name),
+                        row.get(team.startDate),
+                        row.get(team.endDate),
+                        row.get(team.feedbackType),
+                        row.get(team.leader.id),
+                        row.get(memberCount),
+                        memberId.equals(row.get(team.leader.id)) ? TeamSummaryDto.Role.LEADER : TeamSummaryDto.Role.MEMBER))
+                .toList();
     }
 }
@@ -7,16 +7,16 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select t from Team t where t.id = :id")
-    Optional<Team> findByIdForUpdateExclusiveLock(@Param("id") Long id);
-
-
+    /**
+     * 팀 기간이 startDate부터 endDate까지를 포함하는지 공유 락을 걸고 확인한다. 일정 생성 트랜잭션의 마지막 단계에서 호출한다.
+     * 락은 커밋까지 유지되므로 팀 기간 수정은 이 일정이 커밋된 뒤에 일정을 다시 검사하고,
+     * 먼저 커밋된 팀 기간 수정은 이 조회에서 바로 보인다.
+     */
     @Lock(LockModeType.PESSIMISTIC_READ)
-    @Query("select t from Team t where t.id = :id")
-    Optional<Team> findByIdForUpdateSharedLock(@Param("id") Long id);
-
+    @Query("select t from Team t where t.id = :id and t.startDate <= :startDate and (t.endDate is null or t.endDate >= :endDate)")
+    Optional<Team> findByIdAndPeriodContainingForShare(@Param("id") Long id, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
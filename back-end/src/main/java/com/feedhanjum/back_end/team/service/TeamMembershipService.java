@@ -0,0 +1,64 @@
+package com.feedhanjum.back_end.team.service;
+
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
+import com.feedhanjum.back_end.team.infra.TeamMembershipCache;
+import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 팀 멤버 여부를 팀별 멤버 ID 집합 캐시로 확인한다.
+ * 캐시에서 멤버로 확인되면 DB를 조회하지 않는다. 캐시에 없거나 멤버가 아니면 DB에서 멤버 목록을 다시 읽어 채우므로,
+ * 방금 가입한 멤버가 무효화 전의 캐시 때문에 거부되지는 않는다.
+ * 가입/탈퇴/추방/팀 삭제 시 {@link com.feedhanjum.back_end.team.event.handler.TeamMembershipCacheEvictHandler}가 무효화하며,
+ * 멤버 목록을 읽는 동안 무효화되면 읽은 목록은 캐싱하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamMembershipService {
+    private final TeamMembershipCache teamMembershipCache;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamRepository teamRepository;
+    private final MemberRepository memberRepository;
+
+    public boolean isTeamMember(Long memberId, Long teamId) {
+        if (teamMembershipCache.containsMember(teamId, memberId)) {
+            return true;
+        }
+        // 버전은 DB를 읽기 전에 가져와야 읽는 도중의 무효화를 알아챌 수 있다
+        long version = teamMembershipCache.getVersion(teamId);
+        List<Long> memberIds = teamMemberRepository.findMemberIdsByTeamId(teamId);
+        teamMembershipCache.put(teamId, version, memberIds);
+        return memberIds.contains(memberId);
+    }
+
+    /**
+     * @throws EntityNotFoundException         팀 혹은 사용자가 존재하지 않는 경우
+     * @throws TeamMembershipNotFoundException 해당 사용자가 팀에 가입한 상태가 아닌 경우
+     */
+    public void validateTeamMember(Long memberId, Long teamId) {
+        validateTeamMember(memberId, teamId, "해당 팀에 속해있지 않습니다.");
+    }
+
+    /**
+     * @param message 멤버가 아닐 때 던질 예외의 메시지
+     */
+    public void validateTeamMember(Long memberId, Long teamId, String message) {
+        if (isTeamMember(memberId, teamId)) {
+            return;
+        }
+        // 어떤 예외인지 가리기 위해 실패한 경우에만 팀, 사용자를 확인
+        teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
+        memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
+        throw new TeamMembershipNotFoundException(message);
+    }
+
+    public void evict(Long teamId) {
+        teamMembershipCache.evict(teamId);
+    }
+}
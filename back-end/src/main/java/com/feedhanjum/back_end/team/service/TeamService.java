@@ -1,6 +1,7 @@
 package com.feedhanjum.back_end.team.service;
 
 import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.core.infra.RetryOnConcurrencyFailure;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleQueryRepository;
@@ -11,8 +12,7 @@ import com.feedhanjum.back_end.team.event.TeamMemberJoinEvent;
 import com.feedhanjum.back_end.team.event.TeamMemberLeftEvent;
 import com.feedhanjum.back_end.team.exception.TeamLeaderMustExistException;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
-import com.feedhanjum.back_end.team.repository.TeamJoinTokenRepository;
-import com.feedhanjum.back_end.team.repository.TeamQueryRepository;
+import com.feedhanjum.back_end.team.infra.TeamJoinTokenStore;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
 import com.feedhanjum.back_end.team.service.dto.TeamCreateDto;
 import jakarta.persistence.EntityNotFoundException;
@@ -23,16 +23,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TeamService {
     private final TeamRepository teamRepository;
     private final MemberRepository memberRepository;
-    private final TeamQueryRepository teamQueryRepository;
+    private final TeamSummaryService teamSummaryService;
     private final EventPublisher eventPublisher;
-    private final TeamJoinTokenRepository teamJoinTokenRepository;
+    private final TeamJoinTokenStore teamJoinTokenStore;
     private final ScheduleQueryRepository scheduleQueryRepository;
     private final Clock clock;
 
@@ -46,6 +45,7 @@ public class TeamService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
         Team team = new Team(teamCreateDto.teamName(), leader, teamCreateDto.startDate(), teamCreateDto.endDate(), teamCreateDto.feedbackType(), LocalDate.now(clock));
         teamRepository.save(team);
+        teamSummaryService.evictTeamAfterCommit(team.getId());
         return team;
     }
 
@@ -54,11 +54,6 @@ public class TeamService {
         return teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("해당 팀을 찾을 수 없습니다."));
     }
 
-    @Transactional(readOnly = true)
-    public List<Team> getMyTeams(Long userId) {
-        return teamQueryRepository.findTeamByMemberId(userId);
-    }
-
     /**
      * 팀장이 팀원을 제거한다.
      *
@@ -86,6 +81,7 @@ public class TeamService {
      * @throws SecurityException               현재 사용자가 팀장이 아닐 경우
      * @throws TeamMembershipNotFoundException 새 팀장이 팀의 구성원이 아닐 경우
      */
+    @RetryOnConcurrencyFailure
     @Transactional
     public void delegateTeamLeader(Long currentLeaderId, Long teamId, Long newLeaderId) {
         Team team = teamRepository.findById(teamId)
@@ -123,25 +119,29 @@ public class TeamService {
         Member member = memberRepository
                 .findById(memberId).orElseThrow(() -> new EntityNotFoundException("멤버를 찾을 수 없습니다"));
         TeamJoinToken joinToken = team.createJoinToken(member, LocalDateTime.now(clock));
-        teamJoinTokenRepository.save(joinToken);
+        teamJoinTokenStore.save(joinToken);
         return joinToken;
     }
 
-    @Transactional(readOnly = true)
-    public Team getTeamByJoinToken(String token) {
-        TeamJoinToken teamJoinToken = teamJoinTokenRepository.findById(token)
+    /**
+     * DB를 읽지 않고 토큰에 담긴 발급 시점의 팀 정보를 반환한다.
+     */
+    public TeamJoinToken.TeamSnapshot getTeamByJoinToken(String token) {
+        TeamJoinToken teamJoinToken = teamJoinTokenStore.find(token)
                 .orElseThrow(() -> new EntityNotFoundException("토큰이 유효하지 않습니다."));
-        return teamJoinToken.getTeamInfo();
+        return teamJoinToken.getTeamInfo(LocalDateTime.now(clock));
     }
 
     @Transactional
     public Team joinTeam(Long memberId, String token) {
-        TeamJoinToken teamJoinToken = teamJoinTokenRepository.findById(token)
+        TeamJoinToken teamJoinToken = teamJoinTokenStore.find(token)
                 .orElseThrow(() -> new EntityNotFoundException("토큰이 유효하지 않습니다."));
+        Team team = teamRepository.findById(teamJoinToken.getTeam().id())
+                .orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("멤버를 찾을 수 없습니다"));
-        Team team = teamJoinToken.joinTeam(member);
-        eventPublisher.publishEvent(new TeamMemberJoinEvent(memberId, teamJoinToken.getTeamInfo().getId()));
+        teamJoinToken.joinTeam(team, member, LocalDateTime.now(clock));
+        eventPublisher.publishEvent(new TeamMemberJoinEvent(memberId, team.getId()));
         return team;
     }
 
@@ -0,0 +1,56 @@
+package com.feedhanjum.back_end.team.service;
+
+import com.feedhanjum.back_end.core.infra.AfterCommit;
+import com.feedhanjum.back_end.team.infra.TeamSummaryCache;
+import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
+import com.feedhanjum.back_end.team.repository.TeamQueryRepository;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내가 속한 팀 목록을 멤버별로 캐싱한다.
+ * 팀 멤버 수와 팀장이 목록에 담기므로, 멤버십/팀장 변경 시에는
+ * {@link com.feedhanjum.back_end.team.event.handler.TeamSummaryCacheEvictHandler}가 팀의 모든 멤버의 캐시를 무효화하고,
+ * 팀 생성과 팀 정보 수정 시에는 커밋 이후 무효화한다.
+ * 목록을 읽는 동안 무효화되면 읽은 목록은 캐싱하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamSummaryService {
+    private final TeamSummaryCache teamSummaryCache;
+    private final TeamQueryRepository teamQueryRepository;
+    private final TeamMemberRepository teamMemberRepository;
+
+    @Transactional(readOnly = true)
+    public List<TeamSummaryDto> getMyTeams(Long memberId) {
+        Optional<List<TeamSummaryDto>> cached = teamSummaryCache.get(memberId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        // 버전은 DB를 읽기 전에 가져와야 읽는 도중의 무효화를 알아챌 수 있다
+        long version = teamSummaryCache.getVersion(memberId);
+        List<TeamSummaryDto> teamSummaries = teamQueryRepository.findTeamSummariesByMemberId(memberId);
+        teamSummaryCache.put(memberId, version, teamSummaries);
+        return teamSummaries;
+    }
+
+    /**
+     * 팀의 현재 멤버와 extraMemberIds(방금 탈퇴한 멤버 등)의 캐시를 바로 무효화한다.
+     */
+    public void evictTeam(Long teamId, Long... extraMemberIds) {
+        List<Long> memberIds = new ArrayList<>(teamMemberRepository.findMemberIdsByTeamId(teamId));
+        memberIds.addAll(List.of(extraMemberIds));
+        teamSummaryCache.evict(memberIds);
+    }
+
+    public void evictTeamAfterCommit(Long teamId) {
+        List<Long> memberIds = teamMemberRepository.findMemberIdsByTeamId(teamId);
+        AfterCommit.run(() -> teamSummaryCache.evict(memberIds));
+    }
+}
@@ -0,0 +1,25 @@
+package com.feedhanjum.back_end.team.service.dto;
+
+import com.feedhanjum.back_end.feedback.domain.FeedbackType;
+
+import java.time.LocalDate;
+
+/**
+ * 내가 속한 팀 목록에 보여줄 팀 요약 정보.
+ *
+ * @param role 조회한 사용자의 팀 내 역할
+ */
+public record TeamSummaryDto(
+        Long teamId,
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        FeedbackType feedbackType,
+        Long leaderId,
+        long memberCount,
+        Role role
+) {
+    public enum Role {
+        LEADER, MEMBER
+    }
+}
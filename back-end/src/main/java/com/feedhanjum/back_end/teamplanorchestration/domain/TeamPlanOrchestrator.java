@@ -2,9 +2,11 @@ package com.feedhanjum.back_end.teamplanorchestration.domain;
 
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.domain.ScheduleSeries;
 import com.feedhanjum.back_end.schedule.exception.ScheduleAlreadyExistException;
 import com.feedhanjum.back_end.schedule.exception.ScheduleIsAlreadyEndException;
 import com.feedhanjum.back_end.schedule.service.dto.ScheduleRequestDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleSeriesRequestDto;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.service.dto.TeamUpdateDto;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Component;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -36,9 +39,11 @@ public class TeamPlanOrchestrator {
     }
 
 
-    public Schedule createSchedule(ScheduleRequestDto requestDto, Schedule findSchedule, Member member, Team team) {
-        // 겹치는 일정 찾아서 넣어주기
-        validateScheduleDuplicate(findSchedule);
+    /**
+     * @param overlappingSchedules 일정 시간과 겹치는 팀 일정 목록
+     */
+    public Schedule createSchedule(ScheduleRequestDto requestDto, List<Schedule> overlappingSchedules, Member member, Team team) {
+        validateScheduleOverlap(overlappingSchedules);
         validateScheduleTimeIntoTeamTime(requestDto, team);
         validateEndTimeIsAfterNow(requestDto.endTime());
 
@@ -50,10 +55,30 @@ public class TeamPlanOrchestrator {
                 member);
     }
 
-    public void updateSchedule(ScheduleRequestDto requestDto, Schedule schedule, Schedule findSchedule, Member member, Team team) {
+    /**
+     * 첫 회차가 일반 일정 생성 조건을 만족해야 반복 일정을 만들 수 있다.
+     *
+     * @param overlappingSchedules 첫 회차 시간과 겹치는 팀 일정 목록
+     */
+    public ScheduleSeries createScheduleSeries(ScheduleSeriesRequestDto requestDto, List<Schedule> overlappingSchedules, Member member, Team team) {
+        createSchedule(requestDto.toFirstScheduleRequestDto(), overlappingSchedules, member, team);
+        return new ScheduleSeries(
+                requestDto.name(),
+                requestDto.startTime(),
+                requestDto.endTime(),
+                requestDto.intervalWeeks(),
+                requestDto.untilDate(),
+                team,
+                member);
+    }
+
+    /**
+     * @param overlappingSchedules 바꿀 시간과 겹치는, 해당 일정을 제외한 팀 일정 목록
+     */
+    public void updateSchedule(ScheduleRequestDto requestDto, Schedule schedule, List<Schedule> overlappingSchedules, Member member, Team team) {
         validateIsEnded(schedule);
         changeName(schedule, requestDto, member, team);
-        changeTime(schedule, requestDto, findSchedule, member, team);
+        changeTime(schedule, requestDto, overlappingSchedules, member, team);
     }
 
     private void validateIsEnded(Schedule schedule) {
@@ -62,13 +87,10 @@ public class TeamPlanOrchestrator {
         }
     }
 
-    private void changeTime(Schedule schedule, ScheduleRequestDto requestDto, Schedule findSchedule, Member member, Team team) {
+    private void changeTime(Schedule schedule, ScheduleRequestDto requestDto, List<Schedule> overlappingSchedules, Member member, Team team) {
         if (schedule.isTimeDifferent(requestDto.startTime(), requestDto.endTime())) {
             validateOwnerOrLeader(schedule, member, team);
-            if (schedule.isStartTimeDifferent(requestDto.startTime())) {
-                // 겹치는 일정 찾아서 넣어주기
-                validateScheduleDuplicate(findSchedule);
-            }
+            validateScheduleOverlap(overlappingSchedules);
             validateScheduleTimeIntoTeamTime(requestDto, team);
             validateEndTimeIsAfterNow(requestDto.endTime());
             schedule.setTime(requestDto.startTime(), requestDto.endTime());
@@ -105,8 +127,8 @@ public class TeamPlanOrchestrator {
         }
     }
 
-    private void validateScheduleDuplicate(Schedule findSchedule) {
-        if (findSchedule != null)
-            throw new ScheduleAlreadyExistException("이미 같은 시작시간에 일정이 있습니다.");
+    private void validateScheduleOverlap(List<Schedule> overlappingSchedules) {
+        if (!overlappingSchedules.isEmpty())
+            throw new ScheduleAlreadyExistException("이미 겹치는 시간에 일정이 있습니다.");
     }
 }
@@ -0,0 +1,25 @@
+package com.feedhanjum.back_end.teamplanorchestration.infra;
+
+import com.feedhanjum.back_end.core.domain.JobRecord;
+import com.feedhanjum.back_end.core.service.JobCoordinator;
+import com.feedhanjum.back_end.teamplanorchestration.service.ScheduleSeriesService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+@Component
+public class ScheduleSeriesMaterializeScheduler {
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+
+    private final ScheduleSeriesService scheduleSeriesService;
+    private final JobCoordinator jobCoordinator;
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void materializeDueOccurrences() {
+        jobCoordinator.runAsLeader(JobRecord.JobName.SCHEDULE_SERIES_MATERIALIZE, LEASE_DURATION,
+                scheduleSeriesService::materializeDueOccurrences);
+    }
+}
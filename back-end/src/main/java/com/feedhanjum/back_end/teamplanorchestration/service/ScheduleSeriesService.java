@@ -0,0 +1,204 @@
+package com.feedhanjum.back_end.teamplanorchestration.service;
+
+import com.feedhanjum.back_end.core.domain.DelayedJob;
+import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.core.infra.RetryOnConcurrencyFailure;
+import com.feedhanjum.back_end.core.service.DelayedJobService;
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberQueryRepository;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import com.feedhanjum.back_end.schedule.domain.ScheduleSeries;
+import com.feedhanjum.back_end.schedule.event.ScheduleCreatedEvent;
+import com.feedhanjum.back_end.schedule.exception.ScheduleAlreadyExistException;
+import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.schedule.repository.ScheduleSeriesRepository;
+import com.feedhanjum.back_end.schedule.service.ScheduleCalendarService;
+import com.feedhanjum.back_end.schedule.service.ScheduleOverlapService;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleSeriesRequestDto;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
+import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.teamplanorchestration.domain.TeamPlanOrchestrator;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 반복 일정은 규칙만 저장하고, 회차는 시작 {@link #MATERIALIZE_LEAD} 전이나 할 일을 등록하려 할 때 Schedule로 만든다.
+ * 달력 조회에서는 아직 만들지 않은 회차를 규칙으로 펼쳐 보여준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleSeriesService {
+    // 홈 화면은 1일 이내의 다음 일정을 보여주므로 그 전에 Schedule로 만들어 둔다
+    public static final Duration MATERIALIZE_LEAD = Duration.ofDays(1);
+
+    private final Clock clock;
+    private final TeamRepository teamRepository;
+    private final MemberRepository memberRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleMemberRepository scheduleMemberRepository;
+    private final ScheduleSeriesRepository scheduleSeriesRepository;
+    private final MemberQueryRepository memberQueryRepository;
+    private final EventPublisher eventPublisher;
+    private final DelayedJobService delayedJobService;
+    private final ScheduleCalendarService scheduleCalendarService;
+    private final ScheduleOverlapService scheduleOverlapService;
+    private final TeamPlanOrchestrator teamPlanOrchestrator;
+    private final TeamPlanOrchestrationService teamPlanOrchestrationService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @throws EntityNotFoundException         사용자 혹은 팀이 존재하지 않는 경우
+     * @throws TeamMembershipNotFoundException 해당 사용자가 팀에 가입한 상태가 아닌경우
+     * @throws ScheduleAlreadyExistException   첫 회차와 시간이 겹치는 일정이 존재하는 경우
+     * @throws IllegalArgumentException        일정 시간 또는 반복 규칙이 잘못되었거나, 만드는 동안 팀 기간이 바뀐 경우
+     */
+    @RetryOnConcurrencyFailure
+    @Transactional
+    public ScheduleSeries createScheduleSeries(Long memberId, Long teamId, ScheduleSeriesRequestDto requestDto) {
+        Team team = teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
+        Member member = memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
+        teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId).orElseThrow(() -> new TeamMembershipNotFoundException("해당 팀에 존재하는 사람만 일정을 생성할 수 있습니다."));
+        List<Schedule> overlappingSchedules = scheduleOverlapService.findOverlappingSchedules(teamId, requestDto.startTime(), requestDto.endTime());
+
+        ScheduleSeries series = scheduleSeriesRepository.save(teamPlanOrchestrator.createScheduleSeries(requestDto, overlappingSchedules, member, team));
+        materializeDueOccurrences(series, LocalDateTime.now(clock));
+        teamPlanOrchestrationService.validateTeamPeriodContaining(teamId, requestDto.startTime(), requestDto.endTime());
+        scheduleCalendarService.evictTeamAfterCommit(teamId);
+        return series;
+    }
+
+    /**
+     * 회차를 Schedule로 만든다. 이미 만들어져 있으면 그 일정을 반환한다.
+     *
+     * @return 회차 일정의 ID
+     * @throws EntityNotFoundException         반복 일정이 존재하지 않거나 해당 팀의 반복 일정이 아닌 경우
+     * @throws TeamMembershipNotFoundException 해당 사용자가 팀에 가입한 상태가 아닌경우
+     * @throws ScheduleAlreadyExistException   회차와 시간이 겹치는 다른 일정이 존재하는 경우
+     * @throws IllegalArgumentException        반복 일정의 회차가 아니거나 이미 끝난 회차인 경우, 만드는 동안 팀 기간이 바뀐 경우
+     */
+    @RetryOnConcurrencyFailure
+    @Transactional
+    public Long materializeOccurrence(Long memberId, Long teamId, Long seriesId, LocalDateTime startTime) {
+        teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId).orElseThrow(() -> new TeamMembershipNotFoundException("해당 팀에 속해있지 않습니다."));
+        ScheduleSeries series = findTeamSeries(teamId, seriesId);
+        if (!series.isOccurrence(startTime)) {
+            throw new IllegalArgumentException("반복 일정의 회차가 아닙니다.");
+        }
+        List<Schedule> overlappingSchedules = scheduleOverlapService.findOverlappingSchedules(teamId, startTime, series.getOccurrenceEndTime(startTime));
+        Optional<Schedule> materialized = findMaterialized(overlappingSchedules, startTime);
+        if (materialized.isPresent()) {
+            return materialized.get().getId();
+        }
+        if (series.getOccurrenceEndTime(startTime).isBefore(LocalDateTime.now(clock))) {
+            throw new IllegalArgumentException("이미 끝난 회차입니다.");
+        }
+        if (!overlappingSchedules.isEmpty()) {
+            throw new ScheduleAlreadyExistException("이미 겹치는 시간에 일정이 있습니다.");
+        }
+        Long scheduleId = createOccurrence(series, startTime).getId();
+        teamPlanOrchestrationService.validateTeamPeriodContaining(teamId, startTime, series.getOccurrenceEndTime(startTime));
+        return scheduleId;
+    }
+
+    /**
+     * 아직 Schedule로 만들지 않은 회차를 건너뛴다. 이미 만든 회차는 일정 삭제로 지워야 하므로 거절한다.
+     *
+     * @throws SecurityException        요청자가 반복 일정을 만든 사람이나 팀장이 아닌 경우
+     * @throws IllegalArgumentException 해당 날짜에 회차가 없거나, 회차가 이미 Schedule로 만들어진 경우
+     */
+    @Transactional
+    public void skipOccurrence(Long memberId, Long teamId, Long seriesId, LocalDate occurrenceDate) {
+        Member member = memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
+        ScheduleSeries series = findTeamSeries(teamId, seriesId);
+        if (!series.isOwnerOrLeader(member)) {
+            throw new SecurityException("반복 일정을 만든 사람, 혹은 팀장만 회차를 건너뛸 수 있습니다.");
+        }
+        List<LocalDateTime> occurrences = series.getOccurrenceStartTimesBetween(occurrenceDate.atStartOfDay(), occurrenceDate.plusDays(1).atStartOfDay().minusNanos(1));
+        if (occurrences.isEmpty()) {
+            throw new IllegalArgumentException("해당 날짜에 반복 일정의 회차가 없습니다.");
+        }
+        LocalDateTime startTime = occurrences.get(0);
+        LocalDateTime endTime = series.getOccurrenceEndTime(startTime);
+        if (findMaterialized(scheduleOverlapService.findOverlappingSchedules(teamId, startTime, endTime), startTime).isPresent()) {
+            throw new IllegalArgumentException("이미 일정으로 만들어진 회차입니다. 일정을 삭제해 주세요.");
+        }
+        series.skipOccurrence(occurrenceDate);
+        scheduleCalendarService.evictAfterCommit(teamId, endTime);
+    }
+
+    /**
+     * 시작이 {@link #MATERIALIZE_LEAD} 이내로 다가온 모든 반복 일정의 회차를 Schedule로 만든다.
+     * 반복 일정마다 트랜잭션을 나눠, 한 반복 일정에서 실패해도 나머지 반복 일정은 반영한다.
+     */
+    public void materializeDueOccurrences() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Long seriesId : scheduleSeriesRepository.findIdsToMaterialize(now.plus(MATERIALIZE_LEAD), now.toLocalDate())) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> scheduleSeriesRepository.findByIdForUpdate(seriesId)
+                        .ifPresent(series -> materializeDueOccurrences(series, now)));
+            } catch (RuntimeException e) {
+                log.warn("Failed to materialize occurrences of schedule series {}", seriesId, e);
+            }
+        }
+    }
+
+    private void materializeDueOccurrences(ScheduleSeries series, LocalDateTime now) {
+        LocalDateTime horizon = now.plus(MATERIALIZE_LEAD);
+        for (LocalDateTime startTime : series.getPendingOccurrenceStartTimesUntil(horizon)) {
+            LocalDateTime endTime = series.getOccurrenceEndTime(startTime);
+            // 회차 시간에 이미 다른 일정이 있으면 그 일정을 우선한다
+            if (endTime.isBefore(now)
+                    || !scheduleOverlapService.findOverlappingSchedules(series.getTeam().getId(), startTime, endTime).isEmpty()) {
+                continue;
+            }
+            createOccurrence(series, startTime);
+        }
+        series.markMaterializedUntil(horizon);
+    }
+
+    private Schedule createOccurrence(ScheduleSeries series, LocalDateTime startTime) {
+        Long teamId = series.getTeam().getId();
+        Schedule schedule = scheduleRepository.save(series.createOccurrence(startTime));
+        delayedJobService.schedule(DelayedJob.JobType.SCHEDULE_END, schedule.getId(), schedule.getEndTime());
+        scheduleMemberRepository.saveAll(memberQueryRepository.findMembersByTeamId(teamId).stream()
+                .map(member -> new ScheduleMember(schedule, member))
+                .toList());
+        eventPublisher.publishEvent(new ScheduleCreatedEvent(schedule.getId()));
+        scheduleCalendarService.evictAfterCommit(teamId, schedule.getEndTime());
+        return schedule;
+    }
+
+    // 회차 시간에 이미 다른 일정이 있으면 회차를 만들지 않으므로, 시작 시각이 같은 일정을 만들어진 회차로 본다
+    private Optional<Schedule> findMaterialized(List<Schedule> overlappingSchedules, LocalDateTime startTime) {
+        return overlappingSchedules.stream()
+                .filter(schedule -> schedule.getStartTime().isEqual(startTime))
+                .findFirst();
+    }
+
+    private ScheduleSeries findTeamSeries(Long teamId, Long seriesId) {
+        ScheduleSeries series = scheduleSeriesRepository.findByIdForUpdate(seriesId)
+                .orElseThrow(() -> new EntityNotFoundException("반복 일정을 찾을 수 없습니다."));
+        if (!series.getTeam().getId().equals(teamId)) {
+            throw new EntityNotFoundException("반복 일정을 찾을 수 없습니다.");
+        }
+        return series;
+    }
+}
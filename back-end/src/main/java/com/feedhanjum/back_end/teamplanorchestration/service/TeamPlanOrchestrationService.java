@@ -1,6 +1,9 @@
 package com.feedhanjum.back_end.teamplanorchestration.service;
 
+import com.feedhanjum.back_end.core.domain.DelayedJob;
 import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.core.infra.RetryOnConcurrencyFailure;
+import com.feedhanjum.back_end.core.service.DelayedJobService;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberQueryRepository;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
@@ -12,19 +15,24 @@ import com.feedhanjum.back_end.schedule.exception.ScheduleMembershipNotFoundExce
 import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleQueryRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.schedule.service.ScheduleCalendarService;
+import com.feedhanjum.back_end.schedule.service.ScheduleOverlapService;
 import com.feedhanjum.back_end.schedule.service.dto.ScheduleRequestDto;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
 import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.TeamSummaryService;
 import com.feedhanjum.back_end.team.service.dto.TeamUpdateDto;
 import com.feedhanjum.back_end.teamplanorchestration.domain.TeamPlanOrchestrator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -39,15 +47,23 @@ public class TeamPlanOrchestrationService {
     private final ScheduleQueryRepository scheduleQueryRepository;
     private final EventPublisher eventPublisher;
     private final TeamPlanOrchestrator teamPlanOrchestrator;
+    private final DelayedJobService delayedJobService;
+    private final ScheduleCalendarService scheduleCalendarService;
+    private final ScheduleOverlapService scheduleOverlapService;
+    private final TeamSummaryService teamSummaryService;
 
     /**
-     * @throws IllegalArgumentException 시작 시간이 종료 시간보다 앞서지 않을 경우
+     * 팀 행을 잠그지 않고 읽어 검증한 뒤, 버전 조건부 UPDATE로 반영한다.
+     * UPDATE로 팀 행을 잠근 다음 일정을 잠금 읽기로 다시 확인하므로, 검증과 UPDATE 사이에 만들어진 일정도 놓치지 않는다.
+     *
+     * @throws IllegalArgumentException 시작 시간이 종료 시간보다 앞서지 않을 경우, 바꾼 기간 밖에 일정이 있는 경우
      * @throws EntityNotFoundException  팀이 존재하지 않는 경우
      * @throws SecurityException        요청자가 팀장이 아닐 경우
      */
+    @RetryOnConcurrencyFailure
     @Transactional
     public Team updateTeamInfo(Long leaderId, Long teamId, TeamUpdateDto teamUpdateDto) {
-        Team team = teamRepository.findByIdForUpdateExclusiveLock(teamId)
+        Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
         Member leader = memberRepository.findById(leaderId)
                 .orElseThrow(() -> new EntityNotFoundException("멤버를 찾을 수 없습니다"));
@@ -56,6 +72,10 @@ public class TeamPlanOrchestrationService {
         LocalDateTime latestEndTime = scheduleQueryRepository.findLatestEndTimeByTeamId(teamId).orElse(null);
 
         teamPlanOrchestrator.updateTeamInfo(teamUpdateDto, earliestStartTime, latestEndTime, leader, team);
+        teamRepository.flush();
+        validateSchedulesInPeriod(team);
+        scheduleCalendarService.evictTeamAfterCommit(teamId);
+        teamSummaryService.evictTeamAfterCommit(teamId);
         return team;
     }
 
@@ -65,25 +85,36 @@ public class TeamPlanOrchestrationService {
      *
      * @throws EntityNotFoundException         사용자 혹은 팀이 존재하지 않는 경우
      * @throws TeamMembershipNotFoundException 해당 사용자가 팀에 가입한 상태가 아닌경우
-     * @throws ScheduleAlreadyExistException   해당 일정의 시작 시간에 일정이 존재하는 경우
+     * @throws ScheduleAlreadyExistException   해당 일정과 시간이 겹치는 일정이 존재하는 경우
      * @throws RuntimeException                내부 서버 오류: 방금 조회한 사용자 ID가 사라짐
+     * @throws IllegalArgumentException        일정 시간이 잘못되었거나, 일정을 만드는 동안 팀 기간이 바뀌어 일정이 기간을 벗어난 경우
      */
+    @RetryOnConcurrencyFailure
     @Transactional
     public void createSchedule(Long memberId, Long teamId, ScheduleRequestDto requestDto) {
-        Team team = teamRepository.findByIdForUpdateSharedLock(teamId).orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
+        Team team = teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
         Member member = memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
         teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId).orElseThrow(() -> new TeamMembershipNotFoundException("해당 팀에 존재하는 사람만 일정을 생성할 수 있습니다."));
-        Schedule findSchedule = scheduleRepository.findByTeamIdAndStartTime(teamId, requestDto.startTime()).orElse(null);
+        List<Schedule> overlappingSchedules = scheduleOverlapService.findOverlappingSchedules(teamId, requestDto.startTime(), requestDto.endTime());
 
-        Schedule schedule = scheduleRepository.save(teamPlanOrchestrator.createSchedule(requestDto, findSchedule, member, team));
+        Schedule schedule = scheduleRepository.save(teamPlanOrchestrator.createSchedule(requestDto, overlappingSchedules, member, team));
+        delayedJobService.schedule(DelayedJob.JobType.SCHEDULE_END, schedule.getId(), schedule.getEndTime());
+        scheduleCalendarService.evictAfterCommit(teamId, schedule.getEndTime());
 
         // 이벤트로 빼서, 일정에서 등록하도록 하기
-        memberQueryRepository.findMembersByTeamId(teamId).forEach(m -> scheduleMemberRepository.save(new ScheduleMember(schedule, m)));
-        ScheduleMember scheduleMember = scheduleMemberRepository.findByMemberIdAndScheduleId(memberId, schedule.getId()).orElseThrow(() -> new RuntimeException("내부 서버 에러: 방금 조회한 사용자 ID가 사라짐"));
+        List<ScheduleMember> scheduleMembers = memberQueryRepository.findMembersByTeamId(teamId).stream()
+                .map(m -> new ScheduleMember(schedule, m))
+                .toList();
+        scheduleMemberRepository.saveAll(scheduleMembers);
+        ScheduleMember scheduleMember = scheduleMembers.stream()
+                .filter(sm -> sm.getMember().getId().equals(memberId))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("내부 서버 에러: 방금 조회한 사용자 ID가 사라짐"));
         eventPublisher.publishEvent(new ScheduleCreatedEvent(schedule.getId()));
 
         // 이벤트로 빼서, 일정에서 해결하도록 하기
         scheduleMember.setTodos(requestDto.todos());
+        validateTeamPeriodContaining(teamId, requestDto.startTime(), requestDto.endTime());
     }
 
 
@@ -91,9 +122,10 @@ public class TeamPlanOrchestrationService {
      * @throws SecurityException                   일정 내용을 수정하려는 사람이 팀장, 일정의 주인이 아닌 경우
      * @throws EntityNotFoundException             팀, 사용자 또는 일정을 찾을 수 없는 경우
      * @throws ScheduleMembershipNotFoundException 회원이 해당 일정과 연관이 없을 경우
-     * @throws IllegalArgumentException            일정의 시간 설정이 잘못된 경우
+     * @throws IllegalArgumentException            일정의 시간 설정이 잘못되었거나, 일정을 수정하는 동안 팀 기간이 바뀌어 일정이 기간을 벗어난 경우
+     * @throws ScheduleAlreadyExistException       바꾼 시간에 겹치는 일정이 존재하는 경우
      */
-
+    @RetryOnConcurrencyFailure
     @Transactional
     public void updateSchedule(Long memberId, Long teamId, Long scheduleId, ScheduleRequestDto requestDto) {
         Team team = teamRepository.findById(teamId).orElseThrow(() -> new EntityNotFoundException("팀을 찾을 수 없습니다."));
@@ -101,15 +133,32 @@ public class TeamPlanOrchestrationService {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new EntityNotFoundException("해당 일정을 찾을 수 없습니다."));
         ScheduleMember scheduleMember = scheduleMemberRepository.findByMemberIdAndScheduleId(memberId, scheduleId)
                 .orElseThrow(() -> new ScheduleMembershipNotFoundException("해당 일정을 찾을 수 없습니다."));
-        Schedule findSchedule = scheduleRepository.findByTeamIdAndStartTime(teamId, requestDto.startTime()).orElse(null);
+        List<Schedule> overlappingSchedules = scheduleOverlapService.findOverlappingSchedules(teamId, requestDto.startTime(), requestDto.endTime(), scheduleId);
+        LocalDateTime previousEndTime = schedule.getEndTime();
 
-        teamPlanOrchestrator.updateSchedule(requestDto, schedule, findSchedule, member, team);
+        teamPlanOrchestrator.updateSchedule(requestDto, schedule, overlappingSchedules, member, team);
+        delayedJobService.schedule(DelayedJob.JobType.SCHEDULE_END, schedule.getId(), schedule.getEndTime());
+        scheduleCalendarService.evictAfterCommit(teamId, previousEndTime, schedule.getEndTime());
 
         // 이벤트로 빼서, 일정에서 해결하도록 하기
         scheduleMember.setTodos(requestDto.todos());
+        validateTeamPeriodContaining(teamId, requestDto.startTime(), requestDto.endTime());
     }
 
+    /**
+     * 일정 생성과 수정의 마지막 단계에서 호출한다. 팀 행에 건 공유 락은 커밋까지 유지된다.
+     *
+     * @throws IllegalArgumentException 일정을 만드는 동안 팀 기간이 바뀌어 일정이 기간을 벗어난 경우
+     */
+    public void validateTeamPeriodContaining(Long teamId, LocalDateTime startTime, LocalDateTime endTime) {
+        teamRepository.findByIdAndPeriodContainingForShare(teamId, startTime.toLocalDate(), endTime.toLocalDate())
+                .orElseThrow(() -> new IllegalArgumentException("일정 시간이 팀의 기간을 벗어났습니다."));
+    }
 
-
-
+    private void validateSchedulesInPeriod(Team team) {
+        LocalDateTime periodEnd = team.getEndDate() == null ? null : team.getEndDate().plusDays(1).atStartOfDay();
+        if (!scheduleRepository.findOutsidePeriodForShare(team.getId(), team.getStartDate().atStartOfDay(), periodEnd, PageRequest.of(0, 1)).isEmpty()) {
+            throw new IllegalArgumentException("팀 기간은 팀 내 존재하는 일정을 모두 포함해야 합니다.");
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.feedhanjum.back_end.core.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MonitoredTaskDecorator 테스트")
+class MonitoredTaskDecoratorTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MonitoredTaskDecorator decorator = new MonitoredTaskDecorator("test", meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("작업을 제출한 스레드의 MDC가 실행 중에 적용되고 실행 후 복원됨")
+    void test1() {
+        // given
+        MDC.put("requestId", "submitted");
+        AtomicReference<String> seen = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> seen.set(MDC.get("requestId")));
+        MDC.put("requestId", "worker");
+
+        // when
+        task.run();
+
+        // then
+        assertThat(seen.get()).isEqualTo("submitted");
+        assertThat(MDC.get("requestId")).isEqualTo("worker");
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 대기 시간과 실행 시간이 기록됨")
+    void test2() {
+        // given
+        Runnable task = decorator.decorate(() -> {
+            throw new IllegalStateException();
+        });
+
+        // when
+        try {
+            task.run();
+        } catch (IllegalStateException ignored) {
+        }
+
+        // then
+        assertThat(meterRegistry.get("executor.task.wait").tag("name", "test").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.task.execution").tag("name", "test").timer().count()).isEqualTo(1);
+    }
+}
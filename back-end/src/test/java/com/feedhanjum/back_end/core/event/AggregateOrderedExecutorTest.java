@@ -0,0 +1,114 @@
+package com.feedhanjum.back_end.core.event;
+
+import com.feedhanjum.back_end.core.config.AsyncExecutorProperty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AggregateOrderedExecutor 테스트")
+class AggregateOrderedExecutorTest {
+    AsyncExecutorProperty property;
+    AggregateOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        property = new AsyncExecutorProperty();
+        property.getOrdered().setShards(2);
+        property.getOrdered().setQueueCapacity(10);
+        executor = new AggregateOrderedExecutor(property, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 제출한 순서대로 실행됨")
+    void test1() throws InterruptedException {
+        // given
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(5);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            int order = i;
+            executor.execute(1L, () -> {
+                sleep(5);
+                executed.add(order);
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("다른 샤드의 키는 앞선 작업이 끝나지 않아도 실행됨")
+    void test2() throws InterruptedException {
+        // given
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch otherKeyDone = new CountDownLatch(1);
+        executor.execute(0L, () -> await(blocker));
+
+        // when
+        executor.execute(1L, otherKeyDone::countDown);
+
+        // then
+        assertThat(otherKeyDone.await(5, TimeUnit.SECONDS)).isTrue();
+        blocker.countDown();
+    }
+
+    @Test
+    @DisplayName("샤드 큐가 가득 차면 기다리지 않고 작업을 거절함")
+    void test3() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.execute(0L, () -> {
+            started.countDown();
+            await(blocker);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < property.getOrdered().getQueueCapacity(); i++) {
+            executor.execute(0L, () -> {
+            });
+        }
+
+        // when & then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(0L, () -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+        blocker.countDown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.feedhanjum.back_end.core.event;
+
+import com.feedhanjum.back_end.core.domain.EventPublication;
+import com.feedhanjum.back_end.core.repository.EventPublicationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventPublicationRelayIntegrationTest {
+    @Autowired
+    private EventPublicationRelay eventPublicationRelay;
+    @Autowired
+    private EventPublicationRepository eventPublicationRepository;
+    @Autowired
+    private EventPublisher eventPublisher;
+    @Autowired
+    private TestListener testListener;
+    @Autowired
+    private Clock clock;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    record TestEvent(Long id) {
+    }
+
+    record CommittedTestEvent(Long id) {
+    }
+
+    record FailingTestEvent(Long id) {
+    }
+
+    record AlwaysFailingTestEvent(Long id) {
+    }
+
+    static class TestListener {
+        private final List<Object> received = new CopyOnWriteArrayList<>();
+        private final EventPublicationTracker tracker;
+        private final TransactionTemplate transactionTemplate;
+
+        TestListener(EventPublicationTracker tracker, PlatformTransactionManager transactionManager) {
+            this.tracker = tracker;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+        }
+
+        @EventListener
+        public void on(TestEvent event) {
+            received.add(event);
+        }
+
+        @TransactionalEventListener
+        public void onCommitted(CommittedTestEvent event) {
+            received.add(event);
+        }
+
+        // 처리 결과를 커밋한 뒤 실패하는 리스너
+        @EventListener
+        public void onFailing(FailingTestEvent event) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (tracker.markProcessed()) {
+                    received.add(event);
+                }
+            });
+            throw new IllegalStateException("처리 후 실패");
+        }
+
+        @EventListener
+        public void onAlwaysFailing(AlwaysFailingTestEvent event) {
+            received.add(event);
+            throw new IllegalStateException("항상 실패");
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        public TestListener testListener(EventPublicationTracker tracker, PlatformTransactionManager transactionManager) {
+            return new TestListener(tracker, transactionManager);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventPublicationRepository.deleteAll();
+        testListener.received.clear();
+    }
+
+    private String listenerId() throws NoSuchMethodException {
+        return EventListenerRegistry.listenerId(TestListener.class, TestListener.class.getMethod("on", TestEvent.class));
+    }
+
+    @Test
+    @DisplayName("이벤트 발행 시 리스너별 발행 기록을 남기고 처리 후 완료 처리")
+    void test1() throws Exception {
+        // when
+        eventPublisher.publishEvent(new TestEvent(1L));
+
+        // then
+        assertThat(testListener.received).containsExactly(new TestEvent(1L));
+        assertThat(eventPublicationRepository.findAll())
+                .hasSize(1)
+                .first()
+                .satisfies(publication -> {
+                    assertThat(publication.getListenerId()).isEqualTo(listenerId());
+                    assertThat(publication.getCompletedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("완료되지 않은 오래된 발행 기록은 relay가 한 번만 다시 전달")
+    void test2() throws Exception {
+        // given
+        EventPublication publication = eventPublicationRepository.save(new EventPublication(
+                listenerId(), TestEvent.class.getName(), "{\"id\":2}", LocalDateTime.now(clock).minusMinutes(5)));
+
+        // when
+        eventPublicationRelay.resubmitStalePublications();
+        eventPublicationRelay.resubmitStalePublications();
+
+        // then
+        assertThat(testListener.received).containsExactly(new TestEvent(2L));
+        assertThat(eventPublicationRepository.findById(publication.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getCompletedAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("발행 트랜잭션 커밋 직후 같은 스레드에서 실행되는 리스너도 발행 기록을 점유해 바로 처리하고 완료 처리")
+    void test3() throws Exception {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(new CommittedTestEvent(3L)));
+
+        // then
+        assertThat(testListener.received).containsExactly(new CommittedTestEvent(3L));
+        String listenerId = EventListenerRegistry.listenerId(TestListener.class,
+                TestListener.class.getMethod("onCommitted", CommittedTestEvent.class));
+        assertThat(eventPublicationRepository.findAll())
+                .filteredOn(publication -> publication.getListenerId().equals(listenerId))
+                .singleElement()
+                .satisfies(publication -> {
+                    assertThat(publication.getCompletedAt()).isNotNull();
+                    assertThat(publication.getAttempts()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("처리 결과와 함께 발행 기록을 완료 처리한 리스너는 이후에 실패해도 다시 전달되지 않음")
+    void test4() throws Exception {
+        // given
+        String listenerId = EventListenerRegistry.listenerId(TestListener.class,
+                TestListener.class.getMethod("onFailing", FailingTestEvent.class));
+        EventPublication publication = eventPublicationRepository.save(new EventPublication(
+                listenerId, FailingTestEvent.class.getName(), "{\"id\":4}", LocalDateTime.now(clock).minusMinutes(5)));
+
+        // when
+        eventPublicationRelay.resubmitStalePublications();
+        eventPublicationRelay.resubmitStalePublications();
+
+        // then
+        assertThat(testListener.received).containsExactly(new FailingTestEvent(4L));
+        assertThat(eventPublicationRepository.findById(publication.getId()))
+                .hasValueSatisfying(found -> {
+                    assertThat(found.getCompletedAt()).isNotNull();
+                    assertThat(found.getLockedUntil()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패한 발행 기록은 재전달을 멈춤")
+    void test5() throws Exception {
+        // given
+        String listenerId = EventListenerRegistry.listenerId(TestListener.class,
+                TestListener.class.getMethod("onAlwaysFailing", AlwaysFailingTestEvent.class));
+        LocalDateTime now = LocalDateTime.now(clock);
+        EventPublication publication = new EventPublication(
+                listenerId, AlwaysFailingTestEvent.class.getName(), "{\"id\":5}", now.minusMinutes(5));
+        for (int i = 1; i < EventPublicationTracker.MAX_ATTEMPTS; i++) {
+            publication.lock(now.minusMinutes(1));
+        }
+        publication = eventPublicationRepository.save(publication);
+
+        // when
+        eventPublicationRelay.resubmitStalePublications();
+        eventPublicationRelay.resubmitStalePublications();
+
+        // then
+        assertThat(testListener.received).containsExactly(new AlwaysFailingTestEvent(5L));
+        assertThat(eventPublicationRepository.findById(publication.getId()))
+                .hasValueSatisfying(found -> {
+                    assertThat(found.getCompletedAt()).isNull();
+                    assertThat(found.getDeadAt()).isNotNull();
+                    assertThat(found.getAttempts()).isEqualTo(EventPublicationTracker.MAX_ATTEMPTS);
+                });
+    }
+
+    @Test
+    @DisplayName("재전달을 멈춘 발행 기록은 보관 기간이 지난 것만 삭제")
+    void test6() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        EventPublication expired = new EventPublication(listenerId(), TestEvent.class.getName(), "{\"id\":6}", now.minusDays(40));
+        expired.markDead(now.minusDays(31));
+        EventPublication recent = new EventPublication(listenerId(), TestEvent.class.getName(), "{\"id\":7}", now.minusDays(2));
+        recent.markDead(now.minusDays(1));
+        eventPublicationRepository.saveAll(List.of(expired, recent));
+
+        // when
+        eventPublicationRelay.deleteCompletedPublications();
+
+        // then
+        assertThat(eventPublicationRepository.findAll())
+                .singleElement()
+                .satisfies(found -> assertThat(found.getId()).isEqualTo(recent.getId()));
+    }
+}
@@ -0,0 +1,172 @@
+package com.feedhanjum.back_end.core.infra;
+
+import com.feedhanjum.back_end.core.domain.IdSequence;
+import com.feedhanjum.back_end.feedback.domain.FeedbackType;
+import com.feedhanjum.back_end.member.domain.FeedbackPreference;
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.domain.ProfileImage;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import com.feedhanjum.back_end.schedule.domain.Todo;
+import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.schedule.service.ScheduleService;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class BatchInsertIntegrationTest {
+    private static final int MEMBER_COUNT = 120;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private ScheduleMemberRepository scheduleMemberRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ScheduleService scheduleService;
+
+    private Team team;
+    private Schedule schedule;
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        members = memberRepository.saveAll(IntStream.range(0, MEMBER_COUNT)
+                .mapToObj(i -> new Member("member" + i, "member" + i + "@test.com", new ProfileImage("red", "default.png"),
+                        List.of(FeedbackPreference.PROGRESSIVE)))
+                .toList());
+        team = teamRepository.save(new Team("team", members.get(0), LocalDate.now().minusDays(1), LocalDate.now().plusDays(1),
+                FeedbackType.ANONYMOUS, LocalDate.now()));
+        LocalDateTime start = LocalDate.now().atTime(10, 0);
+        schedule = scheduleRepository.save(new Schedule("schedule", start, start.plusHours(1), team, members.get(0)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("일정 멤버를 한 번에 저장하면 INSERT가 배치 크기 단위로 묶여 실행됨")
+    void test1() {
+        // given
+        Schedule savedSchedule = scheduleRepository.findById(schedule.getId()).orElseThrow();
+        List<ScheduleMember> scheduleMembers = members.stream()
+                .map(member -> new ScheduleMember(savedSchedule, entityManager.getReference(Member.class, member.getId())))
+                .toList();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        scheduleMemberRepository.saveAll(scheduleMembers);
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(MEMBER_COUNT);
+        // 배치 INSERT 3회 + ID 블록 발급(조회, 갱신) 3회. 행마다 INSERT하면 120회 이상이다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(MEMBER_COUNT / 10);
+    }
+
+    @Test
+    @DisplayName("ID 테이블의 다음 값을 기존 행의 최대 ID 다음으로 맞춤")
+    void test2() {
+        // given
+        long legacyId = 1_000_000L;
+        jdbcTemplate.update("insert into schedule_member (schedule_member_id, schedule_id, member_id) values (?, ?, ?)",
+                legacyId, schedule.getId(), members.get(0).getId());
+
+        // when
+        new IdSequenceInitializer(entityManager.getEntityManagerFactory(), jdbcTemplate).afterPropertiesSet();
+
+        // then
+        Long nextValue = jdbcTemplate.queryForObject(
+                "select next_val from " + IdSequence.TABLE + " where sequence_name = 'schedule_member'", Long.class);
+        assertThat(nextValue).isEqualTo(legacyId + 1);
+    }
+
+    @Test
+    @DisplayName("팀 가입 시 남은 일정마다 조회하지 않고, 이미 속한 일정을 제외한 일정 멤버를 배치로 저장")
+    void test3() {
+        // given
+        int scheduleCount = 100;
+        Member joined = members.get(1);
+        LocalDateTime start = LocalDate.now().plusDays(1).atTime(10, 0);
+        List<Schedule> schedules = scheduleRepository.saveAll(IntStream.range(0, scheduleCount)
+                .mapToObj(i -> new Schedule("upcoming" + i, start.plusHours(i), start.plusHours(i).plusMinutes(30), team, members.get(0)))
+                .toList());
+        scheduleMemberRepository.save(new ScheduleMember(schedules.get(0), joined));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        // setUp의 일정은 테스트 실행 시각에 따라 이미 끝났을 수 있다
+        int expectedInsertCount = scheduleCount - 1 + (schedule.getEndTime().isAfter(LocalDateTime.now()) ? 1 : 0);
+        statistics.clear();
+
+        // when
+        scheduleService.addNewScheduleMembership(joined.getId(), team.getId());
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(expectedInsertCount);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(scheduleCount / 5);
+    }
+
+    @Test
+    @DisplayName("할 일 목록을 바꾸면 전체를 다시 넣지 않고 바뀐 위치의 행만 갱신하고, 순서를 유지함")
+    void test4() {
+        // given
+        ScheduleMember scheduleMember = scheduleMemberRepository.save(new ScheduleMember(
+                scheduleRepository.findById(schedule.getId()).orElseThrow(), entityManager.getReference(Member.class, members.get(0).getId())));
+        scheduleMember.setTodos(List.of(new Todo("a"), new Todo("b"), new Todo("c")));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        ScheduleMember unchanged = scheduleMemberRepository.findById(scheduleMember.getId()).orElseThrow();
+        unchanged.setTodos(List.of(new Todo("a"), new Todo("b"), new Todo("c")));
+        statistics.clear();
+        entityManager.flush();
+        long unchangedStatementCount = statistics.getPrepareStatementCount();
+
+        unchanged.setTodos(List.of(new Todo("a"), new Todo("B"), new Todo("c"), new Todo("d")));
+        statistics.clear();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(unchangedStatementCount).isZero();
+        // 전체를 지우고 다시 넣으면 재생성(recreate)으로 집계된다
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isEqualTo(1);
+        assertThat(scheduleMemberRepository.findById(scheduleMember.getId()).orElseThrow().getTodos())
+                .extracting(Todo::getContent)
+                .containsExactly("a", "B", "c", "d");
+    }
+}
@@ -0,0 +1,56 @@
+package com.feedhanjum.back_end.core.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("실행 시각이 지난 항목만 만료됨")
+    void test1() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+        wheel.add("a", START + 1500);
+        wheel.add("b", START + 5000);
+
+        // when & then
+        assertThat(wheel.advance(START + 1000)).isEmpty();
+        assertThat(wheel.advance(START + 2000)).containsExactly("a");
+        assertThat(wheel.advance(START + 4999)).isEmpty();
+        assertThat(wheel.advance(START + 6000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가장 아래 단계의 범위를 넘는 항목은 상위 단계를 거쳐 실행 시각에 만료됨")
+    void test2() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+        wheel.add("minutes", START + 90_000);
+        wheel.add("hours", START + 2 * 3_600_000 + 500);
+
+        // when & then
+        assertThat(wheel.advance(START + 89_000)).isEmpty();
+        assertThat(wheel.advance(START + 91_000)).containsExactly("minutes");
+        assertThat(wheel.advance(START + 2 * 3_600_000)).isEmpty();
+        assertThat(wheel.advance(START + 2 * 3_600_000 + 1000)).containsExactly("hours");
+    }
+
+    @Test
+    @DisplayName("실행 시각이 이미 지난 항목은 휠에 넣지 않음")
+    void test3() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 60, START);
+
+        // when
+        boolean added = wheel.add("past", START - 1);
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
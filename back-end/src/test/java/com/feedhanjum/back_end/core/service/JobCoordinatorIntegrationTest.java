@@ -0,0 +1,91 @@
+package com.feedhanjum.back_end.core.service;
+
+import com.feedhanjum.back_end.core.domain.JobRecord;
+import com.feedhanjum.back_end.core.repository.JobRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobCoordinatorIntegrationTest {
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(3);
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+
+    @Autowired
+    private JobRecordRepository jobRecordRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jobRecordRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRecordRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("리스가 유효한 동안 다른 노드는 작업을 실행하지 않음")
+    void test1() {
+        // given
+        JobCoordinator nodeA = coordinator("node-a", NOW);
+        JobCoordinator nodeB = coordinator("node-b", NOW.plusSeconds(60));
+
+        // when
+        boolean executedByA = nodeA.runAsLeader(JobRecord.JobName.UNREAD_NOTIFICATIONS, LEASE_DURATION, executions::incrementAndGet);
+        boolean executedByB = nodeB.runAsLeader(JobRecord.JobName.UNREAD_NOTIFICATIONS, LEASE_DURATION, executions::incrementAndGet);
+        boolean executedByAAgain = coordinator("node-a", NOW.plusSeconds(60))
+                .runAsLeader(JobRecord.JobName.UNREAD_NOTIFICATIONS, LEASE_DURATION, executions::incrementAndGet);
+
+        // then
+        assertThat(executedByA).isTrue();
+        assertThat(executedByB).isFalse();
+        assertThat(executedByAAgain).isTrue();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("리더의 리스가 만료되면 다른 노드가 넘겨받아 실행함")
+    void test2() {
+        // given
+        coordinator("node-a", NOW).runAsLeader(JobRecord.JobName.UNREAD_NOTIFICATIONS, LEASE_DURATION, executions::incrementAndGet);
+        double handoverBefore = meterRegistry.counter("job.lease.handover", "job", "UNREAD_NOTIFICATIONS").count();
+
+        // when
+        boolean executedByB = coordinator("node-b", NOW.plus(LEASE_DURATION).plusSeconds(1))
+                .runAsLeader(JobRecord.JobName.UNREAD_NOTIFICATIONS, LEASE_DURATION, executions::incrementAndGet);
+
+        // then
+        assertThat(executedByB).isTrue();
+        assertThat(jobRecordRepository.findById(JobRecord.JobName.UNREAD_NOTIFICATIONS))
+                .get().extracting(JobRecord::getLeaseOwner).isEqualTo("node-b");
+        assertThat(meterRegistry.counter("job.lease.handover", "job", "UNREAD_NOTIFICATIONS").count())
+                .isEqualTo(handoverBefore + 1);
+    }
+
+    private JobCoordinator coordinator(String nodeId, Instant now) {
+        return new JobCoordinator(jobRecordRepository, transactionManager, meterRegistry,
+                Clock.fixed(now, ZoneId.systemDefault()), nodeId);
+    }
+}
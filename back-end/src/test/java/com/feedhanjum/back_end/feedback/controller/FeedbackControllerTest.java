@@ -12,10 +12,11 @@ import com.feedhanjum.back_end.feedback.controller.dto.response.RegularFeedbackR
 import com.feedhanjum.back_end.feedback.domain.Feedback;
 import com.feedhanjum.back_end.feedback.domain.FeedbackFeeling;
 import com.feedhanjum.back_end.feedback.domain.FeedbackType;
-import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequest;
+import com.feedhanjum.back_end.feedback.domain.FrequentFeedbackRequest;
+import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequestSet;
 import com.feedhanjum.back_end.feedback.repository.FeedbackRepository;
 import com.feedhanjum.back_end.feedback.repository.FrequentFeedbackRequestRepository;
-import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestRepository;
+import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestSetRepository;
 import com.feedhanjum.back_end.feedback.service.dto.ReceivedFeedbackDto;
 import com.feedhanjum.back_end.feedback.service.dto.SentFeedbackDto;
 import com.feedhanjum.back_end.member.domain.FeedbackPreference;
@@ -46,6 +47,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 
@@ -78,7 +80,7 @@ class FeedbackControllerTest {
     @Autowired
     private FeedbackRepository feedbackRepository;
     @Autowired
-    private RegularFeedbackRequestRepository regularFeedbackRequestRepository;
+    private RegularFeedbackRequestSetRepository regularFeedbackRequestSetRepository;
     @Autowired
     private FrequentFeedbackRequestRepository frequentFeedbackRequestRepository;
     private final Clock clock = Clock.fixed(Instant.parse("2025-01-10T12:00:00Z"), ZoneId.systemDefault());
@@ -104,6 +106,15 @@ class FeedbackControllerTest {
         return new Schedule(name, start, end, team, leader);
     }
 
+    // 일정 멤버 위치(scheduleMember1 = 0, scheduleMember2 = 1, scheduleMember3 = 2)로 요청자를 지정
+    private RegularFeedbackRequestSet createRegularFeedbackRequestSet(ScheduleMember receiver, int... requesterPositions) {
+        BitSet requesters = new BitSet();
+        for (int position : requesterPositions) {
+            requesters.set(position);
+        }
+        return new RegularFeedbackRequestSet(LocalDateTime.now(), receiver, requesters);
+    }
+
     private Feedback createFeedback(Member sender, Member receiver, Team team) {
         return createFeedback(sender, receiver, team, false, false);
     }
@@ -250,9 +261,7 @@ class FeedbackControllerTest {
             Member receiver = member2;
             Team team = team1;
             Schedule schedule = schedule1;
-            regularFeedbackRequestRepository.save(
-                    new RegularFeedbackRequest(LocalDateTime.now(), scheduleMember1, receiver
-                    ));
+            regularFeedbackRequestSetRepository.save(createRegularFeedbackRequestSet(scheduleMember1, 1));
             RegularFeedbackSendRequest request = new RegularFeedbackSendRequest(
                     receiver.getId(),
                     schedule.getId(),
@@ -375,6 +384,31 @@ class FeedbackControllerTest {
             assertThat(request.getCreatedAt()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
         }
 
+        @Test
+        @DisplayName("같은 사람에게 다시 요청하면 기존 요청의 내용을 바꿈")
+        void test2() throws Exception {
+            // given
+            Member sender = member1;
+            Member receiver = member2;
+            Team team = team1;
+            frequentFeedbackRequestRepository.save(new FrequentFeedbackRequest("이전 내용", sender, team, receiver));
+
+            var body = new FrequentFeedbackRequestForApiRequest(receiver.getId(), team.getId(), "새로운 내용");
+
+            // when
+            assertThat(mvc.post()
+                    .uri("/api/feedbacks/frequent/request")
+                    .session(withLoginUser(sender))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(body))
+            ).hasStatus(HttpStatus.ACCEPTED);
+
+            // then
+            assertThat(frequentFeedbackRequestRepository.findAll())
+                    .extracting(FrequentFeedbackRequest::getRequestedContent)
+                    .containsExactly("새로운 내용");
+        }
+
     }
 
     @Nested
@@ -389,9 +423,9 @@ class FeedbackControllerTest {
             Member sender2 = member3;
             Team team = team1;
             Member receiver = member2;
-            team.requestFeedback(sender1, receiver, "내용 1");
-            team.requestFeedback(sender2, receiver, "내용 2");
-            teamRepository.save(team);
+            frequentFeedbackRequestRepository.saveAll(List.of(
+                    new FrequentFeedbackRequest("내용 1", sender1, team, receiver),
+                    new FrequentFeedbackRequest("내용 2", sender2, team, receiver)));
 
 
             // when
@@ -427,8 +461,7 @@ class FeedbackControllerTest {
             Member sender2 = member3;
             ScheduleMember scheduleMember = scheduleMember2;
             Member receiver = scheduleMember.getMember();
-            regularFeedbackRequestRepository.save(new RegularFeedbackRequest(LocalDateTime.now(), scheduleMember, sender1));
-            regularFeedbackRequestRepository.save(new RegularFeedbackRequest(LocalDateTime.now(), scheduleMember, sender2));
+            regularFeedbackRequestSetRepository.save(createRegularFeedbackRequestSet(scheduleMember, 0, 2));
 
             // when
             assertThat(mvc.get()
@@ -549,7 +582,7 @@ class FeedbackControllerTest {
             ScheduleMember scheduleMember = scheduleMember1;
             Member sender = member2;
             Schedule schedule = schedule1;
-            regularFeedbackRequestRepository.save(new RegularFeedbackRequest(LocalDateTime.now(), scheduleMember, sender));
+            regularFeedbackRequestSetRepository.save(createRegularFeedbackRequestSet(scheduleMember, 1));
 
             // when
             assertThat(mvc.delete()
@@ -558,7 +591,7 @@ class FeedbackControllerTest {
                     .session(withLoginUser(receiver))
             ).hasStatus(HttpStatus.NO_CONTENT);
 
-            var requests = regularFeedbackRequestRepository.findAll();
+            var requests = regularFeedbackRequestSetRepository.findAll();
             assertThat(requests).isEmpty();
         }
     }
@@ -0,0 +1,66 @@
+package com.feedhanjum.back_end.feedback.domain;
+
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.test.util.DomainTestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegularFeedbackRequestSetTest {
+
+    Member leader = DomainTestUtils.createMemberWithId("leader");
+    Team team = DomainTestUtils.createTeamWithId("team", leader);
+    Schedule schedule = new Schedule("schedule", LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 0), team, leader);
+
+    private List<ScheduleMember> createScheduleMembers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> DomainTestUtils.createScheduleMemberWithId(schedule, DomainTestUtils.createMemberWithId("member" + i)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("자신을 제외한 모든 멤버가 요청한 상태로 생성")
+    void test1() {
+        // given
+        List<ScheduleMember> members = createScheduleMembers(40);
+
+        // when
+        RegularFeedbackRequestSet requestSet = RegularFeedbackRequestSet.ofAllExcept(LocalDateTime.now(), members.get(3), 3, members.size());
+
+        // then
+        assertThat(requestSet.count()).isEqualTo(39);
+        assertThat(requestSet.isRequestedBy(3)).isFalse();
+        assertThat(requestSet.getRequesters(members))
+                .hasSize(39)
+                .doesNotContain(members.get(3));
+    }
+
+    @Test
+    @DisplayName("요청을 제거하면 해당 요청자만 빠지고, 모두 제거하면 비어 있음")
+    void test2() {
+        // given
+        List<ScheduleMember> members = createScheduleMembers(3);
+        RegularFeedbackRequestSet requestSet = RegularFeedbackRequestSet.ofAllExcept(LocalDateTime.now(), members.get(0), 0, members.size());
+
+        // when
+        boolean removed = requestSet.remove(2);
+        boolean removedAgain = requestSet.remove(2);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(requestSet.getRequesters(members)).containsExactly(members.get(1));
+
+        requestSet.remove(1);
+        assertThat(requestSet.isEmpty()).isTrue();
+        assertThat(requestSet.count()).isZero();
+    }
+}
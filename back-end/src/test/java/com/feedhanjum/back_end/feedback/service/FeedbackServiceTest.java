@@ -1,14 +1,16 @@
 package com.feedhanjum.back_end.feedback.service;
 
+import com.feedhanjum.back_end.core.event.EventPublicationTracker;
 import com.feedhanjum.back_end.core.event.EventPublisher;
 import com.feedhanjum.back_end.feedback.domain.*;
 import com.feedhanjum.back_end.feedback.event.FeedbackLikedEvent;
 import com.feedhanjum.back_end.feedback.event.FrequentFeedbackCreatedEvent;
 import com.feedhanjum.back_end.feedback.event.RegularFeedbackCreatedEvent;
+import com.feedhanjum.back_end.feedback.exception.FrequentFeedbackRequestConflictException;
 import com.feedhanjum.back_end.feedback.exception.NoRegularFeedbackRequestException;
 import com.feedhanjum.back_end.feedback.repository.FeedbackRepository;
 import com.feedhanjum.back_end.feedback.repository.FrequentFeedbackRequestRepository;
-import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestRepository;
+import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestSetRepository;
 import com.feedhanjum.back_end.member.domain.FeedbackPreference;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.domain.ProfileImage;
@@ -22,7 +24,9 @@ import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.event.FrequentFeedbackRequestedEvent;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.TeamMembershipService;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -31,8 +35,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLException;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -58,9 +64,15 @@ class FeedbackServiceTest {
     @Mock
     private FrequentFeedbackRequestRepository frequentFeedbackRequestRepository;
     @Mock
-    private RegularFeedbackRequestRepository regularFeedbackRequestRepository;
+    private RegularFeedbackRequestSetRepository regularFeedbackRequestSetRepository;
     @Mock
     private EventPublisher eventPublisher;
+    @Mock
+    private EventPublicationTracker eventPublicationTracker;
+    @Mock
+    private PendingRegularFeedbackService pendingRegularFeedbackService;
+    @Mock
+    private TeamMembershipService teamMembershipService;
     @InjectMocks
     private FeedbackService feedbackService;
 
@@ -285,15 +297,17 @@ class FeedbackServiceTest {
             when(memberRepository.findById(sender.getId())).thenReturn(Optional.of(sender));
             when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
             when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+            when(frequentFeedbackRequestRepository.updateRequestedContent(eq(team.getId()), eq(sender.getId()), eq(receiver.getId()), eq(requestedContent), any()))
+                    .thenReturn(0);
 
             // when
             feedbackService
                     .requestFrequentFeedback(sender.getId(), team.getId(), receiver.getId(), requestedContent);
 
             // then
-            List<FrequentFeedbackRequest> requests = team.getFeedbackRequests(receiver);
-            assertThat(requests).hasSize(1);
-            FrequentFeedbackRequest result = requests.get(0);
+            ArgumentCaptor<FrequentFeedbackRequest> captor = ArgumentCaptor.forClass(FrequentFeedbackRequest.class);
+            verify(frequentFeedbackRequestRepository).saveAndFlush(captor.capture());
+            FrequentFeedbackRequest result = captor.getValue();
             assertThat(result.getRequestedContent()).isEqualTo(requestedContent);
             assertThat(result.getTeam()).isEqualTo(team);
             assertThat(result.getReceiver()).isEqualTo(receiver);
@@ -303,6 +317,76 @@ class FeedbackServiceTest {
 
         }
 
+        @Test
+        @DisplayName("이미 보낸 요청이 있으면 내용만 바꾸고 새로 저장하지 않음")
+        void test7() {
+            // given
+            Member sender = createMember("sender");
+            Member receiver = createMember("receiver");
+            Team team = createTeam("team", sender);
+
+            when(memberRepository.findById(sender.getId())).thenReturn(Optional.of(sender));
+            when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+            when(frequentFeedbackRequestRepository.updateRequestedContent(eq(team.getId()), eq(sender.getId()), eq(receiver.getId()), eq("새로운 내용"), any()))
+                    .thenReturn(1);
+
+            // when
+            feedbackService.requestFrequentFeedback(sender.getId(), team.getId(), receiver.getId(), "새로운 내용");
+
+            // then
+            verify(frequentFeedbackRequestRepository, never()).saveAndFlush(any());
+            verify(eventPublisher, times(1)).publishEvent(any(FrequentFeedbackRequestedEvent.class));
+        }
+
+        @Test
+        @DisplayName("처음 보내는 요청이 동시에 저장되어 유니크 키가 충돌하면 다시 실행할 수 있는 예외로 바꿔 던짐")
+        void test8() {
+            // given
+            Member sender = createMember("sender");
+            Member receiver = createMember("receiver");
+            Team team = createTeam("team", sender);
+
+            when(memberRepository.findById(sender.getId())).thenReturn(Optional.of(sender));
+            when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+            when(frequentFeedbackRequestRepository.updateRequestedContent(eq(team.getId()), eq(sender.getId()), eq(receiver.getId()), eq("내용"), any()))
+                    .thenReturn(0);
+            when(frequentFeedbackRequestRepository.saveAndFlush(any()))
+                    .thenThrow(constraintViolation("PUBLIC.UK_FREQUENT_FEEDBACK_REQUEST_TEAM_SENDER_RECEIVER_INDEX_A"));
+
+            // when, then
+            assertThatThrownBy(() -> feedbackService.requestFrequentFeedback(sender.getId(), team.getId(), receiver.getId(), "내용"))
+                    .isInstanceOf(FrequentFeedbackRequestConflictException.class);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("다른 제약 조건 위반은 그대로 던짐")
+        void test9() {
+            // given
+            Member sender = createMember("sender");
+            Member receiver = createMember("receiver");
+            Team team = createTeam("team", sender);
+            DataIntegrityViolationException violation = constraintViolation("fk_frequent_feedback_request_team");
+
+            when(memberRepository.findById(sender.getId())).thenReturn(Optional.of(sender));
+            when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+            when(frequentFeedbackRequestRepository.updateRequestedContent(eq(team.getId()), eq(sender.getId()), eq(receiver.getId()), eq("내용"), any()))
+                    .thenReturn(0);
+            when(frequentFeedbackRequestRepository.saveAndFlush(any())).thenThrow(violation);
+
+            // when, then
+            assertThatThrownBy(() -> feedbackService.requestFrequentFeedback(sender.getId(), team.getId(), receiver.getId(), "내용"))
+                    .isSameAs(violation);
+        }
+
+        private DataIntegrityViolationException constraintViolation(String constraintName) {
+            return new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+        }
+
         @Test
         @DisplayName("수시 피드백 요청 실패 - sender가 없을 경우")
         void test2() {
@@ -378,6 +462,8 @@ class FeedbackServiceTest {
             when(memberRepository.findById(sender.getId())).thenReturn(Optional.of(sender));
             when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
             when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+            doThrow(new TeamMembershipNotFoundException("팀원이 아닙니다"))
+                    .when(teamMembershipService).validateTeamMember(eq(sender.getId()), eq(team.getId()), anyString());
 
             // when & then
             assertThatThrownBy(() -> feedbackService.requestFrequentFeedback(sender.getId(), team.getId(), receiver.getId(), requestedContent))
@@ -399,6 +485,8 @@ class FeedbackServiceTest {
             when(memberRepository.findById(sender.getId())).thenReturn(Optional.of(sender));
             when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
             when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+            doThrow(new TeamMembershipNotFoundException("팀원이 아닙니다"))
+                    .when(teamMembershipService).validateTeamMember(eq(receiver.getId()), eq(team.getId()), anyString());
 
             // when & then
             assertThatThrownBy(() -> feedbackService.requestFrequentFeedback(sender.getId(), team.getId(), receiver.getId(), requestedContent))
@@ -425,13 +513,14 @@ class FeedbackServiceTest {
             Schedule schedule = createSchedule("schedule", team, receiver, false);
             ScheduleMember senderMember = createScheduleMemberWithId(schedule, sender);
             ScheduleMember receiverMember = createScheduleMemberWithId(schedule, receiver);
-            RegularFeedbackRequest request = createRegularFeedbackRequestWithId(sender, receiverMember);
+            RegularFeedbackRequestSet requestSet = createRegularFeedbackRequestSetWithId(senderMember, 0, 2);
 
 
             when(scheduleMemberRepository.findByMemberIdAndScheduleId(receiver.getId(), schedule.getId())).thenReturn(Optional.of(receiverMember));
             when(scheduleMemberRepository.findByMemberIdAndScheduleId(sender.getId(), schedule.getId())).thenReturn(Optional.of(senderMember));
+            when(scheduleMemberRepository.countByScheduleIdAndIdLessThan(schedule.getId(), receiverMember.getId())).thenReturn(1L);
 
-            when(regularFeedbackRequestRepository.findByRequesterAndScheduleMember(receiver, senderMember)).thenReturn(Optional.of(request));
+            when(regularFeedbackRequestSetRepository.findByScheduleMemberForUpdate(senderMember)).thenReturn(Optional.of(requestSet));
 
             when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -454,7 +543,8 @@ class FeedbackServiceTest {
             assertThat(feedback.getSubjectiveFeedback()).isEqualTo(subjectiveFeedback);
             assertThat(feedback.isLiked()).isFalse();
 
-            verify(regularFeedbackRequestRepository).delete(request);
+            assertThat(requestSet.isEmpty()).isTrue();
+            verify(regularFeedbackRequestSetRepository).delete(requestSet);
             verify(eventPublisher).publishEvent(any(RegularFeedbackCreatedEvent.class));
         }
 
@@ -526,7 +616,7 @@ class FeedbackServiceTest {
             when(receiverMember.getMember()).thenReturn(receiver);
             when(senderMember.getSchedule()).thenReturn(schedule);
 
-            when(regularFeedbackRequestRepository.findByRequesterAndScheduleMember(receiver, senderMember)).thenReturn(Optional.empty());
+            when(regularFeedbackRequestSetRepository.findByScheduleMemberForUpdate(senderMember)).thenReturn(Optional.empty());
 
             FeedbackType feedbackType = FeedbackType.IDENTIFIED;
             FeedbackFeeling feedbackFeeling = FeedbackFeeling.POSITIVE;
@@ -537,7 +627,7 @@ class FeedbackServiceTest {
             assertThatThrownBy(() -> feedbackService.sendRegularFeedback(senderId, receiverId, scheduleId, feedbackType, feedbackFeeling, objectiveFeedbacks, subjectiveFeedback))
                     .isInstanceOf(NoRegularFeedbackRequestException.class);
 
-            verify(regularFeedbackRequestRepository, never()).delete(any());
+            verify(regularFeedbackRequestSetRepository, never()).delete(any());
             verify(eventPublisher, never()).publishEvent(any(RegularFeedbackCreatedEvent.class));
         }
 
@@ -554,7 +644,7 @@ class FeedbackServiceTest {
             Schedule schedule = mock();
             ScheduleMember senderMember = mock();
             ScheduleMember receiverMember = mock();
-            RegularFeedbackRequest request = mock();
+            RegularFeedbackRequestSet requestSet = mock();
 
 
             when(scheduleMemberRepository.findByMemberIdAndScheduleId(senderId, scheduleId)).thenReturn(Optional.of(senderMember));
@@ -564,7 +654,8 @@ class FeedbackServiceTest {
             when(receiverMember.getMember()).thenReturn(receiver);
             when(senderMember.getSchedule()).thenReturn(schedule);
 
-            when(regularFeedbackRequestRepository.findByRequesterAndScheduleMember(receiver, senderMember)).thenReturn(Optional.of(request));
+            when(regularFeedbackRequestSetRepository.findByScheduleMemberForUpdate(senderMember)).thenReturn(Optional.of(requestSet));
+            when(requestSet.isRequestedBy(anyInt())).thenReturn(true);
             when(schedule.getTeam()).thenReturn(team);
 
             FeedbackType feedbackType = FeedbackType.ANONYMOUS;
@@ -592,7 +683,7 @@ class FeedbackServiceTest {
             Schedule schedule = mock();
             ScheduleMember senderMember = mock();
             ScheduleMember receiverMember = mock();
-            RegularFeedbackRequest request = mock();
+            RegularFeedbackRequestSet requestSet = mock();
 
 
             when(scheduleMemberRepository.findByMemberIdAndScheduleId(senderId, scheduleId)).thenReturn(Optional.of(senderMember));
@@ -602,7 +693,8 @@ class FeedbackServiceTest {
             when(receiverMember.getMember()).thenReturn(receiver);
             when(senderMember.getSchedule()).thenReturn(schedule);
 
-            when(regularFeedbackRequestRepository.findByRequesterAndScheduleMember(receiver, senderMember)).thenReturn(Optional.of(request));
+            when(regularFeedbackRequestSetRepository.findByScheduleMemberForUpdate(senderMember)).thenReturn(Optional.of(requestSet));
+            when(requestSet.isRequestedBy(anyInt())).thenReturn(true);
             when(schedule.getTeam()).thenReturn(team);
 
             FeedbackType feedbackType = FeedbackType.ANONYMOUS;
@@ -772,32 +864,33 @@ class FeedbackServiceTest {
             Member member3 = createMember("member3");
             Team team = createTeam("team", member1);
             Schedule schedule = createSchedule("schedule", team, member1, true);
-            ScheduleMember scheduleMember1 = new ScheduleMember(schedule, member1);
-            ScheduleMember scheduleMember2 = new ScheduleMember(schedule, member2);
-            ScheduleMember scheduleMember3 = new ScheduleMember(schedule, member3);
+            ScheduleMember scheduleMember1 = createScheduleMemberWithId(schedule, member1);
+            ScheduleMember scheduleMember2 = createScheduleMemberWithId(schedule, member2);
+            ScheduleMember scheduleMember3 = createScheduleMemberWithId(schedule, member3);
+            List<ScheduleMember> orderedMembers = List.of(scheduleMember1, scheduleMember2, scheduleMember3);
 
+            when(eventPublicationTracker.markProcessed()).thenReturn(true);
             when(scheduleRepository.findByIdWithMembers(schedule.getId())).thenReturn(Optional.of(schedule));
             // when
             feedbackService.createRegularFeedbackRequests(schedule.getId());
 
             // then
-            ArgumentCaptor<List<RegularFeedbackRequest>> requestsCaptor = ArgumentCaptor.captor();
-            verify(regularFeedbackRequestRepository).saveAll(requestsCaptor.capture());
-            List<RegularFeedbackRequest> requests = requestsCaptor.getValue();
-            assertThat(requests).hasSize(6);
-            assertThat(requests)
+            ArgumentCaptor<List<RegularFeedbackRequestSet>> requestsCaptor = ArgumentCaptor.captor();
+            verify(regularFeedbackRequestSetRepository).saveAll(requestsCaptor.capture());
+            List<RegularFeedbackRequestSet> requestSets = requestsCaptor.getValue();
+            assertThat(requestSets).hasSize(3);
+            assertThat(requestSets)
                     .filteredOn(r -> r.getScheduleMember() == scheduleMember1)
-                    .extracting(RegularFeedbackRequest::getRequester)
-                    .containsExactlyInAnyOrder(member2, member3);
-            assertThat(requests)
+                    .singleElement()
+                    .satisfies(r -> assertThat(r.getRequesters(orderedMembers)).containsExactly(scheduleMember2, scheduleMember3));
+            assertThat(requestSets)
                     .filteredOn(r -> r.getScheduleMember() == scheduleMember2)
-                    .extracting(RegularFeedbackRequest::getRequester)
-                    .containsExactlyInAnyOrder(member1, member3);
-
-            assertThat(requests)
+                    .singleElement()
+                    .satisfies(r -> assertThat(r.getRequesters(orderedMembers)).containsExactly(scheduleMember1, scheduleMember3));
+            assertThat(requestSets)
                     .filteredOn(r -> r.getScheduleMember() == scheduleMember3)
-                    .extracting(RegularFeedbackRequest::getRequester)
-                    .containsExactlyInAnyOrder(member1, member2);
+                    .singleElement()
+                    .satisfies(r -> assertThat(r.getRequesters(orderedMembers)).containsExactly(scheduleMember1, scheduleMember2));
 
             ArgumentCaptor<RegularFeedbackRequestCreatedEvent> eventCaptor = ArgumentCaptor.captor();
             verify(eventPublisher, times(3)).publishEvent(eventCaptor.capture());
@@ -814,16 +907,33 @@ class FeedbackServiceTest {
             // given
             Long scheduleId = 1L;
 
+            when(eventPublicationTracker.markProcessed()).thenReturn(true);
             when(scheduleRepository.findByIdWithMembers(scheduleId)).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> feedbackService.createRegularFeedbackRequests(scheduleId))
                     .isInstanceOf(EntityNotFoundException.class);
 
-            verify(regularFeedbackRequestRepository, never()).saveAll(any());
+            verify(regularFeedbackRequestSetRepository, never()).saveAll(any());
             verify(eventPublisher, never()).publishEvent(any(RegularFeedbackRequestCreatedEvent.class));
         }
 
+        @Test
+        @DisplayName("이미 처리한 일정 종료 이벤트가 다시 전달되면 요청을 만들지 않음")
+        void test3() {
+            // given
+            Long scheduleId = 1L;
+            when(eventPublicationTracker.markProcessed()).thenReturn(false);
+
+            // when
+            feedbackService.createRegularFeedbackRequests(scheduleId);
+
+            // then
+            verify(scheduleRepository, never()).findByIdWithMembers(scheduleId);
+            verify(regularFeedbackRequestSetRepository, never()).saveAll(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
     }
 
     @Nested
@@ -843,7 +953,7 @@ class FeedbackServiceTest {
             feedbackService.skipRegularFeedback(scheduleId, memberId);
 
             // then
-            verify(regularFeedbackRequestRepository).deleteAllByScheduleMember(scheduleMember);
+            verify(regularFeedbackRequestSetRepository).deleteByScheduleMember(scheduleMember);
         }
 
         @Test
@@ -859,7 +969,7 @@ class FeedbackServiceTest {
             assertThatThrownBy(() -> feedbackService.skipRegularFeedback(scheduleId, memberId))
                     .isInstanceOf(EntityNotFoundException.class);
 
-            verify(regularFeedbackRequestRepository, never()).deleteAllByScheduleMember(any());
+            verify(regularFeedbackRequestSetRepository, never()).deleteByScheduleMember(any());
         }
     }
 
@@ -873,19 +983,12 @@ class FeedbackServiceTest {
             // given
             Member receiver = createMember("receiver");
             Team team = createTeam("team", receiver);
-            Member sender = createMember("sender");
-            team.join(sender);
-            team.requestFeedback(sender, receiver, "좋아요");
-            team.requestFeedback(sender, receiver, "좋아요2");
-
-            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
-            when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
 
             // when
             feedbackService.rejectAllFrequentFeedbackRequests(receiver.getId(), team.getId());
 
             // then
-            assertThat(team.getFeedbackRequests(receiver)).isEmpty();
+            verify(frequentFeedbackRequestRepository).deleteAllByReceiverIdAndTeamId(receiver.getId(), team.getId());
         }
 
         @Test
@@ -894,13 +997,13 @@ class FeedbackServiceTest {
             // given
             Member receiver = createMember("receiver");
             Team team = createTeam("team", createMember("notReceiver"));
-
-            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
-            when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+            doThrow(new TeamMembershipNotFoundException("팀원이 아닙니다"))
+                    .when(teamMembershipService).validateTeamMember(eq(receiver.getId()), eq(team.getId()), anyString());
 
             // when & then
             assertThatThrownBy(() -> feedbackService.rejectAllFrequentFeedbackRequests(receiver.getId(), team.getId()))
                     .isInstanceOf(TeamMembershipNotFoundException.class);
+            verify(frequentFeedbackRequestRepository, never()).deleteAllByReceiverIdAndTeamId(any(), any());
         }
     }
 
@@ -915,21 +1018,17 @@ class FeedbackServiceTest {
             Member feedbackReceiver = createMember("receiver");
             Team team = createTeam("team", feedbackSender);
             team.join(feedbackReceiver);
-            team.requestFeedback(feedbackSender, feedbackReceiver, "좋아요");
-            team.requestFeedback(feedbackReceiver, feedbackSender, "좋아요 2");
 
             Feedback feedback = createFeedback(feedbackSender, feedbackReceiver, team);
 
             when(feedbackRepository.findById(feedback.getId())).thenReturn(Optional.of(feedback));
-            when(memberRepository.findById(feedbackSender.getId())).thenReturn(Optional.of(feedbackSender));
-            when(memberRepository.findById(feedbackReceiver.getId())).thenReturn(Optional.of(feedbackReceiver));
-            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
 
             // when
             feedbackService.deleteRelatedFrequentFeedbackRequest(feedback.getId());
 
             // then
-            assertThat(team.getFeedbackRequests(feedbackSender)).isEmpty();
+            // 피드백을 받은 사람이 보낸 사람에게 했던 요청만 지운다
+            verify(frequentFeedbackRequestRepository).deleteByTeamIdAndSenderIdAndReceiverId(team.getId(), feedbackReceiver.getId(), feedbackSender.getId());
         }
 
 
@@ -945,7 +1044,7 @@ class FeedbackServiceTest {
             assertThatThrownBy(() -> feedbackService.deleteRelatedFrequentFeedbackRequest(feedbackId))
                     .isInstanceOf(EntityNotFoundException.class);
 
-            verify(frequentFeedbackRequestRepository, never()).delete(any());
+            verify(frequentFeedbackRequestRepository, never()).deleteByTeamIdAndSenderIdAndReceiverId(any(), any(), any());
         }
 
         @Test
@@ -958,16 +1057,14 @@ class FeedbackServiceTest {
             Feedback feedback = createFeedback(sender, receiver, team);
 
             when(feedbackRepository.findById(feedback.getId())).thenReturn(Optional.of(feedback));
-            when(memberRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
-            when(memberRepository.findById(sender.getId())).thenReturn(Optional.of(sender));
-            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
-
+            doThrow(new TeamMembershipNotFoundException("팀원이 아닙니다"))
+                    .when(teamMembershipService).validateTeamMember(eq(sender.getId()), eq(team.getId()), anyString());
 
             // when & then
             assertThatThrownBy(() -> feedbackService.deleteRelatedFrequentFeedbackRequest(feedback.getId()))
                     .isInstanceOf(TeamMembershipNotFoundException.class);
 
-            verify(frequentFeedbackRequestRepository, never()).delete(any());
+            verify(frequentFeedbackRequestRepository, never()).deleteByTeamIdAndSenderIdAndReceiverId(any(), any(), any());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.feedhanjum.back_end.feedback.service;
+
+import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.feedback.domain.FrequentFeedbackRequest;
+import com.feedhanjum.back_end.feedback.repository.FrequentFeedbackRequestRepository;
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.test.util.DomainTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 팀원에게 처음 보내는 수시 피드백 요청이 동시에 들어와도 요청이 하나만 남고 모든 요청이 성공하는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FrequentFeedbackRequestConcurrencyIntegrationTest {
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private FeedbackService feedbackService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private FrequentFeedbackRequestRepository frequentFeedbackRequestRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    private Member sender;
+    private Member receiver;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        sender = memberRepository.save(DomainTestUtils.createMemberWithoutId("sender"));
+        receiver = memberRepository.save(DomainTestUtils.createMemberWithoutId("receiver"));
+        Team newTeam = DomainTestUtils.createTeamWithoutId("team", sender);
+        newTeam.join(receiver);
+        team = teamRepository.save(newTeam);
+    }
+
+    @Test
+    @DisplayName("처음 보내는 요청이 동시에 들어와도 모두 성공하고 요청은 하나만 남음")
+    void test1() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String content = "content" + i;
+            contents.add(content);
+            futures.add(executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                feedbackService.requestFrequentFeedback(sender.getId(), team.getId(), receiver.getId(), content);
+                return null;
+            }));
+        }
+        ready.await();
+
+        // when
+        start.countDown();
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                failures.add(e.getCause() == null ? e : e.getCause());
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        List<String> saved = transactionTemplate.execute(status -> frequentFeedbackRequestRepository.findAll().stream()
+                .filter(request -> request.getTeam().getId().equals(team.getId()))
+                .map(FrequentFeedbackRequest::getRequestedContent)
+                .toList());
+        assertThat(failures).isEmpty();
+        assertThat(saved).hasSize(1);
+        assertThat(contents).contains(saved.get(0));
+    }
+}
@@ -0,0 +1,162 @@
+package com.feedhanjum.back_end.feedback.service;
+
+import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.feedback.domain.FeedbackFeeling;
+import com.feedhanjum.back_end.feedback.domain.FeedbackType;
+import com.feedhanjum.back_end.feedback.domain.RegularFeedbackRequestSet;
+import com.feedhanjum.back_end.feedback.exception.NoRegularFeedbackRequestException;
+import com.feedhanjum.back_end.feedback.repository.RegularFeedbackRequestSetRepository;
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.test.util.DomainTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 일정에서 같은 멤버가 여러 팀원에게 동시에 정기 피드백을 보내도 요청 비트가 덮어써지지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RegularFeedbackConcurrencyIntegrationTest {
+    private static final int RECEIVER_COUNT = 4;
+
+    @Autowired
+    private FeedbackService feedbackService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private ScheduleMemberRepository scheduleMemberRepository;
+    @Autowired
+    private RegularFeedbackRequestSetRepository regularFeedbackRequestSetRepository;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    private Member sender;
+    private List<Member> receivers;
+    private Schedule schedule;
+    private RegularFeedbackRequestSet requestSet;
+
+    @BeforeEach
+    void setUp() {
+        sender = memberRepository.save(DomainTestUtils.createMemberWithoutId("sender"));
+        receivers = new ArrayList<>();
+        for (int i = 0; i < RECEIVER_COUNT; i++) {
+            receivers.add(memberRepository.save(DomainTestUtils.createMemberWithoutId("receiver" + i)));
+        }
+        Team team = DomainTestUtils.createTeamWithoutId("team", sender);
+        receivers.forEach(team::join);
+        teamRepository.save(team);
+
+        LocalDateTime startTime = LocalDateTime.now().minusDays(1).withHour(10);
+        schedule = scheduleRepository.save(new Schedule("schedule", startTime, startTime.plusHours(1), team, sender));
+        // sender가 가장 먼저 저장되어 위치 0이 됨
+        ScheduleMember senderScheduleMember = scheduleMemberRepository.save(new ScheduleMember(schedule, sender));
+        receivers.forEach(receiver -> scheduleMemberRepository.save(new ScheduleMember(schedule, receiver)));
+        requestSet = regularFeedbackRequestSetRepository.save(
+                RegularFeedbackRequestSet.ofAllExcept(LocalDateTime.now(), senderScheduleMember, 0, RECEIVER_COUNT + 1));
+    }
+
+    @Test
+    @DisplayName("여러 팀원에게 동시에 정기 피드백을 보내도 모두 성공하고 남은 요청이 없음")
+    void test1() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(RECEIVER_COUNT);
+        CountDownLatch ready = new CountDownLatch(RECEIVER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        FeedbackFeeling feedbackFeeling = FeedbackFeeling.POSITIVE;
+        for (Member receiver : receivers) {
+            futures.add(executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                feedbackService.sendRegularFeedback(sender.getId(), receiver.getId(), schedule.getId(), FeedbackType.IDENTIFIED,
+                        feedbackFeeling, feedbackFeeling.getObjectiveFeedbacks().subList(0, 2), "좋아요");
+                return null;
+            }));
+        }
+        ready.await();
+
+        // when
+        start.countDown();
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                failures.add(e.getCause() == null ? e : e.getCause());
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(failures).isEmpty();
+        assertThat(regularFeedbackRequestSetRepository.findById(requestSet.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 팀원에게 동시에 정기 피드백을 보내면 하나만 성공")
+    void test2() throws Exception {
+        // given
+        int threadCount = 4;
+        Member receiver = receivers.get(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        FeedbackFeeling feedbackFeeling = FeedbackFeeling.POSITIVE;
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                feedbackService.sendRegularFeedback(sender.getId(), receiver.getId(), schedule.getId(), FeedbackType.IDENTIFIED,
+                        feedbackFeeling, feedbackFeeling.getObjectiveFeedbacks().subList(0, 2), "좋아요");
+                return null;
+            }));
+        }
+        ready.await();
+
+        // when
+        start.countDown();
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                failures.add(e.getCause() == null ? e : e.getCause());
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(failures).hasSize(threadCount - 1)
+                .allMatch(failure -> failure instanceof NoRegularFeedbackRequestException);
+        assertThat(regularFeedbackRequestSetRepository.findById(requestSet.getId()))
+                .hasValueSatisfying(remaining -> assertThat(remaining.count()).isEqualTo(RECEIVER_COUNT - 1));
+    }
+}
@@ -1,16 +1,19 @@
 package com.feedhanjum.back_end.member.service;
 
+import com.feedhanjum.back_end.core.event.EventPublisher;
 import com.feedhanjum.back_end.member.domain.FeedbackPreference;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.domain.ProfileImage;
 import com.feedhanjum.back_end.member.repository.MemberQueryRepository;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.team.domain.Team;
-import com.feedhanjum.back_end.team.domain.TeamMember;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
+import com.feedhanjum.back_end.team.infra.InMemoryTeamMembershipCache;
 import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.TeamMembershipService;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,9 +45,19 @@ class MemberServiceTest {
     @Mock
     private MemberQueryRepository memberQueryRepository;
 
+    @Mock
+    private EventPublisher eventPublisher;
+
     @InjectMocks
     private MemberService memberService;
 
+    @BeforeEach
+    void setUp() {
+        TeamMembershipService teamMembershipService = new TeamMembershipService(
+                new InMemoryTeamMembershipCache(), teamMemberRepository, teamRepository, memberRepository);
+        ReflectionTestUtils.setField(memberService, "teamMembershipService", teamMembershipService);
+    }
+
     @Test
     @DisplayName("회원 아이디로 회원을 정상적으로 조회한다")
     void getMemberById_정상조회() {
@@ -102,14 +115,10 @@ class MemberServiceTest {
         //given
         Long memberId = 1L;
         Long teamId = 1L;
-        TeamMember teamMember = mock(TeamMember.class);
-        when(teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId))
-                .thenReturn(Optional.of(teamMember));
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId))
+                .thenReturn(List.of(memberId, 2L));
         Member member = mock(Member.class);
         List<Member> expectedMembers = List.of(member);
-        Team team = mock(Team.class);
-        when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(memberQueryRepository.findMembersByTeamId(teamId))
                 .thenReturn(expectedMembers);
 
@@ -130,8 +139,8 @@ class MemberServiceTest {
         Team team = mock(Team.class);
         when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        when(teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId))
-                .thenReturn(Optional.empty());
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId))
+                .thenReturn(List.of(2L));
 
         //when then
         assertThatThrownBy(() -> memberService.getMembersByTeam(memberId, teamId))
@@ -14,6 +14,7 @@ import com.feedhanjum.back_end.notification.controller.dto.response.InAppNotific
 import com.feedhanjum.back_end.notification.domain.FeedbackReportCreateNotification;
 import com.feedhanjum.back_end.notification.domain.InAppNotification;
 import com.feedhanjum.back_end.notification.repository.InAppNotificationRepository;
+import com.feedhanjum.back_end.notification.service.InAppNotificationService;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.domain.TeamMember;
 import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
@@ -36,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -154,4 +156,45 @@ class InAppNotificationControllerTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("알림 일괄 조회 테스트")
+    class GetNotificationsByIds {
+        @Test
+        @DisplayName("성공시 200, 다른 사용자의 알림은 제외")
+        void test1() {
+            Member receiver = member1;
+            Member notReceiver = member2;
+            List<InAppNotification> notifications = List.of(
+                    createInAppNotification(receiver),
+                    createInAppNotification(notReceiver),
+                    createInAppNotification(receiver)
+            );
+            notificationRepository.saveAll(notifications);
+            String ids = String.join(",", notifications.stream().map(n -> n.getId().toString()).toList());
+
+            assertThat(mvc.get()
+                    .uri("/api/notification/batch?ids=" + ids)
+                    .session(withLoginUser(receiver))
+            ).hasStatusOk()
+                    .body().satisfies(result -> {
+                        List<InAppNotificationDto> response = mapper.readValue(result, new TypeReference<>() {
+                        });
+                        assertThat(response).extracting(InAppNotificationDto::getNotificationId)
+                                .containsExactly(notifications.get(2).getId(), notifications.get(0).getId());
+                    });
+        }
+
+        @Test
+        @DisplayName("한 번에 조회할 수 있는 개수를 넘으면 400")
+        void test2() {
+            String ids = String.join(",", LongStream.rangeClosed(1, InAppNotificationService.MAX_BATCH_FETCH_SIZE + 1)
+                    .mapToObj(Long::toString).toList());
+
+            assertThat(mvc.get()
+                    .uri("/api/notification/batch?ids=" + ids)
+                    .session(withLoginUser(member1))
+            ).hasStatus(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryUnreadFeedbackReminderQueueTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    private InMemoryUnreadFeedbackReminderQueue queue;
+
+    @BeforeEach
+    void setup() {
+        queue = new InMemoryUnreadFeedbackReminderQueue();
+    }
+
+    @Test
+    @DisplayName("가져간 리마인더를 되돌리면 다시 가져올 수 있음")
+    void test1() {
+        // given
+        queue.schedule(1L, NOW.minusMinutes(1));
+        List<Long> claimed = queue.claimDue(NOW, 10);
+
+        // when
+        queue.restore(claimed, NOW);
+
+        // then
+        assertThat(queue.claimDue(NOW, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("되돌릴 때 더 늦은 시점으로 예약되어 있다면 되돌릴 시점으로 앞당김")
+    void test2() {
+        // given
+        queue.schedule(1L, NOW.minusMinutes(1));
+        List<Long> claimed = queue.claimDue(NOW, 10);
+        queue.schedule(1L, NOW.plusHours(3));
+
+        // when
+        queue.restore(claimed, NOW);
+
+        // then
+        assertThat(queue.claimDue(NOW, 10)).containsExactly(1L);
+        assertThat(queue.claimDue(NOW.plusHours(3), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("되돌릴 때 더 이른 시점으로 예약되어 있다면 기존 예약을 유지")
+    void test3() {
+        // given
+        queue.schedule(1L, NOW.minusMinutes(10));
+
+        // when
+        queue.restore(List.of(1L), NOW);
+
+        // then
+        assertThat(queue.claimDue(NOW.minusMinutes(5), 10)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import nl.martijndwars.webpush.Subscription;
+import nl.martijndwars.webpush.Utils;
+import org.bouncycastle.jce.ECNamedCurveTable;
+import org.bouncycastle.jce.interfaces.ECPublicKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VapidWebPushSenderTest {
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+
+    private KeyPair vapidKeyPair;
+    private Clock clock;
+    private VapidWebPushSender sender;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        vapidKeyPair = generateKeyPair();
+        clock = mock(Clock.class);
+        sender = new VapidWebPushSender(null, vapidKeyPair.getPublic(), vapidKeyPair.getPrivate(), "mailto:test@feedhanjum.com", clock);
+    }
+
+    @Test
+    @DisplayName("같은 푸시 서비스에는 만료 전까지 서명된 Authorization 헤더를 재사용하고 본문은 매번 새로 암호화")
+    void test1() throws Exception {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofHours(10)));
+
+        // when
+        VapidWebPushSender.PreparedPush first = sender.prepare(createSubscription("https://push.example.com/a"), "message");
+        VapidWebPushSender.PreparedPush second = sender.prepare(createSubscription("https://push.example.com/b"), "message");
+
+        // then
+        assertThat(second.headers().get("Authorization")).isEqualTo(first.headers().get("Authorization"));
+        assertThat(second.headers().get("Encryption")).isNotEqualTo(first.headers().get("Encryption"));
+        assertThat(second.body()).isNotEqualTo(first.body());
+    }
+
+    @Test
+    @DisplayName("만료 임박 시와 다른 푸시 서비스에는 새로 서명")
+    void test2() throws Exception {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofHours(11)).plusSeconds(1), NOW);
+
+        // when
+        VapidWebPushSender.PreparedPush first = sender.prepare(createSubscription("https://push.example.com/a"), "message");
+        VapidWebPushSender.PreparedPush refreshed = sender.prepare(createSubscription("https://push.example.com/a"), "message");
+        VapidWebPushSender.PreparedPush otherAudience = sender.prepare(createSubscription("https://other.example.com/a"), "message");
+
+        // then
+        assertThat(refreshed.headers().get("Authorization")).isNotEqualTo(first.headers().get("Authorization"));
+        assertThat(otherAudience.headers().get("Authorization")).isNotEqualTo(refreshed.headers().get("Authorization"));
+    }
+
+    private Subscription createSubscription(String endpoint) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        KeyPair userKeyPair = generateKeyPair();
+        return new Subscription(endpoint, new Subscription.Keys(
+                encoder.encodeToString(Utils.encode((ECPublicKey) userKeyPair.getPublic())),
+                encoder.encodeToString(new byte[16])));
+    }
+
+    private KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("ECDH", BouncyCastleProvider.PROVIDER_NAME);
+        keyPairGenerator.initialize(ECNamedCurveTable.getParameterSpec("prime256v1"));
+        return keyPairGenerator.generateKeyPair();
+    }
+}
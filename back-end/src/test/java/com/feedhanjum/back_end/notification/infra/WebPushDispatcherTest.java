@@ -0,0 +1,173 @@
+package com.feedhanjum.back_end.notification.infra;
+
+import com.feedhanjum.back_end.notification.config.WebPushDispatchProperty;
+import com.feedhanjum.back_end.notification.domain.WebPushDelivery;
+import com.feedhanjum.back_end.notification.domain.WebPushSubscription;
+import com.feedhanjum.back_end.notification.repository.WebPushDeliveryRepository;
+import com.feedhanjum.back_end.notification.repository.WebPushSubscriptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.martijndwars.webpush.Subscription;
+import org.asynchttpclient.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebPushDispatcherTest {
+    private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+    private static final Long SUBSCRIPTION_ID = 1L;
+    private static final String PAYLOAD = "payload";
+
+    @Mock
+    private WebPushSender webPushSender;
+    @Mock
+    private WebPushDeliveryRepository deliveryRepository;
+    @Mock
+    private WebPushSubscriptionRepository subscriptionRepository;
+    @Mock
+    private WebPushSubscriptionCache subscriptionCache;
+
+    private WebPushDispatchProperty property;
+    private Clock clock;
+    private WebPushDispatcher dispatcher;
+    private Subscription subscription;
+
+    @BeforeEach
+    void setup() {
+        property = new WebPushDispatchProperty();
+        clock = Clock.fixed(NOW, ZoneId.systemDefault());
+        dispatcher = new WebPushDispatcher(webPushSender, deliveryRepository, subscriptionRepository, property,
+                subscriptionCache, new SimpleMeterRegistry(), clock);
+        subscription = new Subscription("https://push.example.com/a", new Subscription.Keys("key", "auth"));
+    }
+
+    @Test
+    @DisplayName("동시 전송 한도를 넘으면 보내지 않고 시도 횟수를 유지한 채 재시도 큐에 저장")
+    void test1() {
+        // given
+        property.setMaxInFlightPerOrigin(1);
+        when(webPushSender.send(subscription, PAYLOAD)).thenReturn(new CompletableFuture<>());
+
+        // when
+        dispatcher.dispatch(SUBSCRIPTION_ID, subscription, PAYLOAD);
+        dispatcher.dispatch(SUBSCRIPTION_ID, subscription, PAYLOAD);
+
+        // then
+        verify(webPushSender, times(1)).send(subscription, PAYLOAD);
+        verifyNoInteractions(deliveryRepository);
+        WebPushDelivery delivery = persistOne();
+        assertThat(delivery.getAttempt()).isZero();
+        assertThat(delivery.getNextAttemptAt()).isEqualTo(now().plus(property.getInitialBackoff()));
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 시도 횟수를 늘리고 지터를 적용한 백오프 뒤로 재시도 큐에 저장")
+    void test2() {
+        // given
+        Response response = response(503);
+        when(webPushSender.send(subscription, PAYLOAD)).thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        dispatcher.dispatch(SUBSCRIPTION_ID, subscription, PAYLOAD);
+
+        // then
+        WebPushDelivery delivery = persistOne();
+        Duration initialBackoff = property.getInitialBackoff();
+        assertThat(delivery.getAttempt()).isEqualTo(1);
+        assertThat(delivery.getNextAttemptAt())
+                .isAfterOrEqualTo(now().plus(initialBackoff.dividedBy(2)))
+                .isBeforeOrEqualTo(now().plus(initialBackoff));
+    }
+
+    @Test
+    @DisplayName("429 응답의 Retry-After가 백오프보다 길면 Retry-After 뒤로 재시도")
+    void test3() {
+        // given
+        Response response = response(429);
+        when(response.getHeader("Retry-After")).thenReturn("120");
+        when(webPushSender.send(subscription, PAYLOAD)).thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        dispatcher.dispatch(SUBSCRIPTION_ID, subscription, PAYLOAD);
+
+        // then
+        WebPushDelivery delivery = persistOne();
+        assertThat(delivery.getAttempt()).isEqualTo(1);
+        assertThat(delivery.getNextAttemptAt()).isEqualTo(now().plusSeconds(120));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 재시도하지 않음")
+    void test4() {
+        // given
+        property.setMaxAttempts(1);
+        Response response = response(503);
+        when(webPushSender.send(subscription, PAYLOAD)).thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        dispatcher.dispatch(SUBSCRIPTION_ID, subscription, PAYLOAD);
+        dispatcher.persistPendingDeliveries();
+
+        // then
+        verifyNoInteractions(deliveryRepository);
+    }
+
+    @Test
+    @DisplayName("404, 410 응답을 받은 구독은 재시도하지 않고 정리 작업에서 삭제하고 구독 캐시를 비움")
+    void test5() {
+        // given
+        Subscription goneSubscription = new Subscription("https://push.example.com/b", new Subscription.Keys("key", "auth"));
+        Response notFound = response(404);
+        Response gone = response(410);
+        when(webPushSender.send(subscription, PAYLOAD)).thenReturn(CompletableFuture.completedFuture(notFound));
+        when(webPushSender.send(goneSubscription, PAYLOAD)).thenReturn(CompletableFuture.completedFuture(gone));
+        WebPushSubscription expired = mock(WebPushSubscription.class);
+        when(expired.getSubscriberId()).thenReturn(10L);
+        when(subscriptionRepository.findAllById(List.of(SUBSCRIPTION_ID, 2L))).thenReturn(List.of(expired));
+
+        // when
+        dispatcher.dispatch(SUBSCRIPTION_ID, subscription, PAYLOAD);
+        dispatcher.dispatch(2L, goneSubscription, PAYLOAD);
+        dispatcher.persistPendingDeliveries();
+        dispatcher.cleanupExpiredSubscriptions();
+
+        // then
+        verifyNoInteractions(deliveryRepository);
+        verify(subscriptionRepository).deleteAllByIdInBatch(List.of(SUBSCRIPTION_ID, 2L));
+        verify(subscriptionCache).evict(10L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private WebPushDelivery persistOne() {
+        dispatcher.persistPendingDeliveries();
+        ArgumentCaptor<List<WebPushDelivery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deliveryRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        return captor.getValue().get(0);
+    }
+
+    private Response response(int statusCode) {
+        Response response = mock(Response.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
@@ -11,6 +11,7 @@ import com.feedhanjum.back_end.notification.domain.FeedbackReceiveNotification;
 import com.feedhanjum.back_end.notification.domain.InAppNotification;
 import com.feedhanjum.back_end.notification.domain.UnreadFeedbackExistNotification;
 import com.feedhanjum.back_end.notification.event.InAppNotificationCreatedEvent;
+import com.feedhanjum.back_end.notification.infra.UnreadFeedbackReminderQueue;
 import com.feedhanjum.back_end.notification.repository.InAppNotificationQueryRepository;
 import com.feedhanjum.back_end.notification.repository.InAppNotificationRepository;
 import com.feedhanjum.back_end.team.domain.Team;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -41,6 +43,12 @@ import static com.feedhanjum.back_end.test.util.DomainTestUtils.createMemberWith
 import static com.feedhanjum.back_end.test.util.DomainTestUtils.createTeamWithoutId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -51,6 +59,9 @@ class InAppNotificationServiceIntegrationTest {
     @MockitoBean
     private EventPublisher eventPublisher;
 
+    @MockitoBean
+    private UnreadFeedbackReminderQueue unreadFeedbackReminderQueue;
+
     @Autowired
     private JobRecordRepository jobRecordRepository;
 
@@ -103,6 +114,13 @@ class InAppNotificationServiceIntegrationTest {
         return notification;
     }
 
+    private ArgumentMatcher<Object> createdEventOf(InAppNotification notification) {
+        return event -> event instanceof InAppNotificationCreatedEvent created
+                && created.notificationId().equals(notification.getId())
+                && created.receiverId().equals(notification.getReceiverId())
+                && created.payload() != null;
+    }
+
     @Test
     @DisplayName("같은 사용자에게 여러개의 안읽은 알림이 있으면 가장 오래된 것을 이용해 미확인 알림 생성")
     void test1() {
@@ -127,7 +145,7 @@ class InAppNotificationServiceIntegrationTest {
                 .asInstanceOf(InstanceOfAssertFactories.type(UnreadFeedbackExistNotification.class))
                 .satisfies(notification -> {
                     assertThat(notification.getSenderName()).isEqualTo(sender1.getName());
-                    verify(eventPublisher).publishEvent(new InAppNotificationCreatedEvent(notification.getId()));
+                    verify(eventPublisher).publishEvent(argThat(createdEventOf(notification)));
                 });
 
 
@@ -246,5 +264,78 @@ class InAppNotificationServiceIntegrationTest {
 
     }
 
+    @Test
+    @DisplayName("예약된 리마인더 처리 시 가장 오래된 안읽은 알림으로 미확인 알림을 생성하고 남은 알림 시점으로 재예약")
+    void test5() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime pendingCreatedAt = now.minusHours(1);
+        inAppNotificationRepository.saveAll(List.of(
+                createFeedbackReceiveNotification(now.minusDays(1).minusMinutes(1), sender2),
+                createFeedbackReceiveNotification(now.minusDays(1).minusMinutes(2), sender1),
+                createFeedbackReceiveNotification(pendingCreatedAt, sender3)
+        ));
+        when(unreadFeedbackReminderQueue.claimDue(any(), anyInt())).thenReturn(List.of(receiver.getId()));
+
+        // when
+        inAppNotificationService.sendUnreadFeedbackReminders();
+
+        // then
+        assertThat(inAppNotificationRepository.findAll())
+                .filteredOn(UnreadFeedbackExistNotification.class::isInstance)
+                .hasSize(1)
+                .first()
+                .asInstanceOf(InstanceOfAssertFactories.type(UnreadFeedbackExistNotification.class))
+                .satisfies(notification -> {
+                    assertThat(notification.getSenderName()).isEqualTo(sender1.getName());
+                    verify(eventPublisher).publishEvent(argThat(createdEventOf(notification)));
+                });
+        verify(unreadFeedbackReminderQueue).schedule(receiver.getId(), pendingCreatedAt.plusDays(1));
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("예약된 리마인더 처리 시 24시간이 지난 안읽은 알림이 없다면 생성하지 않고 재예약")
+    void test6() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime createdAt = now.minusHours(3);
+        inAppNotificationRepository.save(createFeedbackReceiveNotification(createdAt, sender1));
+        when(unreadFeedbackReminderQueue.claimDue(any(), anyInt())).thenReturn(List.of(receiver.getId()));
+
+        // when
+        inAppNotificationService.sendUnreadFeedbackReminders();
+
+        // then
+        assertThat(inAppNotificationRepository.findAll())
+                .filteredOn(UnreadFeedbackExistNotification.class::isInstance)
+                .isEmpty();
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(unreadFeedbackReminderQueue).schedule(receiver.getId(), createdAt.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("리마인더 처리 중 한 수신자에서 실패하면 그 수신자만 미뤄서 되돌리고 나머지 수신자는 처리")
+    void test7() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        Member otherReceiver = memberRepository.save(createMemberWithoutId("otherReceiver"));
+        team.join(otherReceiver);
+        FeedbackReceiveNotification otherNotification = new FeedbackReceiveNotification(
+                DomainTestUtils.createFeedbackWithId(sender1, otherReceiver, team, FeedbackType.IDENTIFIED));
+        ReflectionTestUtils.setField(otherNotification, "createdAt", now.minusDays(2));
+        inAppNotificationRepository.saveAll(List.of(
+                createFeedbackReceiveNotification(now.minusDays(2), sender1),
+                otherNotification
+        ));
+        when(unreadFeedbackReminderQueue.claimDue(any(), anyInt())).thenReturn(List.of(receiver.getId(), otherReceiver.getId()));
+        doThrow(new IllegalStateException("poison")).doNothing().when(eventPublisher).publishEvent(any());
+
+        // when
+        inAppNotificationService.sendUnreadFeedbackReminders();
+
+        // then
+        verify(eventPublisher, times(2)).publishEvent(any());
+        verify(unreadFeedbackReminderQueue).restore(List.of(receiver.getId()), now.plusMinutes(10));
+        verify(unreadFeedbackReminderQueue, never()).restore(eq(List.of(otherReceiver.getId())), any());
+    }
+}
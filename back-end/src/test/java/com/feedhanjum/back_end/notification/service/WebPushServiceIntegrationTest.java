@@ -3,6 +3,7 @@ package com.feedhanjum.back_end.notification.service;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.notification.domain.WebPushSubscription;
+import com.feedhanjum.back_end.notification.infra.WebPushSubscriptionCache;
 import com.feedhanjum.back_end.notification.repository.WebPushSubscriptionRepository;
 import nl.martijndwars.webpush.Subscription;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static com.feedhanjum.back_end.test.util.DomainTestUtils.createMemberWithoutId;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -26,6 +29,9 @@ class WebPushServiceIntegrationTest {
     @Autowired
     private WebPushService webPushService;
 
+    @Autowired
+    private WebPushSubscriptionCache webPushSubscriptionCache;
+
     @Test
     @DisplayName("endpoint 중복 시 기존 subscription을 업데이트")
     void test1() {
@@ -52,4 +58,22 @@ class WebPushServiceIntegrationTest {
                 });
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("구독 시 이전 구독자와 새 구독자의 구독 캐시를 무효화")
+    void test2() {
+        // given
+        Member previousSubscriber = memberRepository.save(createMemberWithoutId("previousSubscriber2"));
+        Member newSubscriber = memberRepository.save(createMemberWithoutId("newSubscriber2"));
+        Subscription subscription = new Subscription("https://push-server.com/member2", new Subscription.Keys("key", "auth"));
+        webPushSubscriptionRepository.save(new WebPushSubscription(previousSubscriber, subscription));
+        webPushSubscriptionCache.put(previousSubscriber.getId(), List.of());
+        webPushSubscriptionCache.put(newSubscriber.getId(), List.of());
+
+        // when
+        webPushService.subscribe(newSubscriber.getId(), subscription);
+
+        // then
+        assertThat(webPushSubscriptionCache.get(previousSubscriber.getId())).isEmpty();
+        assertThat(webPushSubscriptionCache.get(newSubscriber.getId())).isEmpty();
+    }
+}
@@ -4,6 +4,7 @@ import com.feedhanjum.back_end.schedule.controller.dto.ScheduleRequest;
 import com.feedhanjum.back_end.schedule.domain.Todo;
 import com.feedhanjum.back_end.schedule.service.ScheduleService;
 import com.feedhanjum.back_end.schedule.service.dto.ScheduleRequestDto;
+import com.feedhanjum.back_end.teamplanorchestration.service.ScheduleSeriesService;
 import com.feedhanjum.back_end.teamplanorchestration.service.TeamPlanOrchestrationService;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -36,6 +37,10 @@ public class ScheduleControllerTest {
 
     @Mock
     private ScheduleService scheduleService;
+
+    @Mock
+    private ScheduleSeriesService scheduleSeriesService;
+
     @Test
     @DisplayName("일정 생성 컨트롤러 성공 테스트")
     void scheduleController_createSchedule_성공() {
@@ -0,0 +1,114 @@
+package com.feedhanjum.back_end.schedule.domain;
+
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.test.util.DomainTestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScheduleSeriesTest {
+
+    Member leader = DomainTestUtils.createMemberWithId("leader");
+    Team team = DomainTestUtils.createTeamWithId("team", leader,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), LocalDate.of(2025, 1, 1));
+    LocalDateTime firstStart = LocalDateTime.of(2025, 3, 3, 10, 0);
+
+    private ScheduleSeries createSeries(int intervalWeeks, LocalDate untilDate) {
+        return new ScheduleSeries("weekly", firstStart, firstStart.plusHours(1), intervalWeeks, untilDate, team, leader);
+    }
+
+    @Test
+    @DisplayName("기간 안의 회차만 반복 주기에 맞게 펼침")
+    void test1() {
+        // given
+        ScheduleSeries weekly = createSeries(1, LocalDate.of(2025, 12, 31));
+        ScheduleSeries biweekly = createSeries(2, LocalDate.of(2025, 12, 31));
+
+        // when
+        List<LocalDateTime> weeklyOccurrences = weekly.getOccurrenceStartTimesBetween(
+                LocalDateTime.of(2025, 3, 10, 10, 30), LocalDateTime.of(2025, 3, 31, 10, 0));
+        List<LocalDateTime> biweeklyOccurrences = biweekly.getOccurrenceStartTimesBetween(
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 31, 23, 59));
+
+        // then
+        assertThat(weeklyOccurrences).containsExactly(
+                LocalDateTime.of(2025, 3, 17, 10, 0),
+                LocalDateTime.of(2025, 3, 24, 10, 0),
+                LocalDateTime.of(2025, 3, 31, 10, 0));
+        assertThat(biweeklyOccurrences).containsExactly(
+                LocalDateTime.of(2025, 3, 3, 10, 0),
+                LocalDateTime.of(2025, 3, 17, 10, 0),
+                LocalDateTime.of(2025, 3, 31, 10, 0));
+    }
+
+    @Test
+    @DisplayName("건너뛴 회차와 반복 종료 날짜 이후 회차는 제외")
+    void test2() {
+        // given
+        ScheduleSeries series = createSeries(1, LocalDate.of(2025, 3, 24));
+        series.skipOccurrence(LocalDate.of(2025, 3, 10));
+
+        // when
+        List<LocalDateTime> occurrences = series.getOccurrenceStartTimesBetween(
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 30, 0, 0));
+
+        // then
+        assertThat(occurrences).containsExactly(
+                LocalDateTime.of(2025, 3, 3, 10, 0),
+                LocalDateTime.of(2025, 3, 17, 10, 0),
+                LocalDateTime.of(2025, 3, 24, 10, 0));
+        assertThat(series.isOccurrence(LocalDateTime.of(2025, 3, 10, 10, 0))).isFalse();
+        assertThat(series.isOccurrence(LocalDateTime.of(2025, 3, 17, 11, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("만든 회차 이후의 회차만 남은 회차로 보고, 회차는 같은 길이의 일정으로 만들어짐")
+    void test3() {
+        // given
+        ScheduleSeries series = createSeries(1, LocalDate.of(2025, 12, 31));
+        series.markMaterializedUntil(LocalDateTime.of(2025, 3, 10, 10, 0));
+
+        // when
+        List<LocalDateTime> pending = series.getPendingOccurrenceStartTimesUntil(LocalDateTime.of(2025, 3, 24, 10, 0));
+        Schedule occurrence = series.createOccurrence(LocalDateTime.of(2025, 3, 17, 10, 0));
+
+        // then
+        assertThat(pending).containsExactly(LocalDateTime.of(2025, 3, 17, 10, 0), LocalDateTime.of(2025, 3, 24, 10, 0));
+        assertThat(occurrence.getEndTime()).isEqualTo(LocalDateTime.of(2025, 3, 17, 11, 0));
+        assertThat(occurrence.getTeam()).isEqualTo(team);
+        assertThatThrownBy(() -> series.createOccurrence(LocalDateTime.of(2025, 3, 18, 10, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("반복 주기가 1주 또는 2주가 아니거나 반복 종료 날짜가 첫 일정 이전이면 실패")
+    void test4() {
+        assertThatThrownBy(() -> createSeries(3, LocalDate.of(2025, 12, 31)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createSeries(1, LocalDate.of(2025, 3, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("팀 종료 날짜 이후 회차는 반복 종료 날짜 이전이어도 제외")
+    void test5() {
+        // given
+        Team shortTeam = DomainTestUtils.createTeamWithId("short", leader,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 12), LocalDate.of(2025, 1, 1));
+        ScheduleSeries series = new ScheduleSeries("weekly", firstStart, firstStart.plusHours(1), 1, LocalDate.of(2025, 12, 31), shortTeam, leader);
+
+        // when
+        List<LocalDateTime> occurrences = series.getOccurrenceStartTimesBetween(
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 30, 0, 0));
+
+        // then
+        assertThat(occurrences).containsExactly(LocalDateTime.of(2025, 3, 3, 10, 0), LocalDateTime.of(2025, 3, 10, 10, 0));
+    }
+}
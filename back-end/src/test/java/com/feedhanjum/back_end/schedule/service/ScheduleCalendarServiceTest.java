@@ -0,0 +1,159 @@
+package com.feedhanjum.back_end.schedule.service;
+
+import com.feedhanjum.back_end.member.repository.MemberQueryRepository;
+import com.feedhanjum.back_end.schedule.infra.InMemoryScheduleCalendarCache;
+import com.feedhanjum.back_end.schedule.repository.ScheduleQueryRepository;
+import com.feedhanjum.back_end.schedule.repository.ScheduleSeriesRepository;
+import com.feedhanjum.back_end.schedule.repository.dto.ScheduleProjectionDto;
+import com.feedhanjum.back_end.schedule.service.dto.NearestSchedulesDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCalendarServiceTest {
+
+    @Mock
+    ScheduleQueryRepository scheduleQueryRepository;
+
+    @Mock
+    ScheduleSeriesRepository scheduleSeriesRepository;
+
+    @Mock
+    MemberQueryRepository memberQueryRepository;
+
+    InMemoryScheduleCalendarCache scheduleCalendarCache;
+
+    ScheduleCalendarService scheduleCalendarService;
+
+    Long teamId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        scheduleCalendarCache = new InMemoryScheduleCalendarCache();
+        scheduleCalendarService = new ScheduleCalendarService(scheduleCalendarCache, scheduleQueryRepository,
+                scheduleSeriesRepository, memberQueryRepository);
+    }
+
+    private ScheduleProjectionDto projection(Long scheduleId, LocalDateTime startTime, String... todos) {
+        ScheduleProjectionDto dto = new ScheduleProjectionDto(teamId, "team", 1L, scheduleId, "schedule" + scheduleId, 1L,
+                startTime, startTime.plusHours(1), 1L, "member", scheduleId * 10);
+        dto.setTodos(List.of(todos));
+        return dto;
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 월은 캐시에서 가져오고, 요청 기간에 맞게 걸러 시작 시각 순으로 반환")
+    void test1() {
+        // given
+        LocalDateTime january = LocalDateTime.of(2025, 1, 20, 10, 0);
+        LocalDateTime february = LocalDateTime.of(2025, 2, 5, 10, 0);
+        when(scheduleQueryRepository.findSchedulesByTeamIdAndDuration(isNull(), eq(teamId), any(), any()))
+                .thenReturn(List.of(
+                        projection(2L, february, "todo1", "todo2"),
+                        projection(1L, january)));
+
+        // when
+        List<ScheduleNestedDto> first = scheduleCalendarService.getSchedules(List.of(teamId),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 28, 23, 59));
+        List<ScheduleNestedDto> second = scheduleCalendarService.getSchedules(List.of(teamId),
+                LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 2, 10, 23, 59));
+
+        // then
+        assertThat(first).extracting(ScheduleNestedDto::getScheduleId).containsExactly(1L, 2L);
+        assertThat(first.get(1).getScheduleMemberNestedDtoList().get(0).getTodoList()).containsExactly("todo1", "todo2");
+        assertThat(second).extracting(ScheduleNestedDto::getScheduleId).containsExactly(2L);
+        verify(scheduleQueryRepository, times(1)).findSchedulesByTeamIdAndDuration(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("무효화한 월만 다시 조회")
+    void test2() {
+        // given
+        LocalDateTime january = LocalDateTime.of(2025, 1, 20, 10, 0);
+        when(scheduleQueryRepository.findSchedulesByTeamIdAndDuration(isNull(), eq(teamId), any(), any()))
+                .thenReturn(List.of(projection(1L, january)))
+                .thenReturn(List.of());
+        scheduleCalendarService.getSchedules(List.of(teamId),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 3, 31, 23, 59));
+
+        // when
+        scheduleCalendarService.evictAfterCommit(teamId, LocalDateTime.of(2025, 2, 14, 10, 0));
+        scheduleCalendarService.getSchedules(List.of(teamId),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 3, 31, 23, 59));
+
+        // then
+        verify(scheduleQueryRepository).findSchedulesByTeamIdAndDuration(null, teamId,
+                LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 2, 28, 23, 59, 59, 999_999_999));
+    }
+
+    @Test
+    @DisplayName("가장 가까운 일정은 다음 일정이 시작하기 전까지 캐시에서 가져오고, 시작하면 다시 계산")
+    void test3() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 9, 0);
+        LocalDateTime nextStart = now.plusHours(3);
+        when(scheduleQueryRepository.findScheduleByClosestNextStartTime(eq(teamId), any()))
+                .thenReturn(List.of(projection(1L, nextStart)))
+                .thenReturn(List.of());
+        when(scheduleQueryRepository.findScheduleByClosestPreviousEndTime(eq(teamId), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(projection(1L, nextStart)));
+        when(scheduleQueryRepository.findEarliestEndTimeAfter(eq(teamId), any()))
+                .thenReturn(Optional.of(nextStart.plusHours(1)))
+                .thenReturn(Optional.empty());
+
+        // when
+        NearestSchedulesDto first = scheduleCalendarService.getNearestSchedules(teamId, now);
+        NearestSchedulesDto beforeStart = scheduleCalendarService.getNearestSchedules(teamId, nextStart.minusMinutes(1));
+        NearestSchedulesDto afterEnd = scheduleCalendarService.getNearestSchedules(teamId, nextStart.plusHours(2));
+
+        // then
+        assertThat(first.getNextSchedule().getScheduleId()).isEqualTo(1L);
+        assertThat(first.getValidUntil()).isEqualTo(nextStart);
+        assertThat(beforeStart).isSameAs(first);
+        assertThat(afterEnd.getNextSchedule()).isNull();
+        assertThat(afterEnd.getPreviousSchedule().getScheduleId()).isEqualTo(1L);
+        verify(scheduleQueryRepository, times(2)).findScheduleByClosestNextStartTime(eq(teamId), any());
+    }
+
+    @Test
+    @DisplayName("월 일정을 읽는 도중 무효화되면 읽은 일정을 캐싱하지 않음")
+    void test4() {
+        // given
+        LocalDateTime january = LocalDateTime.of(2025, 1, 20, 10, 0);
+        when(scheduleQueryRepository.findSchedulesByTeamIdAndDuration(isNull(), eq(teamId), any(), any()))
+                .thenAnswer(invocation -> {
+                    // 이전 일정을 읽은 직후 일정 생성이 커밋되어 무효화됨
+                    scheduleCalendarCache.evict(teamId, List.of(YearMonth.from(january)));
+                    return List.of();
+                })
+                .thenReturn(List.of(projection(1L, january)));
+
+        // when
+        List<ScheduleNestedDto> first = scheduleCalendarService.getSchedules(List.of(teamId),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 23, 59));
+        List<ScheduleNestedDto> second = scheduleCalendarService.getSchedules(List.of(teamId),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 23, 59));
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).extracting(ScheduleNestedDto::getScheduleId).containsExactly(1L);
+        verify(scheduleQueryRepository, times(2)).findSchedulesByTeamIdAndDuration(any(), any(), any(), any());
+    }
+}
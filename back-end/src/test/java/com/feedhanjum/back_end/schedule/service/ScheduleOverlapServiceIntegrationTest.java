@@ -0,0 +1,94 @@
+package com.feedhanjum.back_end.schedule.service;
+
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.test.util.DomainTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ScheduleOverlapServiceIntegrationTest {
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private ScheduleOverlapService scheduleOverlapService;
+
+    private Team team;
+    private Team otherTeam;
+    private Schedule morning;
+    private Schedule afternoon;
+
+    @BeforeEach
+    void setUp() {
+        Member leader = memberRepository.save(DomainTestUtils.createMemberWithoutId("leader"));
+        team = teamRepository.save(DomainTestUtils.createTeamWithoutId("team", leader,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), LocalDate.of(2025, 1, 1)));
+        otherTeam = teamRepository.save(DomainTestUtils.createTeamWithoutId("other", leader,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), LocalDate.of(2025, 1, 1)));
+        morning = scheduleRepository.save(new Schedule("morning", at(9, 0), at(11, 0), team, leader));
+        afternoon = scheduleRepository.save(new Schedule("afternoon", at(14, 0), at(16, 0), team, leader));
+        scheduleRepository.save(new Schedule("previous day", LocalDateTime.of(2025, 3, 2, 22, 0), LocalDateTime.of(2025, 3, 2, 23, 50), team, leader));
+        scheduleRepository.save(new Schedule("other team", at(10, 0), at(15, 0), otherTeam, leader));
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2025, 3, 3, hour, minute);
+    }
+
+    @Test
+    @DisplayName("시간이 걸친 같은 팀 일정만 시작 시각 순으로 반환")
+    void test1() {
+        // when
+        List<Schedule> overlapping = scheduleOverlapService.findOverlappingSchedules(team.getId(), at(10, 0), at(15, 0));
+
+        // then
+        assertThat(overlapping).containsExactly(morning, afternoon);
+    }
+
+    @Test
+    @DisplayName("끝이 맞닿기만 한 일정과 다른 날 일정은 겹치지 않음")
+    void test2() {
+        // when
+        List<Schedule> between = scheduleOverlapService.findOverlappingSchedules(team.getId(), at(11, 0), at(14, 0));
+        List<Schedule> earlyMorning = scheduleOverlapService.findOverlappingSchedules(team.getId(), at(0, 0), at(9, 0));
+
+        // then
+        assertThat(between).isEmpty();
+        assertThat(earlyMorning).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일정을 감싸는 시간, 일정 안의 시간 모두 겹침으로 보고, 제외할 일정은 빠짐")
+    void test3() {
+        // when
+        List<Schedule> containing = scheduleOverlapService.findOverlappingSchedules(team.getId(), at(8, 0), at(12, 0));
+        List<Schedule> contained = scheduleOverlapService.findOverlappingSchedules(team.getId(), at(14, 30), at(15, 0));
+        List<Schedule> excludingSelf = scheduleOverlapService.findOverlappingSchedules(team.getId(), at(9, 30), at(10, 30), morning.getId());
+
+        // then
+        assertThat(containing).containsExactly(morning);
+        assertThat(contained).containsExactly(afternoon);
+        assertThat(excludingSelf).isEmpty();
+    }
+}
@@ -1,13 +1,22 @@
 package com.feedhanjum.back_end.schedule.service;
 
+import com.feedhanjum.back_end.core.domain.DelayedJob;
 import com.feedhanjum.back_end.core.domain.JobRecord;
 import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.core.repository.DelayedJobRepository;
 import com.feedhanjum.back_end.core.repository.JobRecordRepository;
+import com.feedhanjum.back_end.core.service.DelayedJobService;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.domain.ScheduleMember;
+import com.feedhanjum.back_end.schedule.domain.Todo;
 import com.feedhanjum.back_end.schedule.event.ScheduleEndedEvent;
+import com.feedhanjum.back_end.schedule.infra.ScheduleEndJobMigration;
+import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleMemberNestedDto;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleNestedDto;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
 import com.feedhanjum.back_end.test.util.DomainTestUtils;
@@ -17,6 +26,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -33,7 +43,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 
@@ -50,9 +62,18 @@ class ScheduleServiceIntegrationTest {
     @Autowired
     private ScheduleRepository scheduleRepository;
 
+    @Autowired
+    private ScheduleMemberRepository scheduleMemberRepository;
+
     @Autowired
     private JobRecordRepository jobRecordRepository;
 
+    @Autowired
+    private DelayedJobRepository delayedJobRepository;
+
+    @Autowired
+    private DelayedJobService delayedJobService;
+
     @Autowired
     private Clock clock;
 
@@ -62,6 +83,9 @@ class ScheduleServiceIntegrationTest {
     @Autowired
     private ScheduleService scheduleService;
 
+    @Autowired
+    private ScheduleEndJobMigration scheduleEndJobMigration;
+
     private Member member1;
     private Member member2;
     private Member member3;
@@ -100,62 +124,148 @@ class ScheduleServiceIntegrationTest {
 
 
     @Nested
-    @DisplayName("일정 종료 로직 테스트")
-    class EndTeamTest {
-        // 일정 종료 로직 테스트
+    @DisplayName("이전 일정 종료 방식 이전 테스트")
+    class ScheduleEndJobMigrationTest {
 
         @Test
-        @DisplayName("이전 종료 시간과 현재 시간 사이의 팀들만 처리")
-        void endTeam() {
+        @DisplayName("이전 방식의 마지막 처리 이후에 끝난 일정은 종료 이벤트를 발행하고, 끝나지 않은 일정은 종료 작업만 등록")
+        void migrate() {
             // given
             LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime previousFinishTime = now.minusDays(1);
+            jobRecordRepository.save(new JobRecord(JobRecord.JobName.SCHEDULE, previousFinishTime));
 
-            List<Schedule> targetSchedules = new ArrayList<>();
+            // 마지막 처리와 배포 사이에 끝난 일정
+            List<Schedule> gapSchedules = new ArrayList<>();
             for (int i = 0; i < 10; i++) {
-                targetSchedules.add(
+                gapSchedules.add(
                         new Schedule("schedule" + i, now.minusMinutes(i * 10 + 20), now.minusMinutes(i * 10 + 10), team1, member1)
                 );
             }
-            scheduleRepository.saveAll(targetSchedules);
-
-            LocalDateTime previousEndDateTime = now.minusDays(1);
-            JobRecord jobRecord = new JobRecord(JobRecord.JobName.SCHEDULE, previousEndDateTime);
-            jobRecordRepository.save(jobRecord);
+            scheduleRepository.saveAll(gapSchedules);
 
             List<Schedule> alreadyEndedSchedules = List.of(
-                    new Schedule("ended-schedule1", previousEndDateTime.minusMinutes(20), previousEndDateTime.minusMinutes(10), team1, member1),
-                    new Schedule("ended-schedule2", previousEndDateTime.minusMinutes(30), previousEndDateTime.minusMinutes(20), team1, member1)
+                    new Schedule("ended-schedule1", previousFinishTime.minusMinutes(20), previousFinishTime.minusMinutes(10), team1, member1),
+                    new Schedule("ended-schedule2", previousFinishTime.minusMinutes(30), previousFinishTime.minusMinutes(20), team1, member1)
             );
             scheduleRepository.saveAll(alreadyEndedSchedules);
 
             List<Schedule> notEndedSchedules = List.of(
-                    new Schedule("not-ended-schedule1", now, now.plusMinutes(10), team1, member1),
-                    new Schedule("not-ended-schedule2", now.plusMinutes(10), now.plusMinutes(20), team1, member1)
+                    new Schedule("not-ended-schedule1", now.plusDays(1), now.plusDays(1).plusMinutes(10), team1, member1),
+                    new Schedule("not-ended-schedule2", now.plusDays(1).plusMinutes(10), now.plusDays(1).plusMinutes(20), team1, member1)
             );
             scheduleRepository.saveAll(notEndedSchedules);
 
             // when
+            scheduleEndJobMigration.run(new DefaultApplicationArguments());
+            delayedJobService.loadUpcomingJobs();
+
+            // then
+            assertThat(jobRecordRepository.findById(JobRecord.JobName.SCHEDULE)).isEmpty();
+            ArgumentCaptor<ScheduleEndedEvent> captor = ArgumentCaptor.captor();
+            verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+            List<Long> endedScheduleIds = captor.getAllValues().stream().map(ScheduleEndedEvent::scheduleId).toList();
+            assertThat(endedScheduleIds).containsAll(gapSchedules.stream().map(Schedule::getId).toList());
+            assertThat(endedScheduleIds).doesNotContainAnyElementsOf(alreadyEndedSchedules.stream().map(Schedule::getId).toList());
+            assertThat(endedScheduleIds).doesNotContainAnyElementsOf(notEndedSchedules.stream().map(Schedule::getId).toList());
+            assertThat(notEndedSchedules).allSatisfy(schedule ->
+                    assertThat(delayedJobRepository.findByJobTypeAndTargetId(DelayedJob.JobType.SCHEDULE_END, schedule.getId()))
+                            .get().extracting(DelayedJob::getDueAt).isEqualTo(schedule.getEndTime()));
+            assertThat(alreadyEndedSchedules).allSatisfy(schedule ->
+                    assertThat(delayedJobRepository.findByJobTypeAndTargetId(DelayedJob.JobType.SCHEDULE_END, schedule.getId())).isEmpty());
+        }
 
-            scheduleService.endSchedules();
+        @Test
+        @DisplayName("이전 방식의 작업 기록이 없으면 아무것도 등록하지 않음")
+        void skipWithoutLegacyRecord() {
+            // given
+            LocalDateTime now = LocalDateTime.now(clock);
+            Schedule schedule = scheduleRepository.save(new Schedule("future", now.plusDays(2), now.plusDays(2).plusHours(1), team1, member1));
 
+            // when
+            scheduleEndJobMigration.run(new DefaultApplicationArguments());
 
             // then
-            assertThat(jobRecordRepository.findAll().get(0).getPreviousFinishTime()).isEqualTo(now);
-            ArgumentCaptor<ScheduleEndedEvent> captor = ArgumentCaptor.captor();
-            verify(eventPublisher, times(10)).publishEvent(captor.capture());
-            List<ScheduleEndedEvent> events = captor.getAllValues();
-            assertThat(events).allMatch(event ->
-                    targetSchedules.stream()
-                            .map(Schedule::getId).toList()
-                            .contains(event.scheduleId()));
-            assertThat(events).noneMatch(event ->
-                    alreadyEndedSchedules.stream()
-                            .map(Schedule::getId).toList()
-                            .contains(event.scheduleId()));
-            assertThat(events).noneMatch(event ->
-                    notEndedSchedules.stream()
-                            .map(Schedule::getId).toList()
-                            .contains(event.scheduleId()));
+            assertThat(delayedJobRepository.findByJobTypeAndTargetId(DelayedJob.JobType.SCHEDULE_END, schedule.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("일정 종료 작업 테스트")
+    class ScheduleEndJobTest {
+
+        @Test
+        @DisplayName("종료 시각이 지난 일정의 종료 작업을 실행하면 종료 이벤트를 발행하고 작업을 삭제")
+        void executeDueJob() {
+            // given
+            LocalDateTime now = LocalDateTime.now(clock);
+            Schedule schedule = scheduleRepository.save(new Schedule("ended", now.minusMinutes(20), now.minusMinutes(10), team1, member1));
+            delayedJobService.schedule(DelayedJob.JobType.SCHEDULE_END, schedule.getId(), schedule.getEndTime());
+
+            // when
+            delayedJobService.loadUpcomingJobs();
+
+            // then
+            verify(eventPublisher).publishEvent(new ScheduleEndedEvent(schedule.getId()));
+            assertThat(delayedJobRepository.findByJobTypeAndTargetId(DelayedJob.JobType.SCHEDULE_END, schedule.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("종료 시각이 미뤄진 작업과 취소된 작업은 실행하지 않음")
+        void skipRescheduledAndCanceledJob() {
+            // given
+            LocalDateTime now = LocalDateTime.now(clock);
+            Schedule rescheduled = scheduleRepository.save(new Schedule("rescheduled", now.minusMinutes(20), now.minusMinutes(10), team1, member1));
+            Schedule canceled = scheduleRepository.save(new Schedule("canceled", now.minusMinutes(40), now.minusMinutes(30), team1, member1));
+            delayedJobService.schedule(DelayedJob.JobType.SCHEDULE_END, rescheduled.getId(), rescheduled.getEndTime());
+            delayedJobService.schedule(DelayedJob.JobType.SCHEDULE_END, rescheduled.getId(), now.plusDays(1));
+            delayedJobService.schedule(DelayedJob.JobType.SCHEDULE_END, canceled.getId(), canceled.getEndTime());
+            delayedJobService.cancel(DelayedJob.JobType.SCHEDULE_END, canceled.getId());
+
+            // when
+            delayedJobService.loadUpcomingJobs();
+
+            // then
+            verify(eventPublisher, never()).publishEvent(any(ScheduleEndedEvent.class));
+            assertThat(delayedJobRepository.findByJobTypeAndTargetId(DelayedJob.JobType.SCHEDULE_END, rescheduled.getId()))
+                    .get().extracting(DelayedJob::getDueAt).isEqualTo(now.plusDays(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("일정 상세 조회 테스트")
+    class GetScheduleTest {
+
+        @Test
+        @DisplayName("일정 멤버마다 한 번씩, 각자의 할 일을 모두 담아 반환")
+        void getScheduleWithTodos() {
+            // given
+            LocalDateTime now = LocalDateTime.now(clock);
+            Schedule schedule = scheduleRepository.save(new Schedule("detail", now.plusDays(1), now.plusDays(1).plusHours(1), team1, member1));
+            ScheduleMember scheduleMember1 = new ScheduleMember(schedule, member1);
+            scheduleMember1.setTodos(List.of(new Todo("todo1"), new Todo("todo2"), new Todo("todo3")));
+            ScheduleMember scheduleMember2 = new ScheduleMember(schedule, member2);
+            scheduleMember2.setTodos(List.of(new Todo("todo4")));
+            ScheduleMember scheduleMember3 = new ScheduleMember(schedule, member3);
+            scheduleMemberRepository.saveAll(List.of(scheduleMember1, scheduleMember2, scheduleMember3));
+
+            // when
+            ScheduleNestedDto result = scheduleService.getSchedule(member1.getId(), team1.getId(), schedule.getId());
+
+            // then
+            assertThat(result.getScheduleMemberNestedDtoList())
+                    .extracting(ScheduleMemberNestedDto::getMemberId)
+                    .containsExactlyInAnyOrder(member1.getId(), member2.getId(), member3.getId());
+            assertThat(result.getScheduleMemberNestedDtoList())
+                    .filteredOn(dto -> dto.getMemberId().equals(member1.getId()))
+                    .singleElement()
+                    .extracting(ScheduleMemberNestedDto::getTodoList)
+                    .isEqualTo(List.of("todo1", "todo2", "todo3"));
+            assertThat(result.getScheduleMemberNestedDtoList())
+                    .filteredOn(dto -> dto.getMemberId().equals(member3.getId()))
+                    .singleElement()
+                    .extracting(ScheduleMemberNestedDto::getTodoList)
+                    .isEqualTo(List.of());
         }
     }
-}
\ No newline at end of file
+}
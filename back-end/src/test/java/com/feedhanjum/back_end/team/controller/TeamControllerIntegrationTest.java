@@ -14,8 +14,9 @@ import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.domain.TeamJoinToken;
 import com.feedhanjum.back_end.team.domain.TeamMember;
 import com.feedhanjum.back_end.team.event.TeamMemberLeftEvent;
-import com.feedhanjum.back_end.team.repository.TeamJoinTokenRepository;
+import com.feedhanjum.back_end.team.infra.TeamJoinTokenStore;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -72,7 +73,7 @@ public class TeamControllerIntegrationTest {
     private Member member2;
     private Member member3;
     @Autowired
-    private TeamJoinTokenRepository teamJoinTokenRepository;
+    private TeamJoinTokenStore teamJoinTokenStore;
 
     @BeforeEach
     void setUp() {
@@ -216,11 +217,9 @@ public class TeamControllerIntegrationTest {
                         TeamJoinTokenResponse token = mapper.readValue(result, TeamJoinTokenResponse.class);
                         assertThat(token.validUntil()).isCloseTo(LocalDateTime.now().plusHours(TeamJoinToken.EXPIRATION_HOURS), within(1, ChronoUnit.SECONDS));
 
-                        List<TeamJoinToken> tokens = teamJoinTokenRepository.findAll();
-                        assertThat(tokens).hasSize(1);
-                        assertThat(tokens.get(0).getToken()).isEqualTo(token.token());
-
-                        assertThat(tokens.get(0).getExpireDate()).isEqualTo(token.validUntil());
+                        TeamJoinToken savedToken = teamJoinTokenStore.find(token.token()).orElseThrow();
+                        assertThat(savedToken.getTeam().id()).isEqualTo(team.getId());
+                        assertThat(savedToken.getExpireDate()).isEqualTo(token.validUntil());
                     });
         }
 
@@ -343,11 +342,15 @@ public class TeamControllerIntegrationTest {
             ).hasStatus(HttpStatus.OK)
                     .body()
                     .satisfies(result -> {
-                        List<TeamResponse> responses = mapper.readValue(result, new TypeReference<>() {
+                        List<TeamSummaryResponse> responses = mapper.readValue(result, new TypeReference<>() {
                         });
                         assertThat(responses).hasSize(2);
-                        assertThat(responses).extracting(TeamResponse::name)
+                        assertThat(responses).extracting(TeamSummaryResponse::name)
                                 .containsExactlyInAnyOrder("team1", "team2");
+                        assertThat(responses).allSatisfy(response -> {
+                            assertThat(response.memberCount()).isEqualTo(1);
+                            assertThat(response.role()).isEqualTo(TeamSummaryDto.Role.LEADER);
+                        });
                     });
         }
     }
@@ -410,7 +413,7 @@ public class TeamControllerIntegrationTest {
             teamRepository.save(team);
 
             TeamJoinToken token = team.createJoinToken(leader, LocalDateTime.now(clock));
-            teamJoinTokenRepository.save(token);
+            teamJoinTokenStore.save(token);
 
             // when & then
             assertThat(
@@ -436,7 +439,7 @@ public class TeamControllerIntegrationTest {
 
             TeamJoinToken expiredToken = team.createJoinToken(leader, LocalDateTime.now(clock));
             ReflectionTestUtils.setField(expiredToken, "expireDate", LocalDateTime.now().minusHours(1));
-            teamJoinTokenRepository.save(expiredToken);
+            teamJoinTokenStore.save(expiredToken);
 
 
             // when & then
@@ -650,7 +653,7 @@ public class TeamControllerIntegrationTest {
             teamRepository.save(team);
 
             TeamJoinToken token = team.createJoinToken(leader, LocalDateTime.now(clock));
-            teamJoinTokenRepository.save(token);
+            teamJoinTokenStore.save(token);
 
             Member notMember = member2;
 
@@ -680,7 +683,7 @@ public class TeamControllerIntegrationTest {
             teamRepository.save(team);
 
             TeamJoinToken token = team.createJoinToken(leader, LocalDateTime.now(clock));
-            teamJoinTokenRepository.save(token);
+            teamJoinTokenStore.save(token);
 
             Member notMember = member2;
 
@@ -703,7 +706,7 @@ public class TeamControllerIntegrationTest {
 
             TeamJoinToken expiredToken = team.createJoinToken(leader, LocalDateTime.now(clock));
             ReflectionTestUtils.setField(expiredToken, "expireDate", LocalDateTime.now().minusHours(1));
-            teamJoinTokenRepository.save(expiredToken);
+            teamJoinTokenStore.save(expiredToken);
 
             Member notMember = member2;
 
@@ -716,5 +719,29 @@ public class TeamControllerIntegrationTest {
                             .contentType(MediaType.APPLICATION_JSON)
             ).hasStatus(HttpStatus.NOT_FOUND);
         }
+
+        @Test
+        @DisplayName("토큰 발급 이후 팀이 종료되었으면 410")
+        void test4() {
+            // given
+            Member leader = member1;
+            Team team = createTeamWithoutId("team1", leader);
+            teamRepository.save(team);
+
+            TeamJoinToken token = team.createJoinToken(leader, LocalDateTime.now(clock));
+            teamJoinTokenStore.save(token);
+            ReflectionTestUtils.setField(team, "endDate", LocalDate.now().minusDays(2));
+
+            Member notMember = member2;
+
+            // when & then
+            assertThat(
+                    mockMvc.post()
+                            .uri("/api/team/join")
+                            .queryParam("token", token.getToken())
+                            .session(withLoginUser(notMember))
+            ).hasStatus(HttpStatus.GONE);
+            assertThat(team.isTeamMember(notMember)).isFalse();
+        }
     }
 }
@@ -9,10 +9,13 @@ import com.feedhanjum.back_end.schedule.service.ScheduleService;
 import com.feedhanjum.back_end.team.controller.dto.TeamCreateRequest;
 import com.feedhanjum.back_end.team.controller.dto.TeamDetailResponse;
 import com.feedhanjum.back_end.team.controller.dto.TeamResponse;
+import com.feedhanjum.back_end.team.controller.dto.TeamSummaryResponse;
 import com.feedhanjum.back_end.team.controller.dto.TeamUpdateRequest;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.service.TeamService;
+import com.feedhanjum.back_end.team.service.TeamSummaryService;
 import com.feedhanjum.back_end.team.service.dto.TeamCreateDto;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
 import com.feedhanjum.back_end.team.service.dto.TeamUpdateDto;
 import com.feedhanjum.back_end.teamplanorchestration.service.TeamPlanOrchestrationService;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +48,9 @@ class TeamControllerTest {
     @Mock
     private TeamPlanOrchestrationService teamPlanOrchestrationService;
 
+    @Mock
+    private TeamSummaryService teamSummaryService;
+
     @InjectMocks
     private TeamController teamController;
 
@@ -80,19 +86,18 @@ class TeamControllerTest {
     void getMyTeams_팀조회_컨트롤러() {
         //given
         Long memberId = 1L;
-        List<FeedbackPreference> feedbackPreferences = List.of(FeedbackPreference.PROGRESSIVE, FeedbackPreference.COMPLEMENTING);
-        Team team = new Team("haha", new Member("haha", "haha@hoho", null, feedbackPreferences), LocalDate.now().plusDays(1),
-                LocalDate.now().plusDays(10), FeedbackType.ANONYMOUS, LocalDate.now());
-        TeamResponse teamResponse = new TeamResponse(team);
-        when(teamService.getMyTeams(memberId)).thenReturn(List.of(team));
+        TeamSummaryDto summary = new TeamSummaryDto(2L, "haha", LocalDate.now().plusDays(1), LocalDate.now().plusDays(10),
+                FeedbackType.ANONYMOUS, memberId, 3, TeamSummaryDto.Role.LEADER);
+        when(teamSummaryService.getMyTeams(memberId)).thenReturn(List.of(summary));
 
         //when
-        ResponseEntity<List<TeamResponse>> response = teamController.getMyTeams(memberId);
+        ResponseEntity<List<TeamSummaryResponse>> response = teamController.getMyTeams(memberId);
 
         //then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
-        assertThat(response.getBody().get(0)).isEqualTo(teamResponse);
+        assertThat(response.getBody().get(0)).isEqualTo(new TeamSummaryResponse(summary));
+        assertThat(response.getBody().get(0).memberCount()).isEqualTo(3);
     }
 
     @Test
@@ -0,0 +1,135 @@
+package com.feedhanjum.back_end.team.service;
+
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
+import com.feedhanjum.back_end.team.infra.InMemoryTeamMembershipCache;
+import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamMembershipServiceTest {
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+    @Mock
+    private TeamRepository teamRepository;
+    @Mock
+    private MemberRepository memberRepository;
+
+    private InMemoryTeamMembershipCache teamMembershipCache;
+    private TeamMembershipService teamMembershipService;
+
+    private final Long teamId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        teamMembershipCache = new InMemoryTeamMembershipCache();
+        teamMembershipService = new TeamMembershipService(teamMembershipCache, teamMemberRepository, teamRepository, memberRepository);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 팀의 멤버는 DB 조회 없이 확인")
+    void test1() {
+        // given
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId)).thenReturn(List.of(10L, 20L, 30L));
+
+        // when
+        boolean first = teamMembershipService.isTeamMember(20L, teamId);
+        boolean second = teamMembershipService.isTeamMember(30L, teamId);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(teamMemberRepository, times(1)).findMemberIdsByTeamId(teamId);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 멤버는 DB에서 다시 읽어 확인하므로 방금 가입한 멤버도 통과")
+    void test2() {
+        // given
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of(10L, 20L));
+        teamMembershipService.isTeamMember(10L, teamId);
+
+        // when
+        boolean joined = teamMembershipService.isTeamMember(20L, teamId);
+
+        // then
+        assertThat(joined).isTrue();
+        verify(teamMemberRepository, times(2)).findMemberIdsByTeamId(teamId);
+    }
+
+    @Test
+    @DisplayName("무효화하면 탈퇴한 멤버는 더 이상 통과하지 못함")
+    void test3() {
+        // given
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId))
+                .thenReturn(List.of(10L, 20L))
+                .thenReturn(List.of(10L));
+        teamMembershipService.isTeamMember(20L, teamId);
+
+        // when
+        teamMembershipService.evict(teamId);
+
+        // then
+        assertThat(teamMembershipService.isTeamMember(20L, teamId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 팀, 사용자 존재 여부에 따라 예외를 구분")
+    void test4() {
+        // given
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId)).thenReturn(List.of(10L));
+        when(teamRepository.findById(teamId)).thenReturn(Optional.of(mock(Team.class)));
+        when(memberRepository.findById(20L)).thenReturn(Optional.of(mock(Member.class)));
+        when(memberRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> teamMembershipService.validateTeamMember(20L, teamId))
+                .isInstanceOf(TeamMembershipNotFoundException.class)
+                .hasMessage("해당 팀에 속해있지 않습니다.");
+        assertThatThrownBy(() -> teamMembershipService.validateTeamMember(99L, teamId))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("해당 사용자를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("멤버 목록을 읽는 도중 무효화되면 읽은 목록을 캐싱하지 않으므로 탈퇴한 멤버가 통과하지 못함")
+    void test5() {
+        // given
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId))
+                .thenAnswer(invocation -> {
+                    // 탈퇴 이전 목록을 읽은 직후 탈퇴가 커밋되어 무효화됨
+                    teamMembershipCache.evict(teamId);
+                    return List.of(10L, 20L);
+                })
+                .thenReturn(List.of(10L));
+        teamMembershipService.isTeamMember(10L, teamId);
+
+        // when
+        boolean leftMember = teamMembershipService.isTeamMember(20L, teamId);
+
+        // then
+        assertThat(leftMember).isFalse();
+        verify(teamMemberRepository, times(2)).findMemberIdsByTeamId(teamId);
+    }
+}
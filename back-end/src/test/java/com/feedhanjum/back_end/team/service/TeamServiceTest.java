@@ -2,16 +2,13 @@ package com.feedhanjum.back_end.team.service;
 
 import com.feedhanjum.back_end.core.event.EventPublisher;
 import com.feedhanjum.back_end.feedback.domain.FeedbackType;
-import com.feedhanjum.back_end.member.domain.FeedbackPreference;
 import com.feedhanjum.back_end.member.domain.Member;
-import com.feedhanjum.back_end.member.domain.ProfileImage;
 import com.feedhanjum.back_end.member.repository.MemberRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleQueryRepository;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.event.TeamMemberLeftEvent;
 import com.feedhanjum.back_end.team.exception.TeamLeaderMustExistException;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
-import com.feedhanjum.back_end.team.repository.TeamQueryRepository;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
 import com.feedhanjum.back_end.team.service.dto.TeamCreateDto;
 import com.feedhanjum.back_end.teamplanorchestration.service.TeamPlanOrchestrationService;
@@ -26,7 +23,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Clock;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 import static com.feedhanjum.back_end.test.util.DomainTestUtils.createMemberWithId;
@@ -47,7 +43,7 @@ class TeamServiceTest {
     private TeamRepository teamRepository;
 
     @Mock
-    private TeamQueryRepository teamQueryRepository;
+    private TeamSummaryService teamSummaryService;
 
     @Mock
     private MemberRepository memberRepository;
@@ -64,26 +60,6 @@ class TeamServiceTest {
     @InjectMocks
     private TeamService teamService;
 
-    @Test
-    @DisplayName("내가 가입한 팀 목록 조회 성공")
-    void getMyTeams_팀조회() {
-        //given
-        Long userId = 1L;
-        when(clock.instant()).thenReturn(LocalDate.of(2023, 1, 1).atStartOfDay(Clock.systemDefaultZone().getZone()).toInstant());
-        when(clock.getZone()).thenReturn(Clock.systemDefaultZone().getZone());
-        List<FeedbackPreference> feedbackPreferences = List.of(FeedbackPreference.PROGRESSIVE, FeedbackPreference.COMPLEMENTING);
-        Member leader = new Member("haha", "haha@hoho", new ProfileImage("blue", "image1"), feedbackPreferences);
-        Team team = new Team("haha", leader, LocalDate.now(clock).plusDays(1), LocalDate.now(clock).plusDays(10), FeedbackType.ANONYMOUS, LocalDate.now(clock));
-        when(teamQueryRepository.findTeamByMemberId(userId)).thenReturn(List.of(team));
-
-        //when
-        List<Team> result = teamService.getMyTeams(userId);
-
-        //then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getId()).isEqualTo(team.getId());
-    }
-
     @Nested
     @DisplayName("팀 생성 테스트")
     class CreateTeam {
@@ -372,4 +348,4 @@ class TeamServiceTest {
     }
 
 
-}
\ No newline at end of file
+}
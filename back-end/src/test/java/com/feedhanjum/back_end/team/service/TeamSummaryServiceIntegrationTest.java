@@ -0,0 +1,96 @@
+package com.feedhanjum.back_end.team.service;
+
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.domain.TeamJoinToken;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.feedhanjum.back_end.test.util.DomainTestUtils.createMemberWithoutId;
+import static com.feedhanjum.back_end.test.util.DomainTestUtils.createTeamWithoutId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 이벤트 발행과 커밋 이후 리스너를 거쳐 팀 요약 캐시가 무효화되는지 확인한다.
+ * 커밋 이후 리스너가 실행되어야 하므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TeamSummaryServiceIntegrationTest {
+    @Autowired
+    private TeamSummaryService teamSummaryService;
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private Member leader;
+    private Member member;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        leader = memberRepository.save(createMemberWithoutId("leader"));
+        member = memberRepository.save(createMemberWithoutId("member"));
+        team = teamRepository.save(createTeamWithoutId("team", leader));
+    }
+
+    @Test
+    @DisplayName("팀에 가입하면 가입한 멤버와 기존 멤버의 캐싱된 팀 목록이 바로 바뀜")
+    void test1() {
+        // given
+        assertThat(teamSummaryService.getMyTeams(leader.getId()))
+                .singleElement()
+                .extracting(TeamSummaryDto::memberCount)
+                .isEqualTo(1L);
+        assertThat(teamSummaryService.getMyTeams(member.getId())).isEmpty();
+        TeamJoinToken token = teamService.createJoinToken(leader.getId(), team.getId());
+
+        // when
+        teamService.joinTeam(member.getId(), token.getToken());
+
+        // then
+        assertThat(teamSummaryService.getMyTeams(leader.getId()))
+                .singleElement()
+                .extracting(TeamSummaryDto::memberCount)
+                .isEqualTo(2L);
+        assertThat(teamSummaryService.getMyTeams(member.getId()))
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.teamId()).isEqualTo(team.getId());
+                    assertThat(summary.role()).isEqualTo(TeamSummaryDto.Role.MEMBER);
+                });
+    }
+
+    @Test
+    @DisplayName("팀에서 탈퇴하면 탈퇴한 멤버의 캐싱된 팀 목록에서 바로 빠짐")
+    void test2() {
+        // given
+        TeamJoinToken token = teamService.createJoinToken(leader.getId(), team.getId());
+        teamService.joinTeam(member.getId(), token.getToken());
+        assertThat(teamSummaryService.getMyTeams(member.getId())).hasSize(1);
+        assertThat(teamSummaryService.getMyTeams(leader.getId()))
+                .singleElement()
+                .extracting(TeamSummaryDto::memberCount)
+                .isEqualTo(2L);
+
+        // when
+        teamService.leaveTeam(member.getId(), team.getId());
+
+        // then
+        assertThat(teamSummaryService.getMyTeams(member.getId())).isEmpty();
+        assertThat(teamSummaryService.getMyTeams(leader.getId()))
+                .singleElement()
+                .extracting(TeamSummaryDto::memberCount)
+                .isEqualTo(1L);
+    }
+}
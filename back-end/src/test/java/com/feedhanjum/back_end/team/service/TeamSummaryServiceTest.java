@@ -0,0 +1,107 @@
+package com.feedhanjum.back_end.team.service;
+
+import com.feedhanjum.back_end.feedback.domain.FeedbackType;
+import com.feedhanjum.back_end.team.infra.InMemoryTeamSummaryCache;
+import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
+import com.feedhanjum.back_end.team.repository.TeamQueryRepository;
+import com.feedhanjum.back_end.team.service.dto.TeamSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamSummaryServiceTest {
+    @Mock
+    private TeamQueryRepository teamQueryRepository;
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    private InMemoryTeamSummaryCache teamSummaryCache;
+    private TeamSummaryService teamSummaryService;
+
+    private final Long teamId = 1L;
+    private final Long memberId = 10L;
+    private final TeamSummaryDto summary = new TeamSummaryDto(teamId, "team", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+            FeedbackType.ANONYMOUS, memberId, 3, TeamSummaryDto.Role.LEADER);
+
+    @BeforeEach
+    void setUp() {
+        teamSummaryCache = new InMemoryTeamSummaryCache();
+        teamSummaryService = new TeamSummaryService(teamSummaryCache, teamQueryRepository, teamMemberRepository);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 멤버의 팀 목록은 DB 조회 없이 반환")
+    void test1() {
+        // given
+        when(teamQueryRepository.findTeamSummariesByMemberId(memberId)).thenReturn(List.of(summary));
+
+        // when
+        List<TeamSummaryDto> first = teamSummaryService.getMyTeams(memberId);
+        List<TeamSummaryDto> second = teamSummaryService.getMyTeams(memberId);
+
+        // then
+        assertThat(first).containsExactly(summary);
+        assertThat(second).containsExactly(summary);
+        verify(teamQueryRepository, times(1)).findTeamSummariesByMemberId(memberId);
+    }
+
+    @Test
+    @DisplayName("팀을 무효화하면 팀의 현재 멤버와 탈퇴한 멤버 모두 다시 조회함")
+    void test2() {
+        // given
+        Long otherMemberId = 20L;
+        Long leftMemberId = 30L;
+        when(teamQueryRepository.findTeamSummariesByMemberId(memberId)).thenReturn(List.of(summary));
+        when(teamQueryRepository.findTeamSummariesByMemberId(otherMemberId)).thenReturn(List.of(summary));
+        when(teamQueryRepository.findTeamSummariesByMemberId(leftMemberId)).thenReturn(List.of(summary)).thenReturn(List.of());
+        when(teamMemberRepository.findMemberIdsByTeamId(teamId)).thenReturn(List.of(memberId, otherMemberId));
+        List.of(memberId, otherMemberId, leftMemberId).forEach(teamSummaryService::getMyTeams);
+
+        // when
+        teamSummaryService.evictTeam(teamId, leftMemberId);
+
+        // then
+        assertThat(teamSummaryService.getMyTeams(leftMemberId)).isEmpty();
+        teamSummaryService.getMyTeams(memberId);
+        teamSummaryService.getMyTeams(otherMemberId);
+        verify(teamQueryRepository, times(2)).findTeamSummariesByMemberId(memberId);
+        verify(teamQueryRepository, times(2)).findTeamSummariesByMemberId(otherMemberId);
+        verify(teamQueryRepository, times(2)).findTeamSummariesByMemberId(leftMemberId);
+    }
+
+    @Test
+    @DisplayName("목록을 읽는 도중 무효화되면 읽은 목록을 캐싱하지 않음")
+    void test3() {
+        // given
+        TeamSummaryDto joinedSummary = new TeamSummaryDto(teamId, "team", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                FeedbackType.ANONYMOUS, memberId, 4, TeamSummaryDto.Role.LEADER);
+        when(teamQueryRepository.findTeamSummariesByMemberId(memberId))
+                .thenAnswer(invocation -> {
+                    // 이전 목록을 읽은 직후 다른 요청의 가입이 커밋되어 무효화됨
+                    teamSummaryCache.evict(List.of(memberId));
+                    return List.of(summary);
+                })
+                .thenReturn(List.of(joinedSummary));
+
+        // when
+        List<TeamSummaryDto> first = teamSummaryService.getMyTeams(memberId);
+        List<TeamSummaryDto> second = teamSummaryService.getMyTeams(memberId);
+
+        // then
+        assertThat(first).containsExactly(summary);
+        assertThat(second).containsExactly(joinedSummary);
+        verify(teamQueryRepository, times(2)).findTeamSummariesByMemberId(memberId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.feedhanjum.back_end.teamplanorchestration.service;
+
+import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.schedule.domain.ScheduleSeries;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleSeriesRequestDto;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static com.feedhanjum.back_end.test.util.DomainTestUtils.createMemberWithoutId;
+import static com.feedhanjum.back_end.test.util.DomainTestUtils.createTeamWithoutId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ScheduleSeriesServiceIntegrationTest {
+    @Autowired
+    private ScheduleSeriesService scheduleSeriesService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    private Member leader;
+    private Team team;
+    private ScheduleSeries series;
+    private LocalDateTime firstStart;
+
+    @BeforeEach
+    void setUp() {
+        leader = memberRepository.save(createMemberWithoutId("leader"));
+        team = teamRepository.save(createTeamWithoutId("team", leader,
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(21), LocalDate.now()));
+        // 시작이 MATERIALIZE_LEAD 이내인 첫 회차는 만들 때 바로 Schedule이 된다
+        firstStart = LocalDateTime.now().plusHours(2).truncatedTo(ChronoUnit.MINUTES);
+        series = scheduleSeriesService.createScheduleSeries(leader.getId(), team.getId(),
+                new ScheduleSeriesRequestDto("weekly", firstStart, firstStart.plusHours(1), 1, firstStart.toLocalDate().plusDays(14)));
+    }
+
+    @Test
+    @DisplayName("이미 일정으로 만들어진 회차는 건너뛸 수 없음")
+    void test1() {
+        // given
+        assertThat(scheduleRepository.findAll())
+                .anySatisfy(schedule -> assertThat(schedule.getStartTime()).isEqualTo(firstStart));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleSeriesService.skipOccurrence(leader.getId(), team.getId(), series.getId(), firstStart.toLocalDate()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(series.getExceptionDates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아직 일정으로 만들지 않은 회차는 건너뛰고 이후 일정으로 만들지 않음")
+    void test2() {
+        // given
+        LocalDateTime secondStart = firstStart.plusWeeks(1);
+
+        // when
+        scheduleSeriesService.skipOccurrence(leader.getId(), team.getId(), series.getId(), secondStart.toLocalDate());
+
+        // then
+        assertThat(series.getExceptionDates()).containsExactly(secondStart.toLocalDate());
+        assertThat(series.isOccurrence(secondStart)).isFalse();
+    }
+}
@@ -1,6 +1,8 @@
 package com.feedhanjum.back_end.teamplanorchestration.service;
 
+import com.feedhanjum.back_end.core.domain.DelayedJob;
 import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.core.service.DelayedJobService;
 import com.feedhanjum.back_end.feedback.domain.FeedbackType;
 import com.feedhanjum.back_end.member.domain.Member;
 import com.feedhanjum.back_end.member.repository.MemberQueryRepository;
@@ -14,12 +16,15 @@ import com.feedhanjum.back_end.schedule.exception.ScheduleIsAlreadyEndException;
 import com.feedhanjum.back_end.schedule.repository.ScheduleMemberRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleQueryRepository;
 import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.schedule.service.ScheduleCalendarService;
+import com.feedhanjum.back_end.schedule.service.ScheduleOverlapService;
 import com.feedhanjum.back_end.schedule.service.dto.ScheduleRequestDto;
 import com.feedhanjum.back_end.team.domain.Team;
 import com.feedhanjum.back_end.team.domain.TeamMember;
 import com.feedhanjum.back_end.team.exception.TeamMembershipNotFoundException;
 import com.feedhanjum.back_end.team.repository.TeamMemberRepository;
 import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.TeamSummaryService;
 import com.feedhanjum.back_end.team.service.dto.TeamUpdateDto;
 import com.feedhanjum.back_end.teamplanorchestration.domain.TeamPlanOrchestrator;
 import jakarta.persistence.EntityNotFoundException;
@@ -28,13 +33,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.*;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -75,6 +80,18 @@ class TeamPlanOrchestrationServiceTest {
     @Mock
     MemberQueryRepository memberQueryRepository;
 
+    @Mock
+    DelayedJobService delayedJobService;
+
+    @Mock
+    ScheduleCalendarService scheduleCalendarService;
+
+    @Mock
+    ScheduleOverlapService scheduleOverlapService;
+
+    @Mock
+    TeamSummaryService teamSummaryService;
+
     TeamPlanOrchestrator teamPlanOrchestrator;
 
     @InjectMocks
@@ -104,7 +121,7 @@ class TeamPlanOrchestrationServiceTest {
             TeamUpdateDto teamUpdateDto = new TeamUpdateDto("haha", startDate, endDate, FeedbackType.IDENTIFIED);
             Team team = createTeamWithId("team", leader, startDate, endDate, LocalDate.now(clock));
 
-            when(teamRepository.findByIdForUpdateExclusiveLock(team.getId())).thenReturn(Optional.of(team));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
             when(memberRepository.findById(leader.getId())).thenReturn(Optional.of(leader));
 
             // when
@@ -129,7 +146,7 @@ class TeamPlanOrchestrationServiceTest {
             Team team = createTeamWithId("team", member);
             TeamUpdateDto teamUpdateDto = new TeamUpdateDto("haha", startDate, endDate, FeedbackType.IDENTIFIED);
 
-            when(teamRepository.findByIdForUpdateExclusiveLock(team.getId())).thenReturn(Optional.of(team));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
             when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
 
             // when, then
@@ -147,7 +164,7 @@ class TeamPlanOrchestrationServiceTest {
             LocalDate endDate = LocalDate.of(2025, 1, 2);
             TeamUpdateDto teamUpdateDto = new TeamUpdateDto("haha", startDate, endDate, FeedbackType.ANONYMOUS);
 
-            when(teamRepository.findByIdForUpdateExclusiveLock(teamId)).thenReturn(Optional.empty());
+            when(teamRepository.findById(teamId)).thenReturn(Optional.empty());
 
             // when, then
             assertThatThrownBy(() -> teamPlanOrchestrationService.updateTeamInfo(memberId, teamId, teamUpdateDto))
@@ -168,7 +185,7 @@ class TeamPlanOrchestrationServiceTest {
             TeamUpdateDto teamUpdateDto = new TeamUpdateDto("hoho", startDate, endDate, FeedbackType.ANONYMOUS);
 
             when(memberRepository.findById(notLeader.getId())).thenReturn(Optional.of(notLeader));
-            when(teamRepository.findByIdForUpdateExclusiveLock(team.getId())).thenReturn(Optional.of(team));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
 
             // when, then
             assertThatThrownBy(() -> teamPlanOrchestrationService.updateTeamInfo(notLeader.getId(), team.getId(), teamUpdateDto))
@@ -188,7 +205,7 @@ class TeamPlanOrchestrationServiceTest {
             TeamUpdateDto teamUpdateDto = new TeamUpdateDto("haha", startDate, endDate, FeedbackType.IDENTIFIED);
             Team team = createTeamWithId("team", leader, startDate, endDate, LocalDate.now(clock));
 
-            when(teamRepository.findByIdForUpdateExclusiveLock(team.getId())).thenReturn(Optional.of(team));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
             when(memberRepository.findById(leader.getId())).thenReturn(Optional.of(leader));
             when(scheduleQueryRepository.findLatestEndTimeByTeamId(team.getId())).thenReturn(Optional.of(LocalDateTime.of(2025, 1, 4, 0, 10, 0)));
 
@@ -210,7 +227,7 @@ class TeamPlanOrchestrationServiceTest {
             TeamUpdateDto teamUpdateDto = new TeamUpdateDto("haha", startDate, endDate, FeedbackType.IDENTIFIED);
             Team team = createTeamWithId("team", leader, startDate, endDate, LocalDate.now(clock));
 
-            when(teamRepository.findByIdForUpdateExclusiveLock(team.getId())).thenReturn(Optional.of(team));
+            when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
             when(memberRepository.findById(leader.getId())).thenReturn(Optional.of(leader));
             when(scheduleQueryRepository.findEarliestStartTimeByTeamId(team.getId())).thenReturn(Optional.of(LocalDateTime.of(2025, 1, 1, 0, 10, 0)));
 
@@ -241,7 +258,7 @@ class TeamPlanOrchestrationServiceTest {
             when(requestDto.todos()).thenReturn(List.of(hehe));
 
             Team team = mock(Team.class);
-            when(teamRepository.findByIdForUpdateSharedLock(teamId)).thenReturn(Optional.of(team));
+            when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
             when(team.getStartDate()).thenReturn(LocalDate.of(2025, 2, 28));
             when(team.getEndDate()).thenReturn(LocalDate.of(2025, 3, 2));
 
@@ -252,9 +269,9 @@ class TeamPlanOrchestrationServiceTest {
             when(teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId))
                     .thenReturn(Optional.of(new TeamMember(team, member)));
 
-            // 중복 일정 없음
-            when(scheduleRepository.findByTeamIdAndStartTime(teamId, startTime))
-                    .thenReturn(Optional.empty());
+            // 겹치는 일정 없음
+            when(scheduleOverlapService.findOverlappingSchedules(teamId, startTime, endTime))
+                    .thenReturn(List.of());
 
             // clock 고정
             when(clock.instant()).thenReturn(Instant.parse("2025-02-28T09:00:00Z"));
@@ -266,18 +283,28 @@ class TeamPlanOrchestrationServiceTest {
             when(scheduleRepository.save(any(Schedule.class))).thenReturn(schedule);
 
             Member memberFromTeam = mock(Member.class);
-            when(memberQueryRepository.findMembersByTeamId(teamId)).thenReturn(Collections.singletonList(memberFromTeam));
+            when(memberFromTeam.getId()).thenReturn(memberId);
+            Member otherMember = mock(Member.class);
+            when(otherMember.getId()).thenReturn(memberId + 1);
+            when(memberQueryRepository.findMembersByTeamId(teamId)).thenReturn(List.of(otherMember, memberFromTeam));
 
-            ScheduleMember scheduleMember = mock(ScheduleMember.class);
-            when(scheduleMemberRepository.findByMemberIdAndScheduleId(memberId, 100L))
-                    .thenReturn(Optional.of(scheduleMember));
+            // 일정을 만드는 동안 팀 기간이 바뀌지 않음
+            when(teamRepository.findByIdAndPeriodContainingForShare(teamId, startTime.toLocalDate(), endTime.toLocalDate())).thenReturn(Optional.of(team));
 
             // when
             teamPlanOrchestrationService.createSchedule(memberId, teamId, requestDto);
 
             // then
-            verify(scheduleMember, times(1)).setTodos(List.of(hehe));
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ScheduleMember>> scheduleMembersCaptor = ArgumentCaptor.forClass(List.class);
+            verify(scheduleMemberRepository, times(1)).saveAll(scheduleMembersCaptor.capture());
+            assertThat(scheduleMembersCaptor.getValue())
+                    .extracting(ScheduleMember::getMember)
+                    .containsExactly(otherMember, memberFromTeam);
+            assertThat(scheduleMembersCaptor.getValue().get(1).getTodos()).containsExactly(hehe);
+            assertThat(scheduleMembersCaptor.getValue().get(0).getTodos()).isEmpty();
             verify(eventPublisher).publishEvent(new ScheduleCreatedEvent(schedule.getId()));
+            verify(delayedJobService).schedule(DelayedJob.JobType.SCHEDULE_END, schedule.getId(), schedule.getEndTime());
         }
 
         @Test
@@ -287,7 +314,7 @@ class TeamPlanOrchestrationServiceTest {
             Long memberId = 1L;
             Long teamId = 1L;
             ScheduleRequestDto requestDto = mock(ScheduleRequestDto.class);
-            when(teamRepository.findByIdForUpdateSharedLock(teamId)).thenReturn(Optional.empty());
+            when(teamRepository.findById(teamId)).thenReturn(Optional.empty());
 
             // when, then
             assertThatThrownBy(() ->
@@ -304,7 +331,7 @@ class TeamPlanOrchestrationServiceTest {
             Long teamId = 1L;
             ScheduleRequestDto requestDto = mock(ScheduleRequestDto.class);
             Team team = mock(Team.class);
-            when(teamRepository.findByIdForUpdateSharedLock(teamId)).thenReturn(Optional.of(team));
+            when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
             when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
 
             // when, then
@@ -322,7 +349,7 @@ class TeamPlanOrchestrationServiceTest {
             Long teamId = 1L;
             ScheduleRequestDto requestDto = mock(ScheduleRequestDto.class);
             Team team = mock(Team.class);
-            when(teamRepository.findByIdForUpdateSharedLock(teamId)).thenReturn(Optional.of(team));
+            when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
             Member member = mock(Member.class);
             when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
             when(teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId))
@@ -343,21 +370,22 @@ class TeamPlanOrchestrationServiceTest {
             Long teamId = 1L;
             ScheduleRequestDto requestDto = mock(ScheduleRequestDto.class);
             when(requestDto.startTime()).thenReturn(LocalDateTime.of(2025, 3, 1, 10, 0));
+            when(requestDto.endTime()).thenReturn(LocalDateTime.of(2025, 3, 1, 12, 0));
             Team team = mock(Team.class);
-            when(teamRepository.findByIdForUpdateSharedLock(teamId)).thenReturn(Optional.of(team));
+            when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
             Member member = mock(Member.class);
             when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
             when(teamMemberRepository.findByMemberIdAndTeamId(memberId, teamId))
                     .thenReturn(Optional.of(new TeamMember(team, member)));
 
-            when(scheduleRepository.findByTeamIdAndStartTime(teamId, LocalDateTime.of(2025, 3, 1, 10, 0)))
-                    .thenReturn(Optional.of(mock(Schedule.class)));
+            when(scheduleOverlapService.findOverlappingSchedules(teamId, LocalDateTime.of(2025, 3, 1, 10, 0), LocalDateTime.of(2025, 3, 1, 12, 0)))
+                    .thenReturn(List.of(mock(Schedule.class)));
 
             // when, then
             assertThatThrownBy(() ->
                     teamPlanOrchestrationService.createSchedule(memberId, teamId, requestDto)
             ).isInstanceOf(ScheduleAlreadyExistException.class)
-                    .hasMessageContaining("이미 같은 시작시간에 일정이 있습니다.");
+                    .hasMessageContaining("이미 겹치는 시간에 일정이 있습니다.");
         }
     }
 
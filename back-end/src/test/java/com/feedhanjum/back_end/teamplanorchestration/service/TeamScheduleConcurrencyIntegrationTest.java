@@ -0,0 +1,204 @@
+package com.feedhanjum.back_end.teamplanorchestration.service;
+
+import com.feedhanjum.back_end.core.event.EventPublisher;
+import com.feedhanjum.back_end.feedback.domain.FeedbackType;
+import com.feedhanjum.back_end.member.domain.Member;
+import com.feedhanjum.back_end.member.repository.MemberRepository;
+import com.feedhanjum.back_end.schedule.domain.Schedule;
+import com.feedhanjum.back_end.schedule.repository.ScheduleRepository;
+import com.feedhanjum.back_end.schedule.service.dto.ScheduleRequestDto;
+import com.feedhanjum.back_end.team.domain.Team;
+import com.feedhanjum.back_end.team.repository.TeamRepository;
+import com.feedhanjum.back_end.team.service.dto.TeamUpdateDto;
+import com.feedhanjum.back_end.test.util.DomainTestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 팀에 일정 생성과 팀 정보 수정이 동시에 몰릴 때, 팀 행을 잠그지 않아도 팀 기간 규칙이 지켜지는지 확인한다.
+ * 테스트 프로필의 H2에서 실행되므로 H2의 행 잠금 동작만 검증한다.
+ * 운영 DB인 MySQL의 FOR SHARE 잠금과 InnoDB의 넥스트 키 락(범위 잠금) 동작은 이 테스트로 확인되지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TeamScheduleConcurrencyIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(TeamScheduleConcurrencyIntegrationTest.class);
+    private static final int THREAD_COUNT = 8;
+    private static final int SCHEDULES_PER_THREAD = 25;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private TeamPlanOrchestrationService teamPlanOrchestrationService;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    private Member leader;
+    private List<Member> members;
+    private Team team;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        leader = memberRepository.save(DomainTestUtils.createMemberWithoutId("leader"));
+        members = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            members.add(memberRepository.save(DomainTestUtils.createMemberWithoutId("member" + i)));
+        }
+        Team newTeam = DomainTestUtils.createTeamWithoutId("team", leader, today, today.plusDays(60), today);
+        members.forEach(newTeam::join);
+        team = teamRepository.save(newTeam);
+    }
+
+    @Test
+    @DisplayName("여러 멤버가 같은 팀에 동시에 일정을 만들어도 모두 생성됨")
+    void test1() throws Exception {
+        // given
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            Member member = members.get(thread);
+            int slot = thread;
+            tasks.add(() -> {
+                for (int i = 0; i < SCHEDULES_PER_THREAD; i++) {
+                    // 스레드마다 다른 시간대를 써서 겹치지 않게 한다
+                    LocalDateTime startTime = today.plusDays(1 + i).atTime(slot * 2, 0);
+                    teamPlanOrchestrationService.createSchedule(member.getId(), team.getId(),
+                            new ScheduleRequestDto("schedule", startTime, startTime.plusHours(1), List.of()));
+                }
+                return null;
+            });
+        }
+
+        // when
+        long startedAt = System.nanoTime();
+        List<Throwable> failures = runConcurrently(tasks);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        int total = THREAD_COUNT * SCHEDULES_PER_THREAD;
+        log.info("Created {} schedules with {} threads in {} ms ({} schedules/s)",
+                total, THREAD_COUNT, elapsedMillis, total * 1000L / Math.max(elapsedMillis, 1));
+        assertThat(failures).isEmpty();
+        assertThat(scheduleRepository.findAllByTeam_IdAndEndTimeGreaterThanEqual(team.getId(), today.atStartOfDay()))
+                .hasSize(total);
+    }
+
+    @Test
+    @DisplayName("일정 생성 중에 팀 기간을 줄여도 팀 기간을 벗어난 일정이 남지 않음")
+    void test2() throws Exception {
+        // given
+        LocalDate shrunkEndDate = today.plusDays(10);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < THREAD_COUNT - 1; thread++) {
+            Member member = members.get(thread);
+            int slot = thread;
+            tasks.add(() -> {
+                for (int i = 0; i < 20; i++) {
+                    LocalDateTime startTime = today.plusDays(1 + i).atTime(slot * 2, 0);
+                    try {
+                        teamPlanOrchestrationService.createSchedule(member.getId(), team.getId(),
+                                new ScheduleRequestDto("schedule", startTime, startTime.plusHours(1), List.of()));
+                    } catch (IllegalArgumentException e) {
+                        // 팀 기간이 줄어든 뒤의 요청은 거절된다
+                    }
+                }
+                return null;
+            });
+        }
+        tasks.add(() -> {
+            try {
+                teamPlanOrchestrationService.updateTeamInfo(leader.getId(), team.getId(),
+                        new TeamUpdateDto("team", today, shrunkEndDate, FeedbackType.IDENTIFIED));
+            } catch (IllegalArgumentException e) {
+                // 이미 줄일 기간 밖에 일정이 만들어졌으면 거절된다
+            }
+            return null;
+        });
+
+        // when
+        List<Throwable> failures = runConcurrently(tasks);
+
+        // then
+        assertThat(failures).isEmpty();
+        Team updatedTeam = teamRepository.findById(team.getId()).orElseThrow();
+        LocalDateTime periodEnd = updatedTeam.getEndDate().plusDays(1).atStartOfDay();
+        assertThat(scheduleRepository.findAllByTeam_IdAndEndTimeGreaterThanEqual(team.getId(), today.atStartOfDay()))
+                .allSatisfy(schedule -> assertThat(schedule.getEndTime()).isBeforeOrEqualTo(periodEnd));
+    }
+
+    @Test
+    @DisplayName("팀 정보를 동시에 수정하면 충돌한 요청은 다시 실행되어 모두 반영됨")
+    void test3() throws Exception {
+        // given
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            String name = "team" + i;
+            tasks.add(() -> {
+                teamPlanOrchestrationService.updateTeamInfo(leader.getId(), team.getId(),
+                        new TeamUpdateDto(name, today, today.plusDays(60), FeedbackType.IDENTIFIED));
+                return null;
+            });
+        }
+
+        // when
+        List<Throwable> failures = runConcurrently(tasks);
+
+        // then
+        assertThat(failures).isEmpty();
+        Team updatedTeam = teamRepository.findById(team.getId()).orElseThrow();
+        assertThat(updatedTeam.getVersion()).isEqualTo(team.getVersion() + 2);
+        assertThat(updatedTeam.getName()).isIn("team0", "team1");
+    }
+
+    private List<Throwable> runConcurrently(List<Callable<Void>> tasks) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch ready = new CountDownLatch(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.call();
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                failures.add(e.getCause() == null ? e : e.getCause());
+            }
+        }
+        executorService.shutdown();
+        return failures;
+    }
+}
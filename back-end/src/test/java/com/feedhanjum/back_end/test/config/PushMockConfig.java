@@ -1,7 +1,7 @@
 package com.feedhanjum.back_end.test.config;
 
 import com.feedhanjum.back_end.notification.config.WebPushProperty;
-import nl.martijndwars.webpush.PushAsyncService;
+import com.feedhanjum.back_end.notification.infra.WebPushSender;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,7 +16,7 @@ public class PushMockConfig {
     }
 
     @Bean
-    public PushAsyncService pushAsyncService() {
+    public WebPushSender webPushSender() {
         return mock();
     }
 }
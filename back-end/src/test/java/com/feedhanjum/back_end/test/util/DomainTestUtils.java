@@ -56,10 +56,10 @@ public class DomainTestUtils {
         return scheduleMember;
     }
 
-    public static RegularFeedbackRequest createRegularFeedbackRequestWithId(Member sender, ScheduleMember receiver) {
-        RegularFeedbackRequest request = new RegularFeedbackRequest(LocalDateTime.of(2022, 1, 1, 0, 0), receiver, sender);
-        ReflectionTestUtils.setField(request, "id", nextId.getAndIncrement());
-        return request;
+    public static RegularFeedbackRequestSet createRegularFeedbackRequestSetWithId(ScheduleMember receiver, int position, int memberCount) {
+        RegularFeedbackRequestSet requestSet = RegularFeedbackRequestSet.ofAllExcept(LocalDateTime.of(2022, 1, 1, 0, 0), receiver, position, memberCount);
+        ReflectionTestUtils.setField(requestSet, "id", nextId.getAndIncrement());
+        return requestSet;
     }
 
     public static Feedback createFeedbackWithId(Member sender, Member receiver, Team team, FeedbackType feedbackType) {